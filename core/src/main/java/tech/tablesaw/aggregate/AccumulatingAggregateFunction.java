@@ -0,0 +1,28 @@
+package tech.tablesaw.aggregate;
+
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.columns.Column;
+
+/**
+ * A numeric aggregate function that is defined by its accumulator, and summarizes a column by giving every value to a
+ * new accumulator
+ */
+abstract class AccumulatingAggregateFunction extends NumericAggregateFunction {
+
+    AccumulatingAggregateFunction(String name) {
+        super(name);
+    }
+
+    @Override
+    public abstract Accumulator newAccumulator();
+
+    @Override
+    public double summarize(Column column) {
+        Accumulator accumulator = newAccumulator();
+        NumberColumn numbers = (NumberColumn) column;
+        for (int i = 0; i < numbers.size(); i++) {
+            accumulator.accept(numbers.get(i));
+        }
+        return accumulator.result();
+    }
+}
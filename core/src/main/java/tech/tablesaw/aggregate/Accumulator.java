@@ -0,0 +1,28 @@
+package tech.tablesaw.aggregate;
+
+/**
+ * Computes an aggregate function one value at a time, so that it can be applied to any number of groups in a single
+ * pass over a numeric column, without copying the values of each group into a column of its own.
+ * <p>
+ * A new accumulator is obtained from {@link AggregateFunction#newAccumulator()}, is given the values of its group in
+ * row order, and then returns the function's result. Accumulators for consecutive parts of the same group can be
+ * merged, so the parts can be computed independently
+ */
+public interface Accumulator {
+
+    /**
+     * Adds the next value, which is {@link tech.tablesaw.api.NumberColumn#MISSING_VALUE} when the value is missing
+     */
+    void accept(double value);
+
+    /**
+     * Adds all the values given to the other accumulator, which must have been created by the same function, and
+     * whose values come after the ones given to this accumulator
+     */
+    void merge(Accumulator other);
+
+    /**
+     * Returns the result of the function over all the values given so far
+     */
+    double result();
+}
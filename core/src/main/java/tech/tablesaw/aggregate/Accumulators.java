@@ -0,0 +1,286 @@
+package tech.tablesaw.aggregate;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.NumberColumn;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Accumulators for the aggregate functions in {@link AggregateFunctions}. Unless noted otherwise, they skip missing
+ * values, and their result is missing when they were given no other values
+ */
+final class Accumulators {
+
+    // Don't instantiate
+    private Accumulators() {}
+
+    /**
+     * Returns an accumulator that maps each value and combines the mapped values with the given reducer, starting from
+     * its identity. The result is computed from the reduced value and the number of values by the finisher
+     */
+    static Accumulator reducing(DoubleUnaryOperator mapper, DoubleBinaryOperator reducer, double identity,
+                                Finisher finisher) {
+        return new Reducing(mapper, reducer, identity, finisher);
+    }
+
+    /**
+     * Returns an accumulator for the difference between the largest and smallest values
+     */
+    static Accumulator range() {
+        return new Range();
+    }
+
+    /**
+     * Returns an accumulator for a function of the count, mean and sum of squared deviations of the values, which
+     * are updated with Welford's method to avoid the loss of precision of the naive sum of squares
+     */
+    static Accumulator moments(MomentsFinisher finisher) {
+        return new Moments(finisher);
+    }
+
+    /**
+     * Returns an accumulator for a function of the numbers of missing and non-missing values
+     */
+    static Accumulator counting(CountsFinisher finisher) {
+        return new Counts(finisher);
+    }
+
+    /**
+     * Returns an accumulator for a function of the first and last values, including missing ones, and the total
+     * number of values
+     */
+    static Accumulator ends(EndsFinisher finisher) {
+        return new Ends(finisher);
+    }
+
+    /**
+     * Returns an accumulator for a function that can't be computed incrementally, which collects all the values it is
+     * given and applies the function to them as a column. Merging appends the other accumulator's values
+     */
+    static Accumulator collecting(AggregateFunction function) {
+        return new Collecting(function);
+    }
+
+    @FunctionalInterface
+    interface Finisher {
+        double finish(double reduced, long count);
+    }
+
+    @FunctionalInterface
+    interface MomentsFinisher {
+        double finish(long count, double mean, double sumOfSquaredDeviations);
+    }
+
+    @FunctionalInterface
+    interface CountsFinisher {
+        double finish(long nonMissing, long missing);
+    }
+
+    @FunctionalInterface
+    interface EndsFinisher {
+        double finish(double first, double last, long count);
+    }
+
+    private static final class Collecting implements Accumulator {
+
+        private final AggregateFunction function;
+        private final DoubleArrayList values = new DoubleArrayList();
+
+        private Collecting(AggregateFunction function) {
+            this.function = function;
+        }
+
+        @Override
+        public void accept(double value) {
+            values.add(value);
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            values.addAll(((Collecting) other).values);
+        }
+
+        @Override
+        public double result() {
+            return function.summarize(DoubleColumn.create(function.functionName(), values.toDoubleArray()));
+        }
+    }
+
+    private static final class Reducing implements Accumulator {
+
+        private final DoubleUnaryOperator mapper;
+        private final DoubleBinaryOperator reducer;
+        private final Finisher finisher;
+        private double value;
+        private long count;
+
+        private Reducing(DoubleUnaryOperator mapper, DoubleBinaryOperator reducer, double identity, Finisher finisher) {
+            this.mapper = mapper;
+            this.reducer = reducer;
+            this.finisher = finisher;
+            this.value = identity;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (!NumberColumn.valueIsMissing(value)) {
+                this.value = reducer.applyAsDouble(this.value, mapper.applyAsDouble(value));
+                count++;
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            Reducing that = (Reducing) other;
+            value = reducer.applyAsDouble(value, that.value);
+            count += that.count;
+        }
+
+        @Override
+        public double result() {
+            return count == 0 ? NumberColumn.MISSING_VALUE : finisher.finish(value, count);
+        }
+    }
+
+    private static final class Range implements Accumulator {
+
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private long count;
+
+        @Override
+        public void accept(double value) {
+            if (!NumberColumn.valueIsMissing(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                count++;
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            Range that = (Range) other;
+            min = Math.min(min, that.min);
+            max = Math.max(max, that.max);
+            count += that.count;
+        }
+
+        @Override
+        public double result() {
+            return count == 0 ? NumberColumn.MISSING_VALUE : max - min;
+        }
+    }
+
+    private static final class Moments implements Accumulator {
+
+        private final MomentsFinisher finisher;
+        private long count;
+        private double mean;
+        private double sumOfSquaredDeviations;
+
+        private Moments(MomentsFinisher finisher) {
+            this.finisher = finisher;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (!NumberColumn.valueIsMissing(value)) {
+                count++;
+                double delta = value - mean;
+                mean += delta / count;
+                sumOfSquaredDeviations += delta * (value - mean);
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            Moments that = (Moments) other;
+            if (that.count == 0) {
+                return;
+            }
+            long total = count + that.count;
+            double delta = that.mean - mean;
+            sumOfSquaredDeviations += that.sumOfSquaredDeviations + delta * delta * count * that.count / total;
+            mean += delta * that.count / total;
+            count = total;
+        }
+
+        @Override
+        public double result() {
+            return count == 0 ? NumberColumn.MISSING_VALUE : finisher.finish(count, mean, sumOfSquaredDeviations);
+        }
+    }
+
+    private static final class Counts implements Accumulator {
+
+        private final CountsFinisher finisher;
+        private long nonMissing;
+        private long missing;
+
+        private Counts(CountsFinisher finisher) {
+            this.finisher = finisher;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (NumberColumn.valueIsMissing(value)) {
+                missing++;
+            } else {
+                nonMissing++;
+            }
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            Counts that = (Counts) other;
+            nonMissing += that.nonMissing;
+            missing += that.missing;
+        }
+
+        @Override
+        public double result() {
+            return finisher.finish(nonMissing, missing);
+        }
+    }
+
+    private static final class Ends implements Accumulator {
+
+        private final EndsFinisher finisher;
+        private double first = NumberColumn.MISSING_VALUE;
+        private double last = NumberColumn.MISSING_VALUE;
+        private long count;
+
+        private Ends(EndsFinisher finisher) {
+            this.finisher = finisher;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (count == 0) {
+                first = value;
+            }
+            last = value;
+            count++;
+        }
+
+        @Override
+        public void merge(Accumulator other) {
+            Ends that = (Ends) other;
+            if (that.count == 0) {
+                return;
+            }
+            if (count == 0) {
+                first = that.first;
+            }
+            last = that.last;
+            count += that.count;
+        }
+
+        @Override
+        public double result() {
+            return finisher.finish(first, last, count);
+        }
+    }
+}
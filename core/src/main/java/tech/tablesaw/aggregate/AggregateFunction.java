@@ -16,6 +16,14 @@ public abstract class AggregateFunction {
 
     abstract public double summarize(Column column);
 
+    /**
+     * Returns a new accumulator that computes this function over the values of a numeric column one value at a time,
+     * or null if this function can only be computed from a whole column
+     */
+    public Accumulator newAccumulator() {
+        return null;
+    }
+
     public String functionName() {
         return name;
     }
@@ -1,7 +1,6 @@
 package tech.tablesaw.aggregate;
 
 import org.apache.commons.math3.stat.StatUtils;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.moment.Kurtosis;
 import org.apache.commons.math3.stat.descriptive.moment.Skewness;
 import tech.tablesaw.api.BooleanColumn;
@@ -42,44 +41,45 @@ public class AggregateFunctions {
     /**
      * A function that returns the first item
      */
-    public static NumericAggregateFunction first = new NumericAggregateFunction("First") {
+    public static NumericAggregateFunction first = new AccumulatingAggregateFunction("First") {
 
         @Override
-        public double summarize(Column column) {
-            return column.isEmpty() ? NumberColumn.MISSING_VALUE : column.getDouble(0);
+        public Accumulator newAccumulator() {
+            return Accumulators.ends((first, last, count) -> first);
         }
     };
 
     /**
      * A function that returns the last item
      */
-    public static NumericAggregateFunction last = new NumericAggregateFunction("Last") {
+    public static NumericAggregateFunction last = new AccumulatingAggregateFunction("Last") {
 
         @Override
-        public double summarize(Column column) {
-            return column.isEmpty() ? NumberColumn.MISSING_VALUE : column.getDouble(column.size() - 1);
+        public Accumulator newAccumulator() {
+            return Accumulators.ends((first, last, count) -> last);
         }
     };
 
     /**
      * A function that returns the difference between the last and first items
      */
-    public static NumericAggregateFunction change = new NumericAggregateFunction("Change") {
+    public static NumericAggregateFunction change = new AccumulatingAggregateFunction("Change") {
 
         @Override
-        public double summarize(Column column) {
-            return column.size() < 2 ? NumberColumn.MISSING_VALUE : column.getDouble(column.size() - 1) - column.getDouble(0);
+        public Accumulator newAccumulator() {
+            return Accumulators.ends((first, last, count) -> count < 2 ? NumberColumn.MISSING_VALUE : last - first);
         }
     };
 
     /**
      * A function that returns the difference between the last and first items
      */
-    public static NumericAggregateFunction pctChange = new NumericAggregateFunction("Percent Change") {
+    public static NumericAggregateFunction pctChange = new AccumulatingAggregateFunction("Percent Change") {
 
         @Override
-        public double summarize(Column column) {
-            return column.size() < 2 ? NumberColumn.MISSING_VALUE : (column.getDouble(column.size() - 1) - column.getDouble(0)) / column.getDouble(0);
+        public Accumulator newAccumulator() {
+            return Accumulators.ends((first, last, count) ->
+                    count < 2 ? NumberColumn.MISSING_VALUE : (last - first) / first);
         }
     };    
  
@@ -93,6 +93,11 @@ public class AggregateFunctions {
             return column.size() - column.countMissing();
         }
 
+        @Override
+        public Accumulator newAccumulator() {
+            return Accumulators.counting((nonMissing, missing) -> nonMissing);
+        }
+
         @Override
         public boolean isCompatibleWith(ColumnType type) {
             return true;
@@ -114,6 +119,11 @@ public class AggregateFunctions {
             return column.countMissing();
         }
 
+        @Override
+        public Accumulator newAccumulator() {
+            return Accumulators.counting((nonMissing, missing) -> missing);
+        }
+
         @Override
         public boolean isCompatibleWith(ColumnType type) {
             return true;
@@ -139,22 +149,22 @@ public class AggregateFunctions {
     /**
      * A function that calculates the mean of the values in the column param
      */
-    public static final NumericAggregateFunction mean = new NumericAggregateFunction("Mean") {
+    public static final NumericAggregateFunction mean = new AccumulatingAggregateFunction("Mean") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.mean(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(x -> x, Double::sum, 0, (sum, count) -> sum / count);
         }
     };
 
     /**
      * A function that calculates the sum of the values in the column param
      */
-    public static final NumericAggregateFunction sum = new NumericAggregateFunction("Sum") {
+    public static final NumericAggregateFunction sum = new AccumulatingAggregateFunction("Sum") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.sum(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(x -> x, Double::sum, 0, (sum, count) -> sum);
         }
     };
 
@@ -172,6 +182,11 @@ public class AggregateFunctions {
             return column.size();
         }
 
+        @Override
+        public Accumulator newAccumulator() {
+            return Accumulators.counting((nonMissing, missing) -> nonMissing + missing);
+        }
+
         @Override
         public boolean isCompatibleWith(ColumnType type) {
             return false;
@@ -218,63 +233,62 @@ public class AggregateFunctions {
         }
     };
 
-    public static final NumericAggregateFunction range = new NumericAggregateFunction("Range") {
+    public static final NumericAggregateFunction range = new AccumulatingAggregateFunction("Range") {
 
         @Override
-        public double summarize(Column column) {
-            double[] data = removeMissing((NumberColumn) column);
-            return StatUtils.max(data) - StatUtils.min(data);
+        public Accumulator newAccumulator() {
+            return Accumulators.range();
         }
     };
 
-    public static final NumericAggregateFunction min = new NumericAggregateFunction("Min") {
+    public static final NumericAggregateFunction min = new AccumulatingAggregateFunction("Min") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.min(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(x -> x, Math::min, Double.POSITIVE_INFINITY, (min, count) -> min);
         }
     };
 
-    public static final NumericAggregateFunction max = new NumericAggregateFunction("Max") {
+    public static final NumericAggregateFunction max = new AccumulatingAggregateFunction("Max") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.max(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(x -> x, Math::max, Double.NEGATIVE_INFINITY, (max, count) -> max);
         }
     };
 
-    public static final NumericAggregateFunction product = new NumericAggregateFunction("Product") {
+    public static final NumericAggregateFunction product = new AccumulatingAggregateFunction("Product") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.product(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(x -> x, (a, b) -> a * b, 1, (product, count) -> product);
         }
     };
 
-    public static final NumericAggregateFunction geometricMean = new NumericAggregateFunction("Geometric Mean") {
+    public static final NumericAggregateFunction geometricMean = new AccumulatingAggregateFunction("Geometric Mean") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.geometricMean(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(Math::log, Double::sum, 0, (sumOfLogs, count) -> Math.exp(sumOfLogs / count));
         }
     };
 
-    public static final NumericAggregateFunction populationVariance = new NumericAggregateFunction("Population Variance") {
+    public static final NumericAggregateFunction populationVariance = new AccumulatingAggregateFunction("Population Variance") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.populationVariance(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.moments((count, mean, squares) -> squares / count);
         }
     };
 
     /**
      * Returns the quadratic mean, aka, the root-mean-square
      */
-    public static final NumericAggregateFunction quadraticMean = new NumericAggregateFunction("Quadratic Mean") {
+    public static final NumericAggregateFunction quadraticMean = new AccumulatingAggregateFunction("Quadratic Mean") {
 
         @Override
-        public double summarize(Column column) {
-            return new DescriptiveStatistics(removeMissing((NumberColumn) column)).getQuadraticMean();
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(x -> x * x, Double::sum, 0, (sumSq, count) -> Math.sqrt(sumSq / count));
         }
     };
 
@@ -296,7 +310,7 @@ public class AggregateFunctions {
         }
     };
 
-    public static final NumericAggregateFunction sumOfSquares = new NumericAggregateFunction("Sum of Squares") {
+    public static final NumericAggregateFunction sumOfSquares = new AccumulatingAggregateFunction("Sum of Squares") {
 
         @Override
         public String functionName() {
@@ -304,33 +318,32 @@ public class AggregateFunctions {
         }
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.sumSq(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(x -> x * x, Double::sum, 0, (sumSq, count) -> sumSq);
         }
     };
 
-    public static final NumericAggregateFunction sumOfLogs = new NumericAggregateFunction("Sum of Logs") {
+    public static final NumericAggregateFunction sumOfLogs = new AccumulatingAggregateFunction("Sum of Logs") {
 
         @Override
-        public double summarize(Column column) {
-            return StatUtils.sumLog(removeMissing((NumberColumn) column));
+        public Accumulator newAccumulator() {
+            return Accumulators.reducing(Math::log, Double::sum, 0, (sumOfLogs, count) -> sumOfLogs);
         }
     };
 
-    public static final NumericAggregateFunction variance = new NumericAggregateFunction("Variance") {
+    public static final NumericAggregateFunction variance = new AccumulatingAggregateFunction("Variance") {
 
         @Override
-        public double summarize(Column column) {
-            double[] values = removeMissing((NumberColumn) column);
-            return StatUtils.variance(values);
+        public Accumulator newAccumulator() {
+            return Accumulators.moments((count, mean, squares) -> count == 1 ? 0 : squares / (count - 1));
         }
     };
 
-    public static final NumericAggregateFunction stdDev = new NumericAggregateFunction("Std. Deviation") {
+    public static final NumericAggregateFunction stdDev = new AccumulatingAggregateFunction("Std. Deviation") {
 
         @Override
-        public double summarize(Column column) {
-            return Math.sqrt(StatUtils.variance(removeMissing((NumberColumn) column)));
+        public Accumulator newAccumulator() {
+            return Accumulators.moments((count, mean, squares) -> count == 1 ? 0 : Math.sqrt(squares / (count - 1)));
         }
     };
 
@@ -0,0 +1,187 @@
+package tech.tablesaw.aggregate;
+
+import com.google.common.base.Preconditions;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.columns.Column;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Applies any number of aggregate functions to groups of rows of a numeric column, in a single pass over the column's
+ * data. Each group's values are fed to one accumulator per function, so no group is ever copied into a column.
+ * Functions that don't provide an accumulator are computed exactly, from the values of each group collected during the
+ * same pass.
+ * <p>
+ * With a parallelism greater than one, the rows are split into ranges that are aggregated by separate tasks in a
+ * {@link ForkJoinPool}, each into its own partial accumulators. The partial results are then merged in row order, so
+ * the results are the same on every run with the same parallelism
+ */
+public final class GroupAggregator {
+
+    // ranges with fewer rows than this are aggregated by a single task
+    private static final int MIN_ROWS_PER_TASK = 1 << 16;
+
+    // Don't instantiate
+    private GroupAggregator() {}
+
+    /**
+     * Returns true if functions can be applied to the column by this class, which requires a numeric column
+     */
+    public static boolean canAggregate(Column column) {
+        return column instanceof NumberColumn;
+    }
+
+    /**
+     * Returns the result of each function over all the values in the column, indexed by function
+     */
+    public static double[] aggregate(NumberColumn column, List<AggregateFunction> functions) {
+        return aggregate(column, functions, 1);
+    }
+
+    /**
+     * Returns the result of each function over all the values in the column, indexed by function
+     *
+     * @param parallelism the number of threads to use
+     */
+    public static double[] aggregate(NumberColumn column, List<AggregateFunction> functions, int parallelism) {
+        double[][] results = aggregate(column, null, 1, functions, parallelism);
+        double[] result = new double[functions.size()];
+        for (int f = 0; f < result.length; f++) {
+            result[f] = results[f][0];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the result of each function over the values in each group, indexed by function and then by group
+     *
+     * @param groupOfRow the group of each row in the column, or -1 for a row that belongs to no group
+     * @param groupCount the number of groups
+     */
+    public static double[][] aggregate(NumberColumn column, int[] groupOfRow, int groupCount,
+                                       List<AggregateFunction> functions) {
+        return aggregate(column, groupOfRow, groupCount, functions, 1);
+    }
+
+    /**
+     * Returns the result of each function over the values in each group, indexed by function and then by group
+     *
+     * @param groupOfRow  the group of each row in the column, or -1 for a row that belongs to no group. If null, all
+     *                    rows belong to group 0
+     * @param groupCount  the number of groups
+     * @param parallelism the number of threads to use
+     */
+    public static double[][] aggregate(NumberColumn column, int[] groupOfRow, int groupCount,
+                                       List<AggregateFunction> functions, int parallelism) {
+        Preconditions.checkArgument(parallelism > 0, "The parallelism must be positive, but was %s", parallelism);
+        AggregateFunction[] functionArray = functions.toArray(new AggregateFunction[0]);
+        Accumulator[][] accumulators;
+        if (parallelism == 1 || column.size() <= MIN_ROWS_PER_TASK) {
+            accumulators = new RangeTask(column, groupOfRow, groupCount, functionArray, 0, column.size(),
+                    Integer.MAX_VALUE).compute();
+        } else {
+            // a few tasks per thread, so that threads that finish early can steal work
+            int rowsPerTask = Math.max(MIN_ROWS_PER_TASK, column.size() / (parallelism * 4) + 1);
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                accumulators = pool.invoke(
+                        new RangeTask(column, groupOfRow, groupCount, functionArray, 0, column.size(), rowsPerTask));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        double[][] results = new double[functionArray.length][groupCount];
+        for (int group = 0; group < groupCount; group++) {
+            if (accumulators[group] == null) {
+                accumulators[group] = newAccumulators(functionArray);
+            }
+            for (int f = 0; f < functionArray.length; f++) {
+                results[f][group] = accumulators[group][f].result();
+            }
+        }
+        return results;
+    }
+
+    private static Accumulator[] newAccumulators(AggregateFunction[] functions) {
+        Accumulator[] accumulators = new Accumulator[functions.length];
+        for (int f = 0; f < functions.length; f++) {
+            Accumulator accumulator = functions[f].newAccumulator();
+            accumulators[f] = accumulator == null ? Accumulators.collecting(functions[f]) : accumulator;
+        }
+        return accumulators;
+    }
+
+    /**
+     * Aggregates a range of rows into partial accumulators, indexed by group and then by function. A group with no rows
+     * in the range has no accumulators
+     */
+    private static final class RangeTask extends RecursiveTask<Accumulator[][]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final NumberColumn column;
+        private final int[] groupOfRow;
+        private final int groupCount;
+        private final AggregateFunction[] functions;
+        private final int from;
+        private final int to;
+        private final int rowsPerTask;
+
+        private RangeTask(NumberColumn column, int[] groupOfRow, int groupCount, AggregateFunction[] functions,
+                          int from, int to, int rowsPerTask) {
+            this.column = column;
+            this.groupOfRow = groupOfRow;
+            this.groupCount = groupCount;
+            this.functions = functions;
+            this.from = from;
+            this.to = to;
+            this.rowsPerTask = rowsPerTask;
+        }
+
+        @Override
+        protected Accumulator[][] compute() {
+            if (to - from <= rowsPerTask) {
+                return aggregateRange();
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask head = new RangeTask(column, groupOfRow, groupCount, functions, from, middle, rowsPerTask);
+            RangeTask tail = new RangeTask(column, groupOfRow, groupCount, functions, middle, to, rowsPerTask);
+            tail.fork();
+            Accumulator[][] merged = head.compute();
+            Accumulator[][] tailAccumulators = tail.join();
+            for (int group = 0; group < groupCount; group++) {
+                if (merged[group] == null) {
+                    merged[group] = tailAccumulators[group];
+                } else if (tailAccumulators[group] != null) {
+                    for (int f = 0; f < functions.length; f++) {
+                        merged[group][f].merge(tailAccumulators[group][f]);
+                    }
+                }
+            }
+            return merged;
+        }
+
+        private Accumulator[][] aggregateRange() {
+            Accumulator[][] accumulators = new Accumulator[groupCount][];
+            for (int row = from; row < to; row++) {
+                int group = groupOfRow == null ? 0 : groupOfRow[row];
+                if (group < 0) {
+                    continue;
+                }
+                Accumulator[] groupAccumulators = accumulators[group];
+                if (groupAccumulators == null) {
+                    groupAccumulators = newAccumulators(functions);
+                    accumulators[group] = groupAccumulators;
+                }
+                double value = column.get(row);
+                for (Accumulator accumulator : groupAccumulators) {
+                    accumulator.accept(value);
+                }
+            }
+            return accumulators;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import com.google.common.collect.ArrayListMultimap;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.NumberColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.table.SelectionTableSliceGroup;
@@ -43,6 +44,7 @@ public class Summarizer {
     private final Table temp;
     private final List<String> summarizedColumns = new ArrayList<>();
     private final AggregateFunction[] reductions;
+    private int parallelism = 1;
 
     /**
      * Returns an object capable of summarizing the given column in the given sourceTable,
@@ -129,6 +131,16 @@ public class Summarizer {
         this.reductions = functions;
     }
 
+    /**
+     * Sets the number of threads used to summarize numeric columns, which is 1 by default. Groups appear in the same
+     * order in the result regardless of the parallelism
+     */
+    public Summarizer parallelism(int parallelism) {
+        Preconditions.checkArgument(parallelism > 0, "The parallelism must be positive, but was %s", parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
     public Table by(String... columnNames) {
         for (String columnName : columnNames) {
             if (tableDoesNotContain(columnName, temp)) {
@@ -160,18 +172,24 @@ public class Summarizer {
     }
 
     /**
-     * Returns the result of applying to the functions to all the values in the appropriate column
+     * Returns the result of applying to the functions to all the values in the appropriate column.
+     * All the functions are computed in a single pass over each numeric column
      */
     public Table apply() {
         List<Table> results = new ArrayList<>();
         ArrayListMultimap<String, AggregateFunction> reductionMultimap = getAggregateFunctionMultimap();
 
-        for (String name : reductionMultimap.keys()) {
+        for (String name : reductionMultimap.keySet()) {
             List<AggregateFunction> reductions = reductionMultimap.get(name);
+            Column column = temp.column(name);
+            double[] aggregated = GroupAggregator.canAggregate(column)
+                    ? GroupAggregator.aggregate((NumberColumn) column, reductions, parallelism)
+                    : null;
+
             Table table = TableSliceGroup.summaryTableName(temp);
-            for (AggregateFunction function : reductions) {
-                Column column = temp.column(name);
-                double result = function.summarize(column);
+            for (int f = 0; f < reductions.size(); f++) {
+                AggregateFunction function = reductions.get(f);
+                double result = aggregated != null ? aggregated[f] : function.summarize(column);
                 Column newColumn = DoubleColumn.create(TableSliceGroup.aggregateColumnName(name, function.functionName()));
                 ((DoubleColumn) newColumn).append(result);
                 table.addColumns(newColumn);
@@ -191,9 +209,9 @@ public class Summarizer {
 
         ArrayListMultimap<String, AggregateFunction> reductionMultimap = getAggregateFunctionMultimap();
 
-        for (String name : reductionMultimap.keys()) {
+        for (String name : reductionMultimap.keySet()) {
             List<AggregateFunction> reductions = reductionMultimap.get(name);
-            results.add(group.aggregate(name, reductions.toArray(new AggregateFunction[0])));
+            results.add(group.parallelism(parallelism).aggregate(name, reductions.toArray(new AggregateFunction[0])));
         }
         return combineTables(results);
     }
@@ -21,10 +21,12 @@ import it.unimi.dsi.fastutil.booleans.BooleanSet;
 import it.unimi.dsi.fastutil.bytes.Byte2IntMap;
 import it.unimi.dsi.fastutil.bytes.Byte2IntOpenHashMap;
 import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteList;
 import it.unimi.dsi.fastutil.bytes.ByteArrays;
 import it.unimi.dsi.fastutil.bytes.ByteComparator;
 import it.unimi.dsi.fastutil.bytes.ByteIterator;
 import it.unimi.dsi.fastutil.bytes.ByteListIterator;
+import it.unimi.dsi.fastutil.bytes.ByteLists;
 import it.unimi.dsi.fastutil.bytes.ByteOpenHashSet;
 import it.unimi.dsi.fastutil.bytes.ByteSet;
 import it.unimi.dsi.fastutil.ints.IntComparator;
@@ -64,7 +66,8 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
 
     private final ByteComparator descendingByteComparator = (o1, o2) -> Byte.compare(o2, o1);
 
-    private ByteArrayList data;
+    // an on-heap ByteArrayList, unless the column was created over other storage, such as a mapped file
+    private ByteList data;
 
     private final IntComparator comparator = (r1, r2) -> {
         boolean f1 = get(r1);
@@ -74,11 +77,31 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
 
     private BooleanFormatter formatter = new BooleanFormatter("true", "false", "");
 
-    private BooleanColumn(String name, ByteArrayList values) {
+    /**
+     * Returns a new column holding the given values, in their byte form, which includes {@link #MISSING_VALUE}. The
+     * list is used without copying, and may be read-only, like one over a memory-mapped file, in which case the
+     * column copies its data onto the heap when it is first modified
+     */
+    public static BooleanColumn createInternal(String name, ByteList values) {
+        return new BooleanColumn(name, values);
+    }
+
+    private BooleanColumn(String name, ByteList values) {
         super(BOOLEAN, name);
         data = values;
     }
 
+    /**
+     * Returns the data as a list that can be modified, copying it onto the heap first if it is held elsewhere
+     */
+    private ByteArrayList mutableData() {
+        modified();
+        if (!(data instanceof ByteArrayList)) {
+            data = new ByteArrayList(data);
+        }
+        return (ByteArrayList) data;
+    }
+
     public static boolean valueIsMissing(byte b) {
         return b == MISSING_VALUE;
     }
@@ -208,27 +231,27 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
 
     public BooleanColumn append(boolean b) {
         if (b) {
-            data.add(BYTE_TRUE);
+            mutableData().add(BYTE_TRUE);
         } else {
-            data.add(BYTE_FALSE);
+            mutableData().add(BYTE_FALSE);
         }
         return this;
     }
 
     public BooleanColumn append(Boolean b) {
         if (b == null) {
-            data.add(MISSING_VALUE);
+            mutableData().add(MISSING_VALUE);
         }
         else if (b) {
-            data.add(BYTE_TRUE);
+            mutableData().add(BYTE_TRUE);
         } else {
-            data.add(BYTE_FALSE);
+            mutableData().add(BYTE_FALSE);
         }
         return this;
     }
 
     public BooleanColumn append(byte b) {
-        data.add(b);
+        mutableData().add(b);
         return this;
     }
 
@@ -260,22 +283,23 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
 
     @Override
     public void clear() {
-        data.clear();
+        modified();
+        data = new ByteArrayList(DEFAULT_ARRAY_SIZE);
     }
 
     @Override
     public BooleanColumn copy() {
-        return new BooleanColumn(name(), data.clone());
+        return new BooleanColumn(name(), new ByteArrayList(data));
     }
 
     @Override
     public void sortAscending() {
-        ByteArrays.mergeSort(data.elements());
+        ByteArrays.mergeSort(mutableData().elements(), 0, size());
     }
 
     @Override
     public void sortDescending() {
-        ByteArrays.mergeSort(data.elements(), descendingByteComparator);
+        ByteArrays.mergeSort(mutableData().elements(), 0, size(), descendingByteComparator);
     }
 
     public BooleanColumn appendCell(String object) {
@@ -416,17 +440,31 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
     }
 
     /**
-     * Returns a ByteArrayList containing 0 (false), 1 (true) or Byte.MIN_VALUE (missing)
+     * Returns a ByteArrayList containing 0 (false), 1 (true) or Byte.MIN_VALUE (missing). If the values are held
+     * elsewhere, such as in a memory-mapped file, they are first copied onto the heap; use {@link #dataInternal()} to
+     * read them where they are
+     * <p>
+     * The returned list is the column's own, so changes made through it change the column. Because the column can't
+     * tell when that happens, its table no longer caches sort orders on it
      */
     public ByteArrayList data() {
-        return data;
+        ByteArrayList list = mutableData();
+        valuesShared();
+        return list;
+    }
+
+    /**
+     * Returns a read-only view of the values held by this column, without copying them
+     */
+    public ByteList dataInternal() {
+        return ByteLists.unmodifiable(data);
     }
 
     public BooleanColumn set(int i, boolean b) {
         if (b) {
-            data.set(i, BYTE_TRUE);
+            mutableData().set(i, BYTE_TRUE);
         } else {
-            data.set(i, BYTE_FALSE);
+            mutableData().set(i, BYTE_FALSE);
         }
         return this;
     }
@@ -539,9 +577,9 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
 
     public boolean contains(boolean aBoolean) {
         if (aBoolean) {
-            return data().contains(BYTE_TRUE);
+            return data.contains(BYTE_TRUE);
         }
-        return data().contains(BYTE_FALSE);
+        return data.contains(BYTE_FALSE);
     }
 
     @Override
@@ -557,7 +595,20 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
     }
 
     public BooleanColumn where(Selection selection) {
-        return (BooleanColumn) subset(selection);
+        return subset(selection);
+    }
+
+    /**
+     * Returns a new column holding the values of the given rows, copied in their internal form rather than formatted
+     * as strings and parsed back
+     */
+    @Override
+    public BooleanColumn subset(Selection rows) {
+        BooleanColumn column = emptyCopy(rows.size());
+        for (int row : rows) {
+            column.append(getByte(row));
+        }
+        return column;
     }
 
     @Override
@@ -622,7 +673,7 @@ public class BooleanColumn extends AbstractColumn<Boolean, BooleanColumn> implem
 
     public NumberColumn asNumberColumn() {
         NumberColumn numberColumn = DoubleColumn.create(this.name() + ": ints", size());
-        ByteArrayList data = data();
+        ByteList data = dataInternal();
         for (int i = 0; i < size(); i++) {
             numberColumn.append(data.getByte(i));
         }
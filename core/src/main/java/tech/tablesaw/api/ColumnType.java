@@ -10,6 +10,7 @@ import tech.tablesaw.columns.dates.DateColumnType;
 import tech.tablesaw.columns.datetimes.DateTimeColumnType;
 import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.strings.StringColumnType;
+import tech.tablesaw.columns.strings.TextColumnType;
 import tech.tablesaw.columns.times.TimeColumnType;
 import tech.tablesaw.io.csv.CsvReadOptions;
 
@@ -23,6 +24,7 @@ public interface ColumnType {
     // standard column types
     ColumnType BOOLEAN = BooleanColumnType.INSTANCE;
     ColumnType STRING = StringColumnType.INSTANCE;
+    ColumnType TEXT = TextColumnType.INSTANCE;
     ColumnType DOUBLE = DoubleColumnType.INSTANCE;
     ColumnType LOCAL_DATE = DateColumnType.INSTANCE;
     ColumnType LOCAL_DATE_TIME = DateTimeColumnType.INSTANCE;
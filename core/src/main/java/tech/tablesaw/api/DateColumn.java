@@ -16,6 +16,8 @@ package tech.tablesaw.api;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
 import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import it.unimi.dsi.fastutil.ints.IntIterator;
@@ -29,11 +31,14 @@ import tech.tablesaw.columns.dates.DateColumnType;
 import tech.tablesaw.columns.dates.DateFillers;
 import tech.tablesaw.columns.dates.DateFilters;
 import tech.tablesaw.columns.dates.DateMapFunctions;
+import tech.tablesaw.columns.dates.DateStringParser;
 import tech.tablesaw.columns.dates.PackedLocalDate;
 import tech.tablesaw.filtering.predicates.IntBiPredicate;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.PartialSort;
 import tech.tablesaw.sorting.comparators.DescendingIntComparator;
+import tech.tablesaw.sorting.comparators.ReversingIntComparator;
 
 import java.nio.ByteBuffer;
 import java.time.LocalDate;
@@ -60,7 +65,8 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
 
     private final IntComparator reverseIntComparator = DescendingIntComparator.instance();
 
-    private IntArrayList data;
+    // an on-heap IntArrayList, unless the column was created over other storage, such as a mapped file
+    private IntList data;
 
     private final IntComparator comparator = (r1, r2) -> {
         int f1 = getIntInternal(r1);
@@ -94,33 +100,70 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
         return column;
     }
 
-    private DateColumn(String name, IntArrayList data) {
+    /**
+     * Returns a new column holding the given dates, in their packed form. The list is used without copying, and
+     * may be read-only, like one over a memory-mapped file, in which case the column copies its data onto the heap
+     * when it is first modified
+     */
+    public static DateColumn createInternal(String name, IntList packedDates) {
+        return new DateColumn(name, packedDates);
+    }
+
+    private DateColumn(String name, IntList data) {
         super(ColumnType.LOCAL_DATE, name);
         this.data = data;
     }
 
+    /**
+     * Returns the data as a list that can be modified, copying it onto the heap first if it is held elsewhere
+     */
+    private IntArrayList mutableData() {
+        modified();
+        if (!(data instanceof IntArrayList)) {
+            data = new IntArrayList(data);
+        }
+        return (IntArrayList) data;
+    }
+
     @Override
     public int size() {
         return data.size();
     }
 
     public DateColumn appendInternal(int f) {
-        data.add(f);
+        mutableData().add(f);
         return this;
     }
 
+    /**
+     * Returns the packed dates held by this column. If they are held elsewhere, such as in a memory-mapped file, they
+     * are first copied onto the heap; use {@link #dataInternal()} to read them where they are
+     * <p>
+     * The returned list is the column's own, so changes made through it change the column. Because the column can't
+     * tell when that happens, its table no longer caches sort orders on it
+     */
     @Override
     public IntArrayList data() {
-        return data;
+        IntArrayList list = mutableData();
+        valuesShared();
+        return list;
+    }
+
+    /**
+     * Returns a read-only view of the packed dates held by this column, without copying them
+     */
+    @Override
+    public IntList dataInternal() {
+        return IntLists.unmodifiable(data);
     }
 
     public DateColumn set(int index, int value) {
-        data.set(index, value);
+        mutableData().set(index, value);
         return this;
     }
 
     public DateColumn set(int index, LocalDate value) {
-        data.set(index, PackedLocalDate.pack(value));
+        mutableData().set(index, PackedLocalDate.pack(value));
         return this;
     }
 
@@ -165,13 +208,14 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
     @Override
     public DateColumn copy() {
         DateColumn copy = emptyCopy(data.size());
-        copy.data = data.clone();
+        copy.data = new IntArrayList(data);
         return copy;
     }
 
     @Override
     public void clear() {
-        data.clear();
+        modified();
+        data = new IntArrayList(DEFAULT_ARRAY_SIZE);
     }
 
     public DateColumn lead(int n) {
@@ -200,12 +244,12 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
 
     @Override
     public void sortAscending() {
-        Arrays.parallelSort(data.elements());
+        Arrays.parallelSort(mutableData().elements(), 0, size());
     }
 
     @Override
     public void sortDescending() {
-        IntArrays.parallelQuickSort(data.elements(), reverseIntComparator);
+        IntArrays.parallelQuickSort(mutableData().elements(), 0, size(), reverseIntComparator);
     }
 
     @Override
@@ -316,13 +360,18 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
 
     @Override
     public DateColumn appendCell(String string) {
-        appendInternal(PackedLocalDate.pack(DateColumnType.DEFAULT_PARSER.parse(string)));
+        appendInternal(DateColumnType.DEFAULT_PARSER.parseInt(string));
         return this;
     }
 
     @Override
     public DateColumn appendCell(String string, StringParser parser) {
-        appendInternal(PackedLocalDate.pack((LocalDate) parser.parse(string)));
+        if (parser instanceof DateStringParser) {
+            appendInternal(parser.parseInt(string));
+        } else {
+            // other parsers may only implement parse()
+            appendInternal(PackedLocalDate.pack((LocalDate) parser.parse(string)));
+        }
         return this;
     }
 
@@ -400,10 +449,8 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
      */
     public List<LocalDate> top(int n) {
         List<LocalDate> top = new ArrayList<>();
-        int[] values = data.toIntArray();
-        IntArrays.parallelQuickSort(values, DescendingIntComparator.instance());
-        for (int i = 0; i < n && i < values.length; i++) {
-            top.add(PackedLocalDate.asLocalDate(values[i]));
+        for (int row : PartialSort.firstRows(size(), n, ReversingIntComparator.reverse(comparator))) {
+            top.add(PackedLocalDate.asLocalDate(getIntInternal(row)));
         }
         return top;
     }
@@ -417,10 +464,8 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
      */
     public List<LocalDate> bottom(int n) {
         List<LocalDate> bottom = new ArrayList<>();
-        int[] values = data.toIntArray();
-        IntArrays.parallelQuickSort(values);
-        for (int i = 0; i < n && i < values.length; i++) {
-            bottom.add(PackedLocalDate.asLocalDate(values[i]));
+        for (int row : PartialSort.firstRows(size(), n, comparator)) {
+            bottom.add(PackedLocalDate.asLocalDate(getIntInternal(row)));
         }
         return bottom;
     }
@@ -452,7 +497,20 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
 
     @Override
     public DateColumn where(Selection selection) {
-        return (DateColumn) subset(selection);
+        return subset(selection);
+    }
+
+    /**
+     * Returns a new column holding the values of the given rows, copied in their internal form rather than formatted
+     * as strings and parsed back
+     */
+    @Override
+    public DateColumn subset(Selection rows) {
+        DateColumn column = emptyCopy(rows.size());
+        for (int row : rows) {
+            column.appendInternal(getIntInternal(row));
+        }
+        return column;
     }
 
     /**
@@ -523,7 +581,7 @@ DateMapFunctions, CategoricalColumn, Iterable<LocalDate> {
 
     public boolean contains(LocalDate localDate) {
         int date = PackedLocalDate.pack(localDate);
-        return data().contains(date);
+        return data.contains(date);
     }
 
     @Override
@@ -17,6 +17,8 @@ package tech.tablesaw.api;
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
 import it.unimi.dsi.fastutil.longs.LongArrays;
 import it.unimi.dsi.fastutil.longs.LongComparator;
 import it.unimi.dsi.fastutil.longs.LongIterator;
@@ -30,9 +32,12 @@ import tech.tablesaw.columns.datetimes.DateTimeColumnType;
 import tech.tablesaw.columns.datetimes.DateTimeFillers;
 import tech.tablesaw.columns.datetimes.DateTimeFilters;
 import tech.tablesaw.columns.datetimes.DateTimeMapFunctions;
+import tech.tablesaw.columns.datetimes.DateTimeStringParser;
 import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.PartialSort;
 import tech.tablesaw.sorting.comparators.DescendingLongComparator;
+import tech.tablesaw.sorting.comparators.ReversingIntComparator;
 
 import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
@@ -59,7 +64,8 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
 
     private final LongComparator reverseLongComparator = DescendingLongComparator.instance();
 
-    private LongArrayList data;
+    // an on-heap LongArrayList, unless the column was created over other storage, such as a mapped file
+    private LongList data;
 
     private final IntComparator comparator = (r1, r2) -> {
         long f1 = getPackedDateTime(r1);
@@ -102,11 +108,31 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
         return column;
     }
 
-    private DateTimeColumn(String name, LongArrayList data) {
+    /**
+     * Returns a new column holding the given date-times, in their packed form. The list is used without copying, and
+     * may be read-only, like one over a memory-mapped file, in which case the column copies its data onto the heap
+     * when it is first modified
+     */
+    public static DateTimeColumn createInternal(String name, LongList packedDateTimes) {
+        return new DateTimeColumn(name, packedDateTimes);
+    }
+
+    private DateTimeColumn(String name, LongList data) {
         super(LOCAL_DATE_TIME, name);
         this.data = data;
     }
 
+    /**
+     * Returns the data as a list that can be modified, copying it onto the heap first if it is held elsewhere
+     */
+    private LongArrayList mutableData() {
+        modified();
+        if (!(data instanceof LongArrayList)) {
+            data = new LongArrayList(data);
+        }
+        return (LongArrayList) data;
+    }
+
     @Override
     public DateTimeColumn removeMissing() {
         DateTimeColumn noMissing = emptyCopy();
@@ -122,11 +148,24 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
 
     public boolean contains(LocalDateTime dateTime) {
         long dt = PackedLocalDateTime.pack(dateTime);
-        return data().contains(dt);
+        return data.contains(dt);
     }
 
     public DateTimeColumn where(Selection selection) {
-        return (DateTimeColumn) subset(selection);
+        return subset(selection);
+    }
+
+    /**
+     * Returns a new column holding the values of the given rows, copied in their internal form rather than formatted
+     * as strings and parsed back
+     */
+    @Override
+    public DateTimeColumn subset(Selection rows) {
+        DateTimeColumn column = emptyCopy(rows.size());
+        for (int row : rows) {
+            column.appendInternal(getLongInternal(row));
+        }
+        return column;
     }
 
     public void setPrintFormatter(DateTimeFormatter dateTimeFormatter, String missingValueString) {
@@ -172,7 +211,12 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
 
     @Override
     public DateTimeColumn appendCell(String stringValue, StringParser parser) {
-        appendInternal(PackedLocalDateTime.pack((LocalDateTime) parser.parse(stringValue)));
+        if (parser instanceof DateTimeStringParser) {
+            appendInternal(parser.parseLong(stringValue));
+        } else {
+            // other parsers may only implement parse()
+            appendInternal(PackedLocalDateTime.pack((LocalDateTime) parser.parse(stringValue)));
+        }
         return this;
     }
 
@@ -190,12 +234,30 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
         return data.size();
     }
 
+    /**
+     * Returns the packed date-times held by this column. If they are held elsewhere, such as in a memory-mapped file,
+     * they are first copied onto the heap; use {@link #dataInternal()} to read them where they are
+     * <p>
+     * The returned list is the column's own, so changes made through it change the column. Because the column can't
+     * tell when that happens, its table no longer caches sort orders on it
+     */
+    @Override
     public LongArrayList data() {
-        return data;
+        LongArrayList list = mutableData();
+        valuesShared();
+        return list;
+    }
+
+    /**
+     * Returns a read-only view of the packed date-times held by this column, without copying them
+     */
+    @Override
+    public LongList dataInternal() {
+        return LongLists.unmodifiable(data);
     }
 
     public DateTimeColumn appendInternal(long dateTime) {
-        data.add(dateTime);
+        mutableData().add(dateTime);
         return this;
     }
 
@@ -224,23 +286,24 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
     @Override
     public DateTimeColumn copy() {
         DateTimeColumn column = emptyCopy(data.size());
-        column.data = data.clone();
+        column.data = new LongArrayList(data);
         return column;
     }
 
     @Override
     public void clear() {
-        data.clear();
+        modified();
+        data = new LongArrayList(DEFAULT_ARRAY_SIZE);
     }
 
     @Override
     public void sortAscending() {
-        Arrays.parallelSort(data.elements());
+        Arrays.parallelSort(mutableData().elements(), 0, size());
     }
 
     @Override
     public void sortDescending() {
-        LongArrays.parallelQuickSort(data.elements(), reverseLongComparator);
+        LongArrays.parallelQuickSort(mutableData().elements(), 0, size(), reverseLongComparator);
     }
 
     @Override
@@ -423,12 +486,12 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
     }
 
     public DateTimeColumn set(int index, long value) {
-        data.set(index, value);
+        mutableData().set(index, value);
         return this;
     }
 
     public DateTimeColumn set(int index, LocalDateTime value) {
-        data.set(index, PackedLocalDateTime.pack(value));
+        mutableData().set(index, PackedLocalDateTime.pack(value));
         return this;
     }
 
@@ -441,10 +504,8 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
      */
     public List<LocalDateTime> top(int n) {
         List<LocalDateTime> top = new ArrayList<>();
-        long[] values = data.toLongArray();
-        LongArrays.parallelQuickSort(values, DescendingLongComparator.instance());
-        for (int i = 0; i < n && i < values.length; i++) {
-            top.add(PackedLocalDateTime.asLocalDateTime(values[i]));
+        for (int row : PartialSort.firstRows(size(), n, ReversingIntComparator.reverse(comparator))) {
+            top.add(PackedLocalDateTime.asLocalDateTime(getLongInternal(row)));
         }
         return top;
     }
@@ -458,10 +519,8 @@ public class DateTimeColumn extends AbstractColumn<LocalDateTime, DateTimeColumn
      */
     public List<LocalDateTime> bottom(int n) {
         List<LocalDateTime> bottom = new ArrayList<>();
-        long[] values = data.toLongArray();
-        LongArrays.parallelQuickSort(values);
-        for (int i = 0; i < n && i < values.length; i++) {
-            bottom.add(PackedLocalDateTime.asLocalDateTime(values[i]));
+        for (int row : PartialSort.firstRows(size(), n, comparator)) {
+            bottom.add(PackedLocalDateTime.asLocalDateTime(getLongInternal(row)));
         }
         return bottom;
     }
@@ -37,6 +37,8 @@ import tech.tablesaw.filtering.predicates.DoubleBiPredicate;
 import tech.tablesaw.filtering.predicates.DoubleRangePredicate;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.PartialSort;
+import tech.tablesaw.sorting.comparators.ReversingIntComparator;
 
 import java.nio.ByteBuffer;
 import java.text.NumberFormat;
@@ -63,7 +65,8 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
      */
     private final DoubleComparator descendingComparator = (o2, o1) -> (Double.compare(o1, o2));
 
-    private DoubleArrayList data;
+    // an on-heap DoubleArrayList, unless the column was created over other storage, such as a mapped file
+    private DoubleList data;
 
     private NumberColumnFormatter printFormatter = new NumberColumnFormatter();
 
@@ -179,11 +182,30 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
         this.printFormatter = formatter;
     }
 
-    private DoubleColumn(final String name, final DoubleArrayList data) {
+    /**
+     * Returns a new column backed by the given list, which is used without copying. The list may be read-only, like
+     * one over a memory-mapped file, in which case the column copies its data onto the heap when it is first modified
+     */
+    public static DoubleColumn createInternal(final String name, final DoubleList data) {
+        return new DoubleColumn(name, data);
+    }
+
+    private DoubleColumn(final String name, final DoubleList data) {
         super(DOUBLE, name);
         this.data = data;
     }
 
+    /**
+     * Returns the data as a list that can be modified, copying it onto the heap first if it is held elsewhere
+     */
+    private DoubleArrayList mutableData() {
+        modified();
+        if (!(data instanceof DoubleArrayList)) {
+            data = new DoubleArrayList(data);
+        }
+        return (DoubleArrayList) data;
+    }
+
     @Override
     public int size() {
         return data.size();
@@ -210,10 +232,8 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
     @Override
     public DoubleArrayList top(final int n) {
         final DoubleArrayList top = new DoubleArrayList();
-        final double[] values = data.toDoubleArray();
-        DoubleArrays.parallelQuickSort(values, descendingComparator);
-        for (int i = 0; i < n && i < values.length; i++) {
-            top.add(values[i]);
+        for (int row : PartialSort.firstRows(size(), n, ReversingIntComparator.reverse(comparator))) {
+            top.add(data.getDouble(row));
         }
         return top;
     }
@@ -229,10 +249,8 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
     @Override
     public DoubleArrayList bottom(final int n) {
         final DoubleArrayList bottom = new DoubleArrayList();
-        final double[] values = data.toDoubleArray();
-        DoubleArrays.parallelQuickSort(values);
-        for (int i = 0; i < n && i < values.length; i++) {
-            bottom.add(values[i]);
+        for (int row : PartialSort.firstRows(size(), n, comparator)) {
+            bottom.add(data.getDouble(row));
         }
         return bottom;
     }
@@ -266,7 +284,7 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
      */
     @Override
     public DoubleColumn append(final float f) {
-        data.add(f);
+        mutableData().add(f);
         return this;
     }
 
@@ -283,7 +301,7 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
      */
     @Override
     public DoubleColumn append(double d) {
-        data.add(d);
+        mutableData().add(d);
         return this;
     }
 
@@ -348,23 +366,24 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
     @Override
     public NumberColumn copy() {
         final DoubleColumn column = emptyCopy(size());
-        column.data = data.clone();
+        column.data = new DoubleArrayList(data);
         return column;
     }
 
     @Override
     public void clear() {
+        modified();
         data = new DoubleArrayList(DEFAULT_ARRAY_SIZE);
     }
 
     @Override
     public void sortAscending() {
-        Arrays.parallelSort(data.elements());
+        Arrays.parallelSort(mutableData().elements(), 0, size());
     }
 
     @Override
     public void sortDescending() {
-        DoubleArrays.parallelQuickSort(data.elements(), descendingComparator);
+        DoubleArrays.parallelQuickSort(mutableData().elements(), 0, size(), descendingComparator);
     }
 
     @Override
@@ -434,7 +453,7 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
 
     @Override
     public DoubleColumn set(final int r, final double value) {
-        data.set(r, value);
+        mutableData().set(r, value);
         return this;
     }
 
@@ -483,7 +502,20 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
 
     @Override
     public NumberColumn where(final Selection selection) {
-        return (NumberColumn) subset(selection);
+        return subset(selection);
+    }
+
+    /**
+     * Returns a new column holding the values of the given rows, copied in their internal form rather than formatted
+     * as strings and parsed back
+     */
+    @Override
+    public DoubleColumn subset(Selection rows) {
+        DoubleColumn column = emptyCopy(rows.size());
+        for (int row : rows) {
+            column.append(get(row));
+        }
+        return column;
     }
 
     @Override
@@ -626,7 +658,7 @@ public class DoubleColumn extends AbstractColumn<Double, DoubleColumn> implement
 
     @Override
     public DoubleList dataInternal() {
-        return data.clone();
+        return new DoubleArrayList(data);
     }
 
     @Override
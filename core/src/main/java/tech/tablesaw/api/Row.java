@@ -21,6 +21,7 @@ public class Row implements Iterator<Row> {
     private final Map<String, PackedDate> dateColumnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     private final Map<String, DoubleColumn> doubleColumnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     private final Map<String, StringColumn> stringColumnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, TextColumn> textColumnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     private final Map<String, BooleanColumn> booleanColumnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     private final Map<String, PackedDateTime> dateTimeColumnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     private final Map<String, PackedTime> timeColumnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
@@ -41,6 +42,9 @@ public class Row implements Iterator<Row> {
             if (column instanceof StringColumn) {
                 stringColumnMap.put(column.name(), (StringColumn) column);
             }
+            if (column instanceof TextColumn) {
+                textColumnMap.put(column.name(), (TextColumn) column);
+            }
             if (column instanceof DateColumn) {
                 dateColumnMap.put(column.name(), new PackedDate((DateColumn) column));
 
@@ -92,8 +96,15 @@ public class Row implements Iterator<Row> {
         return (int) getDouble(columnIndex);
     }
 
+    /**
+     * Returns the value in the named string or text column
+     */
     public String getString(String columnName) {
-        return stringColumnMap.get(columnName).get(rowNumber);
+        StringColumn strings = stringColumnMap.get(columnName);
+        if (strings == null) {
+            return textColumnMap.get(columnName).get(rowNumber);
+        }
+        return strings.get(rowNumber);
     }
 
     public String getString(int columnIndex) {
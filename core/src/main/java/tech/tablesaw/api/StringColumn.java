@@ -23,7 +23,6 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import it.unimi.dsi.fastutil.ints.IntComparator;
-import it.unimi.dsi.fastutil.ints.IntListIterator;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import tech.tablesaw.columns.AbstractColumn;
@@ -36,15 +35,23 @@ import tech.tablesaw.columns.strings.StringMapFunctions;
 import tech.tablesaw.columns.strings.StringReduceUtils;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.PartialSort;
+import tech.tablesaw.sorting.comparators.ReversingIntComparator;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static tech.tablesaw.api.ColumnType.STRING;
 
@@ -63,9 +70,9 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
     private final AtomicInteger nextIndex = new AtomicInteger(1);
 
     // holds a key for each element in the column. the key can be used to lookup the backing string value
-    private IntArrayList values;
+    private KeyList values;
 
-    // a bidirectional map of keys to backing string values.
+    // a bidirectional map of keys to backing string values
     private final DictionaryMap lookupTable = new DictionaryMap();
 
     private StringColumnFormatter printFormatter = new StringColumnFormatter();
@@ -120,9 +127,29 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
         return new StringColumn(name, new ArrayList<>(size));
     }
 
+    /**
+     * Returns a new column with the given dictionary, given as parallel arrays of keys and values, holding the given
+     * key for each row. The keys are narrowed to the smallest width that holds them, or used without copying if
+     * they need an int each
+     */
+    public static StringColumn createInternal(String name, int[] dictionaryKeys, String[] dictionaryValues,
+                                              int[] keys) {
+        Preconditions.checkArgument(dictionaryKeys.length == dictionaryValues.length,
+                "The dictionary must have as many keys as values");
+        StringColumn column = new StringColumn(name, Collections.emptyList());
+        int maxKey = 0;
+        for (int i = 0; i < dictionaryKeys.length; i++) {
+            column.lookupTable.put(dictionaryKeys[i], dictionaryValues[i]);
+            maxKey = Math.max(maxKey, dictionaryKeys[i]);
+        }
+        column.nextIndex.set(maxKey + 1);
+        column.values = KeyList.of(keys);
+        return column;
+    }
+
     private StringColumn(String name, List<String> strings) {
         super(STRING, name);
-        values = new IntArrayList(strings.size());
+        values = new KeyList(strings.size());
         for (String string : strings) {
             append(string);
         }
@@ -164,16 +191,39 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
 
     @Override
     public void sortAscending() {
-        int[] elements = values.toIntArray();
-        IntArrays.parallelQuickSort(elements, dictionarySortComparator);
-        this.values = new IntArrayList(elements);
+        sortKeys(dictionarySortComparator);
     }
 
     @Override
     public void sortDescending() {
-        int[] elements = values.toIntArray();
-        IntArrays.parallelQuickSort(elements, reverseDictionarySortComparator);
-        this.values = new IntArrayList(elements);
+        sortKeys(reverseDictionarySortComparator);
+    }
+
+    /**
+     * Sorts the rows by counting how often each key occurs, ordering the distinct keys with the given comparator, and
+     * writing each key back as many times as it occurred. Only the dictionary values are compared, rather than the
+     * values of every pair of rows
+     */
+    private void sortKeys(IntComparator keyComparator) {
+        modified();
+        int[] counts = new int[nextIndex.get()];
+        for (int i = 0; i < values.size(); i++) {
+            counts[values.getInt(i)]++;
+        }
+        IntArrayList distinctKeys = new IntArrayList();
+        for (int key = 0; key < counts.length; key++) {
+            if (counts[key] > 0) {
+                distinctKeys.add(key);
+            }
+        }
+        int[] sortedKeys = distinctKeys.toIntArray();
+        IntArrays.quickSort(sortedKeys, keyComparator);
+        int row = 0;
+        for (int key : sortedKeys) {
+            for (int n = 0; n < counts[key]; n++) {
+                values.set(row++, key);
+            }
+        }
     }
 
     /**
@@ -228,7 +278,8 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
 
         Int2IntMap valueToCount = new Int2IntOpenHashMap();
 
-        for (int next : values) {
+        for (int i = 0; i < values.size(); i++) {
+            int next = values.getInt(i);
             if (valueToCount.containsKey(next)) {
                 valueToCount.put(next, valueToCount.get(next) + 1);
             } else {
@@ -250,13 +301,47 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
 
     @Override
     public int[] asIntArray() {
-        return data().toArray(new int[size()]);
+        return values.toIntArray();
+    }
+
+    /**
+     * Returns, for each row, the rank of its value among the values in the dictionary in ascending order, so that the
+     * rows can be sorted on ints. The dictionary is sorted once, instead of comparing two strings for each pair of rows
+     */
+    public int[] valueRanks() {
+        int[] rankOfKey = rankOfKeys();
+        int[] ranks = new int[size()];
+        for (int row = 0; row < ranks.length; row++) {
+            ranks[row] = rankOfKey[values.getInt(row)];
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns the rank of each key's value among the values in the dictionary in ascending order, indexed by key
+     */
+    private int[] rankOfKeys() {
+        int[] keys = new int[nextIndex.get()];
+        int keyCount = 0;
+        for (int key = 0; key < keys.length; key++) {
+            if (lookupTable.get(key) != null) {
+                keys[keyCount++] = key;
+            }
+        }
+        IntArrays.quickSort(keys, 0, keyCount, (k1, k2) -> lookupTable.get(k1).compareTo(lookupTable.get(k2)));
+        int[] rankOfKey = new int[keys.length];
+        for (int rank = 0; rank < keyCount; rank++) {
+            rankOfKey[keys[rank]] = rank;
+        }
+        return rankOfKey;
     }
 
     @Override
     public void clear() {
+        modified();
         values.clear();
         lookupTable.clear();
+        nextIndex.set(1);
     }
 
     public StringColumn lead(int n) {
@@ -312,12 +397,8 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
         if (stringValue != null) {
             str = stringValue;
         }
-        int valueId = lookupTable.get(str);
-        if (valueId <= 0) {
-            valueId = nextIndex.getAndIncrement();
-            lookupTable.put(valueId, str);
-        }
-        values.set(rowIndex, valueId);
+        modified();
+        values.set(rowIndex, keyFor(str));
         return this;
     }
 
@@ -335,10 +416,8 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
      */
     public List<String> top(int n) {
         List<String> top = new ArrayList<>();
-        StringColumn copy = this.copy();
-        copy.sortDescending();
-        for (int i = 0; i < n; i++) {
-            top.add(copy.get(i));
+        for (int row : PartialSort.firstRows(size(), n, ReversingIntComparator.reverse(rankComparator()))) {
+            top.add(get(row));
         }
         return top;
     }
@@ -352,21 +431,59 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
      */
     public List<String> bottom(int n) {
         List<String> bottom = new ArrayList<>();
-        StringColumn copy = this.copy();
-        copy.sortAscending();
-        for (int i = 0; i < n; i++) {
-            bottom.add(copy.get(i));
+        for (int row : PartialSort.firstRows(size(), n, rankComparator())) {
+            bottom.add(get(row));
         }
         return bottom;
     }
 
+    /**
+     * Returns a row comparator that compares the ranks of the rows' keys in the sorted dictionary, so no strings are
+     * compared per row
+     */
+    private IntComparator rankComparator() {
+        int[] rankOfKey = rankOfKeys();
+        return (r1, r2) -> Integer.compare(rankOfKey[values.getInt(r1)], rankOfKey[values.getInt(r2)]);
+    }
+
     private void addValue(String value) {
+        modified();
+        values.add(keyFor(value));
+    }
+
+    /**
+     * Returns the key of the given value, adding the value to the dictionary if it isn't there yet
+     */
+    private int keyFor(String value) {
         int key = lookupTable.get(value);
         if (key <= 0) {
             key = nextIndex.getAndIncrement();
             lookupTable.put(key, value);
         }
-        values.add(key);
+        return key;
+    }
+
+    /**
+     * Returns a new column holding the result of applying the function to each value in this column. The function is
+     * applied once per distinct value, when its key is first seen, and the new column's keys are computed by
+     * remapping this column's keys. Values that the function makes equal share one key in the new column
+     */
+    @Override
+    public StringColumn mapStrings(String name, Function<String, String> function) {
+        StringColumn newColumn = StringColumn.create(name, size());
+        // the key in the new column for each key in this one, or 0 for keys not yet seen
+        int[] newKeyForKey = new int[nextIndex.get()];
+        for (int i = 0; i < values.size(); i++) {
+            int key = values.getInt(i);
+            int newKey = newKeyForKey[key];
+            if (newKey == 0) {
+                String newValue = function.apply(lookupTable.get(key));
+                newKey = newColumn.keyFor(newValue == null ? MISSING_VALUE : newValue);
+                newKeyForKey[key] = newKey;
+            }
+            newColumn.values.add(newKey);
+        }
+        return newColumn;
     }
 
     /**
@@ -433,7 +550,7 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
 
     @Override
     public boolean isEmpty() {
-        return values.isEmpty();
+        return values.size() == 0;
     }
 
 
@@ -451,6 +568,41 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
         return selection;
     }
 
+    /**
+     * Returns the rows whose values satisfy the predicate. Since the column is dictionary encoded, the predicate is
+     * tested once per distinct value rather than once per row, and the rows are then selected by their keys
+     */
+    @Override
+    public Selection eval(Predicate<String> predicate) {
+        return selectKeys(lookupTable.keysMatching(predicate));
+    }
+
+    @Override
+    public Selection eval(BiPredicate<String, String> predicate, String value) {
+        return eval(s -> predicate.test(s, value));
+    }
+
+    @Override
+    public Selection eval(BiPredicate<String, Integer> predicate, Integer value) {
+        return eval(s -> predicate.test(s, value));
+    }
+
+    /**
+     * Returns the rows whose keys are in the given set
+     */
+    private Selection selectKeys(BitSet keys) {
+        Selection results = new BitmapBackedSelection();
+        if (keys.isEmpty()) {
+            return results;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            if (keys.get(values.getInt(i))) {
+                results.add(i);
+            }
+        }
+        return results;
+    }
+
     /**
      * Returns a list of boolean columns suitable for use as dummy variables in, for example, regression analysis,
      * select a column of categorical data must be encoded as a list of columns, such that each column represents
@@ -468,8 +620,8 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
         }
 
         // iterate over the values, updating the dummy variable columns as appropriate
-        for (int next : values) {
-            String category = lookupTable.get(next);
+        for (int i = 0; i < values.size(); i++) {
+            String category = lookupTable.get(values.getInt(i));
             for (BooleanColumn column : results) {
                 if (category.equals(column.name())) {
                     //TODO(lwhite): update the correct row more efficiently, by using set rather than add & only
@@ -487,7 +639,7 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
      * Returns the int key for the string at rowNumber. The key will be the same for all records with the same string,
      * and different if the string is different
      */
-    private int getInt(int rowNumber) {
+    public int getInt(int rowNumber) {
         return values.getInt(rowNumber);
     }
 
@@ -503,26 +655,50 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
     }
 
     /**
-     * Returns the integers that back this column.
+     * Returns the integers that back this column. Keys held in bytes or shorts are first widened to ints, which the
+     * column then keeps, so changes made through the list change the column. Because the column can't tell when that
+     * happens, its table no longer caches sort orders on it. To read the key of a single row, use {@link #getInt(int)}
      *
      * @return data as {@link IntArrayList}
      */
     public IntArrayList data() {
-        return values;
+        IntArrayList keys = values.asIntList();
+        valuesShared();
+        return keys;
     }
 
 
     public NumberColumn asNumberColumn() {
         NumberColumn numberColumn = DoubleColumn.create(this.name() + ": codes", size());
-        IntArrayList data = data();
         for (int i = 0; i < size(); i++) {
-            numberColumn.append(data.getInt(i));
+            numberColumn.append(values.getInt(i));
         }
         return numberColumn;
     }
 
     public StringColumn where(Selection selection) {
-        return (StringColumn) subset(selection);
+        return subset(selection);
+    }
+
+    /**
+     * Returns a new column holding the values of the given rows. The keys are remapped into the new column's
+     * dictionary once per distinct value, so no value is looked up per row
+     */
+    @Override
+    public StringColumn subset(Selection rows) {
+        StringColumn column = emptyCopy(rows.size());
+        // the key in the new column for each key in this one, or 0 for keys not yet seen
+        int[] newKeyForKey = new int[nextIndex.get()];
+        for (int row : rows) {
+            int key = values.getInt(row);
+            int newKey = newKeyForKey[key];
+            if (newKey == 0) {
+                newKey = column.keyFor(lookupTable.get(key));
+                newKeyForKey[key] = newKey;
+            }
+            column.values.add(newKey);
+        }
+        return column;
     }
 
     @Override
@@ -579,16 +755,19 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
     public Iterator<String> iterator() {
         return new Iterator<String>() {
 
-            private final IntListIterator valuesIt = values.iterator();
+            private int row = 0;
 
             @Override
             public boolean hasNext() {
-                return valuesIt.hasNext();
+                return row < values.size();
             }
 
             @Override
             public String next() {
-                return lookupTable.get(valuesIt.nextInt());
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return lookupTable.get(values.getInt(row++));
             }
         };
     }
@@ -598,13 +777,11 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
     }
 
     /**
-     * Returns the integer encoded value of each cell in this column. It can be used to lookup the mapped string in
-     * the lookupTable
-     *
-     * @return values a {@link IntArrayList}
+     * Returns the number of bytes used to store the key of each row: 1 while the dictionary has fewer than 128
+     * values, 2 while it has fewer than 32768, and 4 beyond that
      */
-    private IntArrayList values() {
-        return values;
+    int keyByteSize() {
+        return values.keyByteSize();
     }
 
     @Override
@@ -639,12 +816,10 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
      */
     private void addValuesToSelection(Selection results, int key) {
         if (key >= 0) {
-            int i = 0;
-            for (int next : values) {
-                if (key == next) {
+            for (int i = 0; i < values.size(); i++) {
+                if (key == values.getInt(i)) {
                     results.add(i);
                 }
-                i++;
             }
         }
     }
@@ -663,21 +838,14 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
     }
 
     private Selection selectIsIn(String... strings) {
-        IntArrayList keys = new IntArrayList();
+        BitSet keys = new BitSet();
         for (String string : strings) {
             int key = lookupTable.get(string);
             if (key > 0) {
-                keys.add(key);
+                keys.set(key);
             }
         }
-
-        Selection results = new BitmapBackedSelection();
-        for (int i = 0; i < values.size(); i++) {
-            if (keys.contains(values.getInt(i))) {
-                results.add(i);
-            }
-        }
-        return results;
+        return selectKeys(keys);
     }
 
     @Override
@@ -689,7 +857,7 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
     }
 
     public Int2ObjectMap<String> keyToValueMap() {
-        return new Int2ObjectOpenHashMap<>(lookupTable.keyToValue);
+        return lookupTable.keyToValueMap();
     }
 
     public int firstIndexOf(String value) {
@@ -702,8 +870,8 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
         }
         int key = lookupTable.get(value);
         int count = 0;
-        for (int k : values) {
-            if (k == key) {
+        for (int i = 0; i < values.size(); i++) {
+            if (values.getInt(i) == key) {
                 count++;
             }
         }
@@ -712,8 +880,8 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
 
     @Override
     public Object[] asObjectArray() {
-        final String[] output = new String[values().size()];
-        for (int i = 0; i < values().size(); i++) {
+        final String[] output = new String[size()];
+        for (int i = 0; i < size(); i++) {
             output[i] = get(i);
         }
         return output;
@@ -721,11 +889,14 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
     }
 
     /**
-     * A map that supports reversible key value pairs of int-String
+     * A map that supports reversible key value pairs of int-String. Since keys are handed out consecutively from 1,
+     * the values are held in an array indexed by key, and only the lookup of a value's key is hashed
      */
     static class DictionaryMap {
 
-        private final Int2ObjectMap<String> keyToValue = new Int2ObjectOpenHashMap<>();
+        private static final int INITIAL_CAPACITY = 16;
+
+        private String[] keyToValue = new String[INITIAL_CAPACITY];
 
         private final Object2IntMap<String> valueToKey = new Object2IntOpenHashMap<>();
 
@@ -738,38 +909,58 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
          * Returns a new DictionaryMap that is a deep copy of the original
          */
         DictionaryMap(DictionaryMap original) {
-            for (Int2ObjectMap.Entry<String> entry : original.keyToValue.int2ObjectEntrySet()) {
-                keyToValue.put(entry.getIntKey(), entry.getValue());
-                valueToKey.put(entry.getValue(), entry.getIntKey());
-            }
+            keyToValue = original.keyToValue.clone();
+            valueToKey.putAll(original.valueToKey);
             valueToKey.defaultReturnValue(-1);
         }
 
         void put(int key, String value) {
-            keyToValue.put(key, value);
+            if (key >= keyToValue.length) {
+                keyToValue = Arrays.copyOf(keyToValue, Math.max(key + 1, keyToValue.length + (keyToValue.length >> 1)));
+            }
+            keyToValue[key] = value;
             valueToKey.put(value, key);
         }
 
         String get(int key) {
-            return keyToValue.get(key);
+            return key >= 0 && key < keyToValue.length ? keyToValue[key] : null;
         }
 
         int get(String value) {
             return valueToKey.getInt(value);
         }
 
+        /**
+         * Returns the keys of the values that satisfy the predicate, testing each value once
+         */
+        BitSet keysMatching(Predicate<String> predicate) {
+            BitSet keys = new BitSet();
+            for (int key = 0; key < keyToValue.length; key++) {
+                String value = keyToValue[key];
+                if (value != null && predicate.test(value)) {
+                    keys.set(key);
+                }
+            }
+            return keys;
+        }
+
         void remove(int key) {
-            String value = keyToValue.remove(key);
-            valueToKey.removeInt(value);
+            String value = get(key);
+            if (value != null) {
+                keyToValue[key] = null;
+                valueToKey.removeInt(value);
+            }
         }
 
         void remove(String value) {
             int key = valueToKey.removeInt(value);
-            keyToValue.remove(key);
+            if (key >= 0) {
+                keyToValue[key] = null;
+            }
         }
 
         void clear() {
-            keyToValue.clear();
+            keyToValue = new String[INITIAL_CAPACITY];
             valueToKey.clear();
         }
 
@@ -784,7 +975,7 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
         }
 
         int size() {
-            return categories().size();
+            return valueToKey.size();
         }
 
         Set<String> categories() {
@@ -799,15 +990,30 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
          */
         @Deprecated
         String[] categoryArray() {
-            return keyToValue.values().toArray(new String[size()]);
+            List<String> categories = new ArrayList<>(size());
+            for (String value : keyToValue) {
+                if (value != null) {
+                    categories.add(value);
+                }
+            }
+            return categories.toArray(new String[0]);
         }
 
         IntCollection values() {
             return valueToKey.values();
         }
 
+        /**
+         * Returns a new map of each key to its value
+         */
         Int2ObjectMap<String> keyToValueMap() {
-            return keyToValue;
+            Int2ObjectMap<String> map = new Int2ObjectOpenHashMap<>(size());
+            for (int key = 0; key < keyToValue.length; key++) {
+                if (keyToValue[key] != null) {
+                    map.put(key, keyToValue[key]);
+                }
+            }
+            return map;
         }
 
         Object2IntMap<String> valueToKeyMap() {
@@ -815,4 +1021,224 @@ public class StringColumn extends AbstractColumn<String, StringColumn>
         }
 
     }
+
+    /**
+     * A growable list of dictionary keys, held in an array of the narrowest of bytes, shorts or ints that fits the
+     * largest key added so far. Adding or setting a key too large for the current width widens the whole array
+     */
+    static final class KeyList {
+
+        private byte[] byteKeys;
+        private short[] shortKeys;
+        // keys that need an int each are held in a list, which keeps its own size, so that it can be handed out
+        private IntArrayList intKeys;
+
+        // the number of bytes used per key, which is also the width of the one array in use
+        private int keyByteSize;
+
+        // the number of byte or short keys
+        private int size;
+
+        // set once the int list has been handed out, after which it must stay the list that holds the keys
+        private boolean shared;
+
+        KeyList(int capacity) {
+            keyByteSize = Byte.BYTES;
+            byteKeys = new byte[capacity];
+        }
+
+        /**
+         * Returns a list of the given keys, narrowed to the smallest width that holds them all. Keys that need an int
+         * each are used without copying
+         */
+        static KeyList of(int[] keys) {
+            int maxKey = 0;
+            for (int key : keys) {
+                maxKey = Math.max(maxKey, key);
+            }
+            KeyList list = new KeyList(0);
+            int keyByteSize = byteSizeFor(maxKey);
+            if (keyByteSize == Integer.BYTES) {
+                list.allocate(Integer.BYTES, 0);
+                list.intKeys = IntArrayList.wrap(keys);
+                return list;
+            }
+            list.allocate(keyByteSize, keys.length);
+            for (int key : keys) {
+                list.put(list.size++, key);
+            }
+            return list;
+        }
+
+        private static int byteSizeFor(int key) {
+            if (key <= Byte.MAX_VALUE) {
+                return Byte.BYTES;
+            }
+            if (key <= Short.MAX_VALUE) {
+                return Short.BYTES;
+            }
+            return Integer.BYTES;
+        }
+
+        int size() {
+            return keyByteSize == Integer.BYTES ? intKeys.size() : size;
+        }
+
+        int keyByteSize() {
+            return keyByteSize;
+        }
+
+        int getInt(int index) {
+            checkIndex(index);
+            switch (keyByteSize) {
+                case Byte.BYTES:
+                    return byteKeys[index];
+                case Short.BYTES:
+                    return shortKeys[index];
+                default:
+                    return intKeys.getInt(index);
+            }
+        }
+
+        void add(int key) {
+            widenFor(key);
+            if (keyByteSize == Integer.BYTES) {
+                intKeys.add(key);
+                return;
+            }
+            if (size == capacity()) {
+                resize(keyByteSize, (int) Math.min(Math.max(size + 1L, size + (size >> 1) + 16L), Integer.MAX_VALUE));
+            }
+            put(size++, key);
+        }
+
+        void set(int index, int key) {
+            checkIndex(index);
+            widenFor(key);
+            put(index, key);
+        }
+
+        int indexOf(int key) {
+            int n = size();
+            for (int i = 0; i < n; i++) {
+                if (getInt(i) == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int[] toIntArray() {
+            if (keyByteSize == Integer.BYTES) {
+                return intKeys.toIntArray();
+            }
+            int[] keys = new int[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = getInt(i);
+            }
+            return keys;
+        }
+
+        /**
+         * Returns the keys as a list of ints that holds them from now on, widening them first if they're narrower. Keys
+         * changed through the list change this list too
+         */
+        IntArrayList asIntList() {
+            if (keyByteSize != Integer.BYTES) {
+                resize(Integer.BYTES, capacity());
+            }
+            shared = true;
+            return intKeys;
+        }
+
+        void clear() {
+            if (shared) {
+                intKeys.clear();
+                return;
+            }
+            size = 0;
+            allocate(Byte.BYTES, capacity());
+        }
+
+        private void checkIndex(int index) {
+            int n = size();
+            if (index >= n) {
+                throw new IndexOutOfBoundsException(
+                        "Index (" + index + ") is greater than or equal to list size (" + n + ")");
+            }
+        }
+
+        private void widenFor(int key) {
+            int required = byteSizeFor(key);
+            if (required > keyByteSize) {
+                resize(required, capacity());
+            }
+        }
+
+        private void put(int index, int key) {
+            switch (keyByteSize) {
+                case Byte.BYTES:
+                    byteKeys[index] = (byte) key;
+                    break;
+                case Short.BYTES:
+                    shortKeys[index] = (short) key;
+                    break;
+                default:
+                    intKeys.set(index, key);
+            }
+        }
+
+        private int capacity() {
+            switch (keyByteSize) {
+                case Byte.BYTES:
+                    return byteKeys.length;
+                case Short.BYTES:
+                    return shortKeys.length;
+                default:
+                    return intKeys.elements().length;
+            }
+        }
+
+        /**
+         * Copies the byte or short keys into a new array of the given width and capacity. The width never shrinks, so
+         * a wider array is filled straight from the narrower one. Int keys grow in their list
+         */
+        private void resize(int newKeyByteSize, int newCapacity) {
+            if (newKeyByteSize == keyByteSize) {
+                if (keyByteSize == Byte.BYTES) {
+                    byteKeys = Arrays.copyOf(byteKeys, newCapacity);
+                } else {
+                    shortKeys = Arrays.copyOf(shortKeys, newCapacity);
+                }
+                return;
+            }
+            byte[] oldByteKeys = byteKeys;
+            short[] oldShortKeys = shortKeys;
+            allocate(newKeyByteSize, newKeyByteSize == Integer.BYTES ? 0 : newCapacity);
+            if (newKeyByteSize == Short.BYTES) {
+                for (int i = 0; i < size; i++) {
+                    shortKeys[i] = oldByteKeys[i];
+                }
+                return;
+            }
+            int[] keys = new int[newCapacity];
+            if (oldByteKeys != null) {
+                for (int i = 0; i < size; i++) {
+                    keys[i] = oldByteKeys[i];
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    keys[i] = oldShortKeys[i];
+                }
+            }
+            intKeys = IntArrayList.wrap(keys, size);
+        }
+
+        private void allocate(int newKeyByteSize, int capacity) {
+            byteKeys = newKeyByteSize == Byte.BYTES ? new byte[capacity] : null;
+            shortKeys = newKeyByteSize == Short.BYTES ? new short[capacity] : null;
+            intKeys = newKeyByteSize == Integer.BYTES ? new IntArrayList(capacity) : null;
+            keyByteSize = newKeyByteSize;
+        }
+    }
 }
@@ -29,13 +29,17 @@ import tech.tablesaw.io.html.HtmlTableWriter;
 import tech.tablesaw.joining.DataFrameJoiner;
 import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.PartialSort;
 import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.sorting.SortCache;
 import tech.tablesaw.sorting.SortUtils;
 import tech.tablesaw.sorting.comparators.IntComparatorChain;
 import tech.tablesaw.table.Relation;
 import tech.tablesaw.table.Rows;
 import tech.tablesaw.table.StandardTableSliceGroup;
+import tech.tablesaw.table.TableSlice;
 import tech.tablesaw.table.TableSliceGroup;
+import tech.tablesaw.table.Window;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,6 +70,10 @@ public class Table extends Relation implements Iterable<Row> {
      * The name of the table
      */
     private String name;
+    /**
+     * The row orders of recent sorts, reused until a sort column changes
+     */
+    private final SortCache sortCache = new SortCache();
 
     /**
      * Returns a new table initialized with the given name
@@ -113,15 +121,16 @@ public class Table extends Relation implements Iterable<Row> {
     }
 
     /**
-     * Returns an object that can be used to sort this table in the order specified for by the given column names
+     * Returns an object that can be used to sort this table on the given column names, applied in order, each in the
+     * given order
      */
-    private static Sort getSort(String... columnNames) {
+    private static Sort getSort(Sort.Order order, String... columnNames) {
         Sort key = null;
         for (String s : columnNames) {
             if (key == null) {
-                key = first(s, Sort.Order.DESCEND);
+                key = first(s, order);
             } else {
-                key.next(s, Sort.Order.DESCEND);
+                key.next(s, order);
             }
         }
         return key;
@@ -542,20 +551,50 @@ public class Table extends Relation implements Iterable<Row> {
      * TODO: Provide equivalent methods naming columns by index
      */
     public Table sortDescendingOn(String... columnNames) {
-        Sort key = getSort(columnNames);
+        Sort key = getSort(Sort.Order.DESCEND, columnNames);
         return sortOn(key);
     }
 
     /**
+     * Returns a copy of this table sorted on the given key. Numeric, date, time and string columns are sorted with a
+     * radix sort, and other columns by comparing rows. The row order is cached, so sorting again on the same key
+     * is free until one of its columns changes
      */
     public Table sortOn(Sort key) {
         Preconditions.checkArgument(!key.isEmpty());
-        if (key.size() == 1) {
-            IntComparator comparator = SortUtils.getComparator(this, key);
-            return sortOn(comparator);
-        }
-        IntComparatorChain chain = SortUtils.getChain(this, key);
-        return sortOn(chain);
+        Table newTable = emptyCopy(rowCount());
+        Rows.copyRowsToTable(IntArrayList.wrap(sortCache.sortedRows(this, key)), this, newTable);
+        return newTable;
+    }
+
+    /**
+     * Returns a new table holding the n rows with the largest values in the given columns, applied in order, largest
+     * first
+     */
+    public Table topN(int n, String... columnNames) {
+        return first(n, getSort(Sort.Order.DESCEND, columnNames));
+    }
+
+    /**
+     * Returns a new table holding the n rows with the smallest values in the given columns, applied in order,
+     * smallest first
+     */
+    public Table bottomN(int n, String... columnNames) {
+        return first(n, getSort(Sort.Order.ASCEND, columnNames));
+    }
+
+    /**
+     * Returns a new table holding the first n rows of this table in the order given by the key, as if it had been
+     * sorted and then cut to n rows. Instead of sorting, the rows are passed once through a heap of the best n rows,
+     * which takes O(rows * log n) time, and only the n rows are copied
+     */
+    public Table first(int nRows, Sort key) {
+        Preconditions.checkArgument(key != null && !key.isEmpty(), "A sort key is required");
+        IntComparatorChain comparator = SortUtils.getChain(this, key);
+        int[] rows = PartialSort.firstRows(rowCount(), nRows, comparator);
+        Table newTable = emptyCopy(rows.length);
+        Rows.copyRowsToTable(IntArrayList.wrap(rows), this, newTable);
+        return newTable;
     }
 
     /**
@@ -650,6 +689,14 @@ public class Table extends Relation implements Iterable<Row> {
         return newTable;
     }
 
+    /**
+     * Returns a slice of this table holding the selected rows. Unlike {@link #where(Selection)}, no data is copied:
+     * the slice reads through to this table, and is only good until this table changes
+     */
+    public TableSlice view(Selection selection) {
+        return new TableSlice(this, selection);
+    }
+
     public Table dropWhere(Selection selection) {
         Selection opposite = new BitmapBackedSelection();
         opposite.addRange(0, rowCount());
@@ -689,6 +736,14 @@ public class Table extends Relation implements Iterable<Row> {
         return StandardTableSliceGroup.create(this, columns);
     }
 
+    /**
+     * Returns a window over the rows of this table, for computing window functions such as ranks, lags and running
+     * totals within partitions of the rows
+     */
+    public Window window() {
+        return new Window(this);
+    }
+
     public String printHtml() {
         return HtmlTableWriter.write(this);
     }
@@ -907,8 +962,12 @@ public class Table extends Relation implements Iterable<Row> {
         return groupingColumn.countByCategory();
     }
 
-    public DataFrameJoiner join(String columnName) {
-        return new DataFrameJoiner(this, columnName);
+    /**
+     * Returns a joiner for this table on the given columns. When more than one column is given, rows are matched
+     * on the combination of their values, as in {@code table.join("a", "b").inner(other, "x", "y")}
+     */
+    public DataFrameJoiner join(String... columnNames) {
+        return new DataFrameJoiner(this, columnNames);
     }
 
     public Table missingValueCounts() {
@@ -0,0 +1,634 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import it.unimi.dsi.fastutil.ints.IntHash;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenCustomHashSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongComparator;
+import tech.tablesaw.columns.AbstractColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.StringParser;
+import tech.tablesaw.columns.strings.StringFilters;
+import tech.tablesaw.columns.strings.StringMapFunctions;
+import tech.tablesaw.columns.strings.StringReduceUtils;
+import tech.tablesaw.columns.strings.TextColumnType;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.PartialSort;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static tech.tablesaw.api.ColumnType.TEXT;
+
+/**
+ * A column of free-form text, such as identifiers, URLs or log lines, in which most values are distinct. Where a
+ * {@link StringColumn} keeps each distinct value in a dictionary and a key for each row, a TextColumn keeps the UTF-8
+ * bytes of its values one after another in a single array, with the offset and length of each row's bytes in a
+ * second array. There is no object or hash map entry per value, and strings are only created when they are asked for.
+ * <p>
+ * Values are compared, and the column is sorted, by comparing their UTF-8 bytes, which orders them by Unicode code
+ * point. As in StringColumn, the MISSING_VALUE is an empty string
+ */
+public class TextColumn extends AbstractColumn<String, TextColumn>
+        implements StringFilters, StringMapFunctions, StringReduceUtils {
+
+    public static final String MISSING_VALUE = (String) TEXT.getMissingValue();
+
+    // the UTF-8 bytes of the values, in the order they were added. Bytes of values replaced by set() are not reused
+    private final ByteArrayList bytes;
+
+    // for each row, the offset of its bytes in the upper 32 bits, and their length in the lower 32 bits
+    private final LongArrayList spans;
+
+    private final IntComparator rowComparator = new IntComparator() {
+
+        @Override
+        public int compare(int i, int i1) {
+            return compareSpans(spans.getLong(i), spans.getLong(i1));
+        }
+    };
+
+    private final LongComparator ascendingSpanComparator = this::compareSpans;
+
+    private final LongComparator descendingSpanComparator = (span1, span2) -> compareSpans(span2, span1);
+
+    public static boolean valueIsMissing(String string) {
+        return MISSING_VALUE.equals(string);
+    }
+
+    public static TextColumn create(String name) {
+        return create(name, DEFAULT_ARRAY_SIZE);
+    }
+
+    public static TextColumn create(String name, int size) {
+        return new TextColumn(name, size);
+    }
+
+    public static TextColumn create(String name, String[] strings) {
+        return create(name, Arrays.asList(strings));
+    }
+
+    public static TextColumn create(String name, List<String> strings) {
+        TextColumn column = create(name, strings.size());
+        for (String string : strings) {
+            column.append(string);
+        }
+        return column;
+    }
+
+    /**
+     * Returns a new column holding the given UTF-8 bytes, which are the values of consecutive rows with the given
+     * lengths. The bytes array is used without copying
+     */
+    public static TextColumn createInternal(String name, byte[] bytes, int[] lengths) {
+        TextColumn column = new TextColumn(name, bytes, lengths.length);
+        int offset = 0;
+        for (int length : lengths) {
+            column.spans.add(span(offset, length));
+            offset += length;
+        }
+        Preconditions.checkArgument(offset == bytes.length,
+                "The lengths add up to %s bytes, but %s bytes were given", offset, bytes.length);
+        return column;
+    }
+
+    private TextColumn(String name, int size) {
+        super(TEXT, name);
+        bytes = new ByteArrayList();
+        spans = new LongArrayList(size);
+    }
+
+    private TextColumn(String name, byte[] bytes, int size) {
+        super(TEXT, name);
+        this.bytes = ByteArrayList.wrap(bytes);
+        spans = new LongArrayList(size);
+    }
+
+    private static long span(int offset, int length) {
+        return ((long) offset << 32) | length;
+    }
+
+    private static int offset(long span) {
+        return (int) (span >>> 32);
+    }
+
+    private static int length(long span) {
+        return (int) span;
+    }
+
+    /**
+     * Returns the value at rowIndex in this column. The index is zero-based.
+     *
+     * @throws IndexOutOfBoundsException if the given rowIndex is not in the column
+     */
+    @Override
+    public String get(int rowIndex) {
+        long span = spans.getLong(rowIndex);
+        if (length(span) == 0) {
+            return MISSING_VALUE;
+        }
+        return new String(bytes.elements(), offset(span), length(span), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getObject(int index) {
+        return get(index);
+    }
+
+    @Override
+    public String getString(int row) {
+        return get(row);
+    }
+
+    @Override
+    public String getUnformattedString(int row) {
+        return get(row);
+    }
+
+    @Override
+    public int size() {
+        return spans.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return spans.isEmpty();
+    }
+
+    @Override
+    public boolean isMissing(int rowNumber) {
+        return length(spans.getLong(rowNumber)) == 0;
+    }
+
+    @Override
+    public int countMissing() {
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            if (isMissing(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public TextColumn append(String value) {
+        byte[] utf8 = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        spans.add(addBytes(utf8, 0, utf8.length));
+        return this;
+    }
+
+    /**
+     * Appends the value in the given row of another text column, copying its bytes without decoding them
+     */
+    public TextColumn append(TextColumn source, int row) {
+        long span = source.spans.getLong(row);
+        spans.add(addBytes(source.bytes.elements(), offset(span), length(span)));
+        return this;
+    }
+
+    @Override
+    public TextColumn appendMissing() {
+        return append(MISSING_VALUE);
+    }
+
+    @Override
+    public TextColumn appendCell(String object) {
+        return append(TextColumnType.DEFAULT_PARSER.parse(object));
+    }
+
+    @Override
+    public TextColumn appendCell(String object, StringParser parser) {
+        return append((String) parser.parse(object));
+    }
+
+    @Override
+    public void append(Column column) {
+        Preconditions.checkArgument(column.type() == this.type());
+        TextColumn source = (TextColumn) column;
+        for (int row = 0; row < source.size(); row++) {
+            append(source, row);
+        }
+    }
+
+    @Override
+    public TextColumn set(int rowIndex, String value) {
+        if (rowIndex < 0 || rowIndex >= size()) {
+            throw new IndexOutOfBoundsException("Row " + rowIndex + " is not in column " + name());
+        }
+        byte[] utf8 = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        spans.set(rowIndex, addBytes(utf8, 0, utf8.length));
+        return this;
+    }
+
+    /**
+     * Conditionally update this column, replacing current values with newValue for all rows where the current value
+     * matches the selection criteria
+     */
+    public TextColumn set(Selection rowSelection, String newValue) {
+        for (int row : rowSelection) {
+            set(row, newValue);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the given bytes to the end of the byte array, and returns their span
+     */
+    private long addBytes(byte[] source, int offset, int length) {
+        // every value appended or set goes through here
+        modified();
+        if (length == 0) {
+            return 0L;
+        }
+        int start = bytes.size();
+        if ((long) start + length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Text column " + name() + " can't hold more than 2GB of text");
+        }
+        bytes.addElements(start, source, offset, length);
+        return span(start, length);
+    }
+
+    @Override
+    public TextColumn emptyCopy() {
+        return create(name());
+    }
+
+    @Override
+    public TextColumn emptyCopy(int rowSize) {
+        return create(name(), rowSize);
+    }
+
+    /**
+     * Returns a copy of this column, whose bytes hold only the current values, in row order
+     */
+    @Override
+    public TextColumn copy() {
+        TextColumn copy = create(name(), size());
+        copy.append(this);
+        return copy;
+    }
+
+    @Override
+    public TextColumn where(Selection selection) {
+        TextColumn result = create(name(), selection.size());
+        for (int row : selection) {
+            result.append(this, row);
+        }
+        return result;
+    }
+
+    @Override
+    public TextColumn subset(Selection rows) {
+        return where(rows);
+    }
+
+    @Override
+    public TextColumn removeMissing() {
+        TextColumn noMissing = emptyCopy();
+        for (int row = 0; row < size(); row++) {
+            if (!isMissing(row)) {
+                noMissing.append(this, row);
+            }
+        }
+        return noMissing;
+    }
+
+    @Override
+    public void clear() {
+        modified();
+        bytes.clear();
+        spans.clear();
+    }
+
+    public TextColumn lead(int n) {
+        TextColumn column = lag(-n);
+        column.setName(name() + " lead(" + n + ")");
+        return column;
+    }
+
+    @Override
+    public TextColumn lag(int n) {
+        TextColumn copy = emptyCopy(size());
+        copy.setName(name() + " lag(" + n + ")");
+        for (int row = 0; row < size(); row++) {
+            int source = row - n;
+            if (source >= 0 && source < size()) {
+                copy.append(this, source);
+            } else {
+                copy.appendMissing();
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Sorts the rows by reordering their spans, comparing the bytes in place; the bytes themselves don't move
+     */
+    @Override
+    public void sortAscending() {
+        modified();
+        LongArrays.parallelQuickSort(spans.elements(), 0, size(), ascendingSpanComparator);
+    }
+
+    @Override
+    public void sortDescending() {
+        modified();
+        LongArrays.parallelQuickSort(spans.elements(), 0, size(), descendingSpanComparator);
+    }
+
+    @Override
+    public IntComparator rowComparator() {
+        return rowComparator;
+    }
+
+    /**
+     * Compares the value in the given row with the value in a row of another text column, in the order used for
+     * sorting
+     */
+    public int compareRows(int row, TextColumn other, int otherRow) {
+        long span = spans.getLong(row);
+        long otherSpan = other.spans.getLong(otherRow);
+        return compareBytes(bytes.elements(), offset(span), length(span),
+                other.bytes.elements(), offset(otherSpan), length(otherSpan));
+    }
+
+    private int compareSpans(long span1, long span2) {
+        byte[] elements = bytes.elements();
+        return compareBytes(elements, offset(span1), length(span1), elements, offset(span2), length(span2));
+    }
+
+    /**
+     * Compares two byte sequences as unsigned bytes, which orders UTF-8 encoded strings by code point
+     */
+    private static int compareBytes(byte[] bytes1, int offset1, int length1, byte[] bytes2, int offset2,
+                                    int length2) {
+        int length = Math.min(length1, length2);
+        for (int i = 0; i < length; i++) {
+            int result = Integer.compare(bytes1[offset1 + i] & 0xFF, bytes2[offset2 + i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(length1, length2);
+    }
+
+    private boolean rowEquals(int row, byte[] utf8) {
+        long span = spans.getLong(row);
+        return compareBytes(bytes.elements(), offset(span), length(span), utf8, 0, utf8.length) == 0;
+    }
+
+    /**
+     * Returns the largest ("top") n values in the column
+     *
+     * @param n The maximum number of records to return. The actual number will be smaller if n is greater than the
+     *          number of observations in the column
+     * @return A list, possibly empty, of the largest observations
+     */
+    public List<String> top(int n) {
+        return firstSorted(n, descendingSpanComparator);
+    }
+
+    /**
+     * Returns the smallest ("bottom") n values in the column
+     *
+     * @param n The maximum number of records to return. The actual number will be smaller if n is greater than the
+     *          number of observations in the column
+     * @return A list, possibly empty, of the smallest n observations
+     */
+    public List<String> bottom(int n) {
+        return firstSorted(n, ascendingSpanComparator);
+    }
+
+    /**
+     * Returns the first n values in the given order, selecting their rows with a heap rather than sorting a copy
+     */
+    private List<String> firstSorted(int n, LongComparator comparator) {
+        IntComparator rowComparator = (r1, r2) -> comparator.compare(spans.getLong(r1), spans.getLong(r2));
+        List<String> values = new ArrayList<>();
+        for (int row : PartialSort.firstRows(size(), n, rowComparator)) {
+            long span = spans.getLong(row);
+            values.add(new String(bytes.elements(), offset(span), length(span), StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    /**
+     * Returns one row for each distinct value, found by hashing and comparing the rows' bytes rather than strings
+     */
+    private IntOpenCustomHashSet distinctRows() {
+        IntOpenCustomHashSet rows = new IntOpenCustomHashSet(size(), new IntHash.Strategy() {
+            @Override
+            public int hashCode(int row) {
+                long span = spans.getLong(row);
+                byte[] elements = bytes.elements();
+                int hash = 1;
+                for (int i = offset(span); i < offset(span) + length(span); i++) {
+                    hash = 31 * hash + elements[i];
+                }
+                return hash;
+            }
+
+            @Override
+            public boolean equals(int row1, int row2) {
+                return compareSpans(spans.getLong(row1), spans.getLong(row2)) == 0;
+            }
+        });
+        for (int row = 0; row < size(); row++) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public int countUnique() {
+        return distinctRows().size();
+    }
+
+    @Override
+    public TextColumn unique() {
+        IntOpenCustomHashSet rows = distinctRows();
+        TextColumn unique = create(name() + " Unique values", rows.size());
+        IntIterator iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            unique.append(this, iterator.nextInt());
+        }
+        return unique;
+    }
+
+    @Override
+    public Table summary() {
+        Table table = Table.create(name());
+        StringColumn measure = StringColumn.create("Measure");
+        DoubleColumn value = DoubleColumn.create("Value");
+        table.addColumns(measure, value);
+        measure.append("Count");
+        value.append(size());
+        measure.append("Unique");
+        value.append(countUnique());
+        measure.append("Missing");
+        value.append(countMissing());
+        return table;
+    }
+
+    /**
+     * Returns true if this column contains a cell with the given string, and false otherwise
+     */
+    public boolean contains(String aString) {
+        return firstIndexOf(aString) >= 0;
+    }
+
+    public int firstIndexOf(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        for (int row = 0; row < size(); row++) {
+            if (rowEquals(row, utf8)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Selection isEqualTo(String string) {
+        Selection results = new BitmapBackedSelection();
+        byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+        for (int row = 0; row < size(); row++) {
+            if (rowEquals(row, utf8)) {
+                results.add(row);
+            }
+        }
+        return results;
+    }
+
+    public Selection isNotEqualTo(String string) {
+        Selection selection = new BitmapBackedSelection();
+        selection.addRange(0, size());
+        selection.andNot(isEqualTo(string));
+        return selection;
+    }
+
+    @Override
+    public Selection isIn(String... strings) {
+        Set<ByteBuffer> values = new HashSet<>();
+        for (String string : strings) {
+            values.add(ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8)));
+        }
+        Selection results = new BitmapBackedSelection();
+        for (int row = 0; row < size(); row++) {
+            long span = spans.getLong(row);
+            if (values.contains(ByteBuffer.wrap(bytes.elements(), offset(span), length(span)))) {
+                results.add(row);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public Selection isNotIn(String... strings) {
+        Selection results = new BitmapBackedSelection();
+        results.addRange(0, size());
+        results.andNot(isIn(strings));
+        return results;
+    }
+
+    /**
+     * Returns a List&lt;String&gt; representation of all the values in this column
+     */
+    public List<String> asList() {
+        List<String> strings = new ArrayList<>(size());
+        for (String string : this) {
+            strings.add(string);
+        }
+        return strings;
+    }
+
+    @Override
+    public Object[] asObjectArray() {
+        final String[] output = new String[size()];
+        for (int i = 0; i < size(); i++) {
+            output[i] = get(i);
+        }
+        return output;
+    }
+
+    /**
+     * Text has no numeric representation
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public double getDouble(int row) {
+        throw new UnsupportedOperationException("Text column " + name() + " can't be converted to doubles");
+    }
+
+    /**
+     * Text has no numeric representation
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public double[] asDoubleArray() {
+        throw new UnsupportedOperationException("Text column " + name() + " can't be converted to doubles");
+    }
+
+    @Override
+    public int byteSize() {
+        return type().byteSize();
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the value at rowNumber
+     */
+    @Override
+    public byte[] asBytes(int rowNumber) {
+        long span = spans.getLong(rowNumber);
+        return Arrays.copyOfRange(bytes.elements(), offset(span), offset(span) + length(span));
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+
+            private int row = 0;
+
+            @Override
+            public boolean hasNext() {
+                return row < size();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(row++);
+            }
+        };
+    }
+}
@@ -16,6 +16,8 @@ package tech.tablesaw.api;
 
 import com.google.common.base.Preconditions;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
 import it.unimi.dsi.fastutil.ints.IntArrays;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import it.unimi.dsi.fastutil.ints.IntIterator;
@@ -30,8 +32,11 @@ import tech.tablesaw.columns.times.TimeColumnType;
 import tech.tablesaw.columns.times.TimeFillers;
 import tech.tablesaw.columns.times.TimeFilters;
 import tech.tablesaw.columns.times.TimeMapFunctions;
+import tech.tablesaw.columns.times.TimeStringParser;
 import tech.tablesaw.selection.Selection;
+import tech.tablesaw.sorting.PartialSort;
 import tech.tablesaw.sorting.comparators.DescendingIntComparator;
+import tech.tablesaw.sorting.comparators.ReversingIntComparator;
 
 import java.nio.ByteBuffer;
 import java.time.LocalTime;
@@ -59,7 +64,8 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
 
     private TimeColumnFormatter printFormatter = new TimeColumnFormatter();
 
-    private IntArrayList data;
+    // an on-heap IntArrayList, unless the column was created over other storage, such as a mapped file
+    private IntList data;
 
     private final IntComparator comparator = (r1, r2) -> {
         int f1 = getIntInternal(r1);
@@ -67,11 +73,31 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
         return Integer.compare(f1, f2);
     };
 
-    private TimeColumn(String name, IntArrayList times) {
+    /**
+     * Returns a new column holding the given times, in their packed form. The list is used without copying, and
+     * may be read-only, like one over a memory-mapped file, in which case the column copies its data onto the heap
+     * when it is first modified
+     */
+    public static TimeColumn createInternal(String name, IntList packedTimes) {
+        return new TimeColumn(name, packedTimes);
+    }
+
+    private TimeColumn(String name, IntList times) {
         super(LOCAL_TIME, name);
         data = times;
     }
 
+    /**
+     * Returns the data as a list that can be modified, copying it onto the heap first if it is held elsewhere
+     */
+    private IntArrayList mutableData() {
+        modified();
+        if (!(data instanceof IntArrayList)) {
+            data = new IntArrayList(data);
+        }
+        return (IntArrayList) data;
+    }
+
     public static boolean valueIsMissing(int i) {
         return i == MISSING_VALUE;
     }
@@ -134,7 +160,7 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
     }
 
     public TimeColumn appendInternal(int f) {
-        data.add(f);
+        mutableData().add(f);
         return this;
     }
 
@@ -198,13 +224,14 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
     @Override
     public TimeColumn copy() {
         TimeColumn column = emptyCopy(size());
-        column.data = data.clone();
+        column.data = new IntArrayList(data);
         return column;
     }
 
     @Override
     public void clear() {
-        data.clear();
+        modified();
+        data = new IntArrayList(DEFAULT_ARRAY_SIZE);
     }
 
     /**
@@ -222,12 +249,13 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
     public void sortAscending() {
         int[] sorted = data.toIntArray();
         Arrays.parallelSort(sorted);
+        modified();
         this.data = new IntArrayList(sorted);
     }
 
     @Override
     public void sortDescending() {
-        IntArrays.parallelQuickSort(data.elements(), descendingIntComparator);
+        IntArrays.parallelQuickSort(mutableData().elements(), 0, size(), descendingIntComparator);
     }
 
     public LocalTime max() {
@@ -333,7 +361,12 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
 
     @Override
     public TimeColumn appendCell(String object, StringParser parser) {
-        appendInternal(PackedLocalTime.pack((LocalTime) parser.parse(object)));
+        if (parser instanceof TimeStringParser) {
+            appendInternal(parser.parseInt(object));
+        } else {
+            // other parsers may only implement parse()
+            appendInternal(PackedLocalTime.pack((LocalTime) parser.parse(object)));
+        }
         return this;
     }
 
@@ -355,8 +388,26 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
         return comparator;
     }
 
+    /**
+     * Returns the packed times held by this column. If they are held elsewhere, such as in a memory-mapped file, they
+     * are first copied onto the heap; use {@link #dataInternal()} to read them where they are
+     * <p>
+     * The returned list is the column's own, so changes made through it change the column. Because the column can't
+     * tell when that happens, its table no longer caches sort orders on it
+     */
+    @Override
     public IntArrayList data() {
-        return data;
+        IntArrayList list = mutableData();
+        valuesShared();
+        return list;
+    }
+
+    /**
+     * Returns a read-only view of the packed times held by this column, without copying them
+     */
+    @Override
+    public IntList dataInternal() {
+        return IntLists.unmodifiable(data);
     }
 
     @Override
@@ -396,10 +447,8 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
      */
     public List<LocalTime> top(int n) {
         List<LocalTime> top = new ArrayList<>();
-        int[] values = data.toIntArray();
-        IntArrays.parallelQuickSort(values, descendingIntComparator);
-        for (int i = 0; i < n && i < values.length; i++) {
-            top.add(PackedLocalTime.asLocalTime(values[i]));
+        for (int row : PartialSort.firstRows(size(), n, ReversingIntComparator.reverse(comparator))) {
+            top.add(PackedLocalTime.asLocalTime(getIntInternal(row)));
         }
         return top;
     }
@@ -412,24 +461,24 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
      * @return A list, possibly empty, of the smallest n observations
      */
     public List<LocalTime> bottom(int n) {
+        // missing values are skipped, so they're ordered after every time
+        IntComparator missingLast = (r1, r2) -> {
+            boolean missing1 = getIntInternal(r1) == MISSING_VALUE;
+            boolean missing2 = getIntInternal(r2) == MISSING_VALUE;
+            return missing1 == missing2 ? comparator.compare(r1, r2) : Boolean.compare(missing1, missing2);
+        };
         List<LocalTime> bottom = new ArrayList<>();
-        int[] values = data.toIntArray();
-        IntArrays.parallelQuickSort(values);
-        int rowCount = 0;
-        int validCount = 0;
-        while (validCount < n && rowCount < size()) {
-            int value = values[rowCount];
+        for (int row : PartialSort.firstRows(size(), n, missingLast)) {
+            int value = getIntInternal(row);
             if (value != MISSING_VALUE) {
                 bottom.add(PackedLocalTime.asLocalTime(value));
-                validCount++;
             }
-            rowCount++;
         }
         return bottom;
     }
 
     public TimeColumn set(int index, int value) {
-        data.set(index, value);
+        mutableData().set(index, value);
         return this;
     }
 
@@ -467,7 +516,7 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
 
     public boolean contains(LocalTime time) {
         int t = PackedLocalTime.pack(time);
-        return data().contains(t);
+        return data.contains(t);
     }
 
     @Override
@@ -519,7 +568,20 @@ public class TimeColumn extends AbstractColumn<LocalTime, TimeColumn> implements
 
     @Override
     public TimeColumn where(Selection selection) {
-        return (TimeColumn) subset(selection);
+        return subset(selection);
+    }
+
+    /**
+     * Returns a new column holding the values of the given rows, copied in their internal form rather than formatted
+     * as strings and parsed back
+     */
+    @Override
+    public TimeColumn subset(Selection rows) {
+        TimeColumn column = emptyCopy(rows.size());
+        for (int row : rows) {
+            column.appendInternal(getIntInternal(row));
+        }
+        return column;
     }
 
     // fillWith methods
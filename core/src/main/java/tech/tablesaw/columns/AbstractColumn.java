@@ -28,6 +28,12 @@ public abstract class AbstractColumn<T, C extends AbstractColumn<T, C>> implemen
 
     private final ColumnType type;
 
+    private int modificationCount;
+
+    // set once the column has handed out the list that backs its values, which can be changed without the column
+    // knowing
+    private boolean valuesShared;
+
     public AbstractColumn(ColumnType type, String name) {
         this.type = type;
         setName(name);
@@ -62,6 +68,39 @@ public abstract class AbstractColumn<T, C extends AbstractColumn<T, C>> implemen
         return type;
     }
 
+    /**
+     * Returns a count that changes whenever the values of this column change, so that results computed from the
+     * values, like a table's cached sort order, can tell whether they are still valid
+     */
+    public int modificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records that the values of this column have changed. Subclasses call this from every method that modifies
+     * their values
+     */
+    protected void modified() {
+        modificationCount++;
+    }
+
+    /**
+     * Returns true if {@link #modificationCount()} counts every change to the values of this column. It stops doing
+     * so once the column has handed out the list that backs its values
+     */
+    public boolean isModificationCounted() {
+        return !valuesShared;
+    }
+
+    /**
+     * Records that the list backing the values of this column has been handed out, so that changes to the values
+     * can no longer be counted
+     */
+    protected void valuesShared() {
+        modified();
+        valuesShared = true;
+    }
+
     @Override
     public abstract C emptyCopy();
 
@@ -19,10 +19,13 @@ import com.google.common.primitives.Ints;
 import it.unimi.dsi.fastutil.ints.IntComparator;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.selection.Selection;
 import tech.tablesaw.table.RollingColumn;
 
+import java.time.Duration;
+
 import static tech.tablesaw.selection.Selection.selectNRowsAtRandom;
 
 /**
@@ -268,6 +271,14 @@ public interface Column {
         return new RollingColumn(this, windowSize);
     }
 
+    /**
+     * Returns a rolling column whose window for each row covers the given duration up to the row's time, using the
+     * given date-times, which must be sorted in ascending order, as the time of each row
+     */
+    default RollingColumn rolling(DateTimeColumn times, Duration window) {
+        return new RollingColumn(this, times, window);
+    }
+
     String getUnformattedString(int r);
 
     boolean isMissing(int rowNumber);
@@ -3,6 +3,7 @@ package tech.tablesaw.columns;
 import tech.tablesaw.api.ColumnType;
 import tech.tablesaw.io.TypeUtils;
 
+import java.nio.charset.Charset;
 import java.util.List;
 
 /**
@@ -40,6 +41,58 @@ public abstract class StringParser<T> {
         return s.isEmpty() || missingValueStrings.contains(s);
     }
 
+    /**
+     * Returns true if the string contains at least one ASCII digit. Used to reject values cheaply before trying a
+     * parse that reports failure by throwing an exception
+     */
+    protected static boolean containsDigit(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the given bytes are empty or spell one of the missing value strings in ASCII
+     */
+    protected boolean isMissing(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return true;
+        }
+        for (String missing : missingValueStrings) {
+            if (asciiEquals(missing, bytes, offset, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the given bytes are the ASCII encoding of the given string
+     */
+    protected static boolean asciiEquals(String s, byte[] bytes, int offset, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(i) != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the given bytes decoded as a string with the platform's default charset, as a reader over the same
+     * bytes would
+     */
+    protected static String decode(byte[] bytes, int offset, int length) {
+        return new String(bytes, offset, length, Charset.defaultCharset());
+    }
+
     public byte parseByte(String s) {
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + " doesn't support parsing to booleans");
     }
@@ -47,4 +100,50 @@ public abstract class StringParser<T> {
     public double parseDouble(String s) {
         throw new UnsupportedOperationException(this.getClass().getSimpleName() + " doesn't support parsing to booleans");
     }
+
+    /**
+     * Returns the packed int representation of the value, as used by date and time columns
+     */
+    public int parseInt(String s) {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + " doesn't support parsing to ints");
+    }
+
+    /**
+     * Returns the packed long representation of the value, as used by datetime columns
+     */
+    public long parseLong(String s) {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + " doesn't support parsing to longs");
+    }
+
+    /**
+     * Returns the value of the encoded text in the given bytes as a byte, like {@link #parseByte(String)}.
+     * Subclasses may parse the bytes directly, without creating a string
+     */
+    public byte parseByte(byte[] bytes, int offset, int length) {
+        return parseByte(decode(bytes, offset, length));
+    }
+
+    /**
+     * Returns the value of the encoded text in the given bytes as a double, like {@link #parseDouble(String)}.
+     * Subclasses may parse the bytes directly, without creating a string
+     */
+    public double parseDouble(byte[] bytes, int offset, int length) {
+        return parseDouble(decode(bytes, offset, length));
+    }
+
+    /**
+     * Returns the value of the encoded text in the given bytes as a packed int, like {@link #parseInt(String)}.
+     * Subclasses may parse the bytes directly, without creating a string
+     */
+    public int parseInt(byte[] bytes, int offset, int length) {
+        return parseInt(decode(bytes, offset, length));
+    }
+
+    /**
+     * Returns the value of the encoded text in the given bytes as a packed long, like {@link #parseLong(String)}.
+     * Subclasses may parse the bytes directly, without creating a string
+     */
+    public long parseLong(byte[] bytes, int offset, int length) {
+        return parseLong(decode(bytes, offset, length));
+    }
 }
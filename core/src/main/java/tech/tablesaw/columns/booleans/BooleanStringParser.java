@@ -73,5 +73,25 @@ public class BooleanStringParser extends StringParser<Boolean> {
             throw new IllegalArgumentException("Attempting to convert non-boolean value " + s + " to Boolean");
         }
     }
-}
 
+    /**
+     * Matches the bytes against the ASCII true and false strings, parsing from a string only when neither matches
+     */
+    @Override
+    public byte parseByte(byte[] bytes, int offset, int length) {
+        if (isMissing(bytes, offset, length)) {
+            return MISSING_VALUE;
+        }
+        for (String s : TRUE_STRINGS) {
+            if (asciiEquals(s, bytes, offset, length)) {
+                return BYTE_TRUE;
+            }
+        }
+        for (String s : FALSE_STRINGS) {
+            if (asciiEquals(s, bytes, offset, length)) {
+                return BYTE_FALSE;
+            }
+        }
+        return parseByte(decode(bytes, offset, length));
+    }
+}
@@ -1,6 +1,7 @@
 package tech.tablesaw.columns.dates;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntIterator;
 import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.columns.Column;
@@ -199,7 +200,7 @@ public interface DateFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int i = 0;
         IntIterator intIterator = column.intIterator();
-        for (int next : data()) {
+        for (int next : dataInternal()) {
             if (next == intIterator.nextInt()) {
                 results.add(i);
             }
@@ -227,7 +228,7 @@ public interface DateFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int i = 0;
         IntIterator intIterator = column.intIterator();
-        for (long next : data()) {
+        for (long next : dataInternal()) {
             if (next > intIterator.nextInt()) {
                 results.add(i);
             }
@@ -240,7 +241,7 @@ public interface DateFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int i = 0;
         IntIterator intIterator = column.intIterator();
-        for (long next : data()) {
+        for (long next : dataInternal()) {
             if (next < intIterator.nextInt()) {
                 results.add(i);
             }
@@ -260,4 +261,6 @@ public interface DateFilters extends Column {
     }
 
     IntArrayList data();
+
+    IntList dataInternal();
 }
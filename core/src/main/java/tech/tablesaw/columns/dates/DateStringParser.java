@@ -2,10 +2,13 @@ package tech.tablesaw.columns.dates;
 
 import com.google.common.collect.Lists;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.columns.StringParser;
 import tech.tablesaw.io.csv.CsvReadOptions;
 
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
@@ -39,6 +42,18 @@ public class DateStringParser extends StringParser<LocalDate> {
         if (isMissing(s)) {
             return true;
         }
+        if (formatter == DEFAULT_FORMATTER) {
+            // every default format has digits, and none has a colon, which would suggest a time
+            if (!containsDigit(s) || s.indexOf(':') >= 0) {
+                return false;
+            }
+            if (isIsoDate(s)) {
+                // the formatter resolves days up to 31 in any month to the month's last day
+                int month = digits(s, 5, 7);
+                int day = digits(s, 8, 10);
+                return digits(s, 0, 4) >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+            }
+        }
         try {
             LocalDate.parse(s, formatter.withLocale(locale));
             return true;
@@ -64,6 +79,88 @@ public class DateStringParser extends StringParser<LocalDate> {
         return LocalDate.parse(s, formatter);
     }
 
+    /**
+     * Returns the date as a packed int. Valid ISO dates (yyyy-MM-dd) read with the default formatter are packed
+     * directly from their characters, without creating a LocalDate
+     */
+    @Override
+    public int parseInt(String s) {
+        if (isMissing(s)) {
+            return DateColumn.MISSING_VALUE;
+        }
+        if (formatter == DEFAULT_FORMATTER && isIsoDate(s)) {
+            int year = digits(s, 0, 4);
+            int month = digits(s, 5, 7);
+            int day = digits(s, 8, 10);
+            if (month >= 1 && month <= 12 && day >= 1
+                    && day <= Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+                return PackedLocalDate.pack(year, month, day);
+            }
+        }
+        return PackedLocalDate.pack(parse(s));
+    }
+
+    /**
+     * Parses ISO dates, like {@code 2018-07-31}, directly from the bytes when the default formatter is used. Anything
+     * else is parsed from a string
+     */
+    @Override
+    public int parseInt(byte[] bytes, int offset, int length) {
+        if (isMissing(bytes, offset, length)) {
+            return DateColumn.MISSING_VALUE;
+        }
+        if (formatter == DEFAULT_FORMATTER && isIsoDate(bytes, offset, length)) {
+            int year = digits(bytes, offset, offset + 4);
+            int month = digits(bytes, offset + 5, offset + 7);
+            int day = digits(bytes, offset + 8, offset + 10);
+            if (month >= 1 && month <= 12 && day >= 1
+                    && day <= Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+                return PackedLocalDate.pack(year, month, day);
+            }
+        }
+        return parseInt(decode(bytes, offset, length));
+    }
+
+    private static boolean isIsoDate(byte[] bytes, int offset, int length) {
+        if (length != 10 || bytes[offset + 4] != '-' || bytes[offset + 7] != '-') {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (i != 4 && i != 7 && (bytes[offset + i] < '0' || bytes[offset + i] > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(byte[] bytes, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    private static boolean isIsoDate(String s) {
+        if (s.length() != 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (i != 4 && i != 7 && (s.charAt(i) < '0' || s.charAt(i) > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(String s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (s.charAt(i) - '0');
+        }
+        return value;
+    }
+
     // Formats that we accept in parsing dates from strings
     private static final DateTimeFormatter dtf1 = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final DateTimeFormatter dtf2 = DateTimeFormatter.ofPattern("MM/dd/yyyy");
@@ -1,6 +1,7 @@
 package tech.tablesaw.columns.datetimes;
 
 import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.longs.LongIterator;
 import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.columns.Column;
@@ -54,7 +55,7 @@ public interface DateTimeFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int i = 0;
         LongIterator intIterator = column.longIterator();
-        for (long next : data()) {
+        for (long next : dataInternal()) {
             if (next > intIterator.nextLong()) {
                 results.add(i);
             }
@@ -67,7 +68,7 @@ public interface DateTimeFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int i = 0;
         LongIterator intIterator = column.longIterator();
-        for (long next : data()) {
+        for (long next : dataInternal()) {
             if (next < intIterator.nextLong()) {
                 results.add(i);
             }
@@ -90,7 +91,7 @@ public interface DateTimeFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int i = 0;
         LongIterator intIterator = column.longIterator();
-        for (long next : data()) {
+        for (long next : dataInternal()) {
             if (next == intIterator.nextLong()) {
                 results.add(i);
             }
@@ -232,8 +233,9 @@ public interface DateTimeFilters extends Column {
 
     default Selection eval(LongPredicate predicate) {
         Selection bitmap = new BitmapBackedSelection();
+        LongList data = dataInternal();
         for (int idx = 0; idx < size(); idx++) {
-            long next = data().getLong(idx);
+            long next = data.getLong(idx);
             if (predicate.test(next)) {
                 bitmap.add(idx);
             }
@@ -243,8 +245,9 @@ public interface DateTimeFilters extends Column {
 
     default Selection eval(LongBiPredicate predicate, long value) {
         Selection bitmap = new BitmapBackedSelection();
+        LongList data = dataInternal();
         for (int idx = 0; idx < size(); idx++) {
-            long next = data().getLong(idx);
+            long next = data.getLong(idx);
             if (predicate.test(next, value)) {
                 bitmap.add(idx);
             }
@@ -319,6 +322,8 @@ public interface DateTimeFilters extends Column {
 
     LongArrayList data();
 
+    LongList dataInternal();
+
     long getLongInternal(int index);
 
     LocalDateTime get(int index);
@@ -74,6 +74,10 @@ public class DateTimeStringParser extends StringParser<LocalDateTime> {
         if (isMissing(s)) {
             return true;
         }
+        // every default format has digits and a colon
+        if (formatter == DEFAULT_FORMATTER && (!containsDigit(s) || s.indexOf(':') < 0)) {
+            return false;
+        }
         try {
             LocalDateTime.parse(s, formatter.withLocale(locale));
             return true;
@@ -91,4 +95,9 @@ public class DateTimeStringParser extends StringParser<LocalDateTime> {
         value = Strings.padStart(value, 4, '0');
         return LocalDateTime.parse(value, formatter);
     }
+
+    @Override
+    public long parseLong(String value) {
+        return PackedLocalDateTime.pack(parse(value));
+    }
 }
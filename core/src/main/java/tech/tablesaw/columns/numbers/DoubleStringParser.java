@@ -13,6 +13,18 @@ public class DoubleStringParser extends StringParser<Double> {
 
     private static final Pattern COMMA_PATTERN = Pattern.compile(",");
 
+    // the powers of ten that are exactly representable as doubles
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    // the characters, other than those of plain decimals and whitespace, that can appear in a string accepted by
+    // Double.parseDouble: hexadecimal digits and markers, NaN, Infinity, and the f and d type suffixes
+    private static final String OTHER_DOUBLE_CHARACTERS = "abcdfABCDFxXpPNIinty";
+
+    // integers up to this value are exactly representable as doubles
+    private static final long MAX_EXACT_INTEGER = 1L << 53;
+
     public DoubleStringParser(ColumnType columnType) {
         super(columnType);
     }
@@ -29,6 +41,12 @@ public class DoubleStringParser extends StringParser<Double> {
         if (isMissing(s)) {
             return true;
         }
+        if (isPlainDecimal(s)) {
+            return true;
+        }
+        if (!mayBeDouble(s)) {
+            return false;
+        }
         try {
             Double.parseDouble(s);
             return true;
@@ -38,21 +56,131 @@ public class DoubleStringParser extends StringParser<Double> {
         }
     }
 
+    /**
+     * Returns true if the string is a decimal number, like {@code -12.5} or {@code 1e-3}, without surrounding
+     * whitespace or a type suffix
+     */
+    private static boolean isPlainDecimal(String s) {
+        int length = s.length();
+        int i = 0;
+        if (i < length && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            i++;
+        }
+        int digits = 0;
+        while (i < length && isDigit(s.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < length && s.charAt(i) == '.') {
+            i++;
+            while (i < length && isDigit(s.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < length && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < length && isDigit(s.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    /**
+     * Returns false if the string certainly isn't accepted by {@link Double#parseDouble(String)}, either because it
+     * has a character that can't appear in any double, or because it only has the characters of a plain decimal and
+     * isn't one. Otherwise, as for hexadecimal numbers, NaN, or values with whitespace, only parsing can tell
+     */
+    private static boolean mayBeDouble(String s) {
+        boolean plainCharactersOnly = true;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isDigit(c) || c == '.' || c == '-' || c == '+' || c == 'e' || c == 'E') {
+                continue;
+            }
+            if (c > ' ' && OTHER_DOUBLE_CHARACTERS.indexOf(c) < 0) {
+                return false;
+            }
+            plainCharactersOnly = false;
+        }
+        return !plainCharactersOnly;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     @Override
     public Double parse(String s) {
+        return parseDouble(s);
+    }
+
+    @Override
+    public double parseDouble(String s) {
         if (isMissing(s)) {
             return DoubleColumn.MISSING_VALUE;
         }
-        final Matcher matcher = COMMA_PATTERN.matcher(s);
-        return Double.parseDouble(matcher.replaceAll(""));
+        // only strip thousands separators when there are any, to avoid a matcher and a new string per cell
+        if (s.indexOf(',') >= 0) {
+            final Matcher matcher = COMMA_PATTERN.matcher(s);
+            return Double.parseDouble(matcher.replaceAll(""));
+        }
+        return Double.parseDouble(s);
     }
 
+    /**
+     * Parses plain decimals, like {@code -12.375}, directly from the bytes. When the digits form an integer that is
+     * exactly representable as a double, and there are at most 22 of them after the point, a single division by an
+     * exact power of ten gives the correctly rounded result, the same as {@link Double#parseDouble(String)}. Anything
+     * else is parsed from a string
+     */
     @Override
-    public double parseDouble(String s) {
-        if (isMissing(s)) {
+    public double parseDouble(byte[] bytes, int offset, int length) {
+        if (isMissing(bytes, offset, length)) {
             return DoubleColumn.MISSING_VALUE;
         }
-        final Matcher matcher = COMMA_PATTERN.matcher(s);
-        return Double.parseDouble(matcher.replaceAll(""));
+        int i = offset;
+        int end = offset + length;
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+                if (mantissa > MAX_EXACT_INTEGER) {
+                    break;
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+        if (i == end && digits > 0 && mantissa <= MAX_EXACT_INTEGER && fractionDigits < POWERS_OF_TEN.length) {
+            double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+            return negative ? -value : value;
+        }
+        return parseDouble(decode(bytes, offset, length));
     }
 }
@@ -22,6 +22,7 @@ import tech.tablesaw.selection.Selection;
 import java.util.Collection;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static tech.tablesaw.columns.strings.StringPredicates.*;
 
@@ -88,7 +89,9 @@ public interface StringFilters extends Column {
     }
 
     default Selection matchesRegex(String string) {
-        return eval(matchesRegex, string);
+        // compile the pattern once, rather than for each value tested
+        Pattern pattern = Pattern.compile(string);
+        return eval(value -> pattern.matcher(value).matches());
     }
 
     default Selection isAlpha() {
@@ -27,6 +27,8 @@ import tech.tablesaw.columns.Column;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -35,72 +37,43 @@ import java.util.stream.Collectors;
  */
 public interface StringMapFunctions extends Column {
 
-    default StringColumn upperCase() {
-        StringColumn newColumn = StringColumn.create(this.name() + "[ucase]");
-
+    /**
+     * Returns a new column with the given name, holding the result of applying the function to each value in this
+     * column. String columns apply the function once per distinct value, so the functions passed here should
+     * depend only on the value
+     */
+    default StringColumn mapStrings(String name, Function<String, String> function) {
+        StringColumn newColumn = StringColumn.create(name, size());
         for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            if (value == null) {
-                newColumn.append(StringColumn.MISSING_VALUE);
-            } else {
-                newColumn.append(value.toUpperCase());
-            }
+            newColumn.append(function.apply(getString(r)));
         }
         return newColumn;
     }
 
-    default StringColumn lowerCase() {
-
-        StringColumn newColumn = StringColumn.create(name() + "[lcase]");
+    default StringColumn upperCase() {
+        return mapStrings(name() + "[ucase]", String::toUpperCase);
+    }
 
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(value.toLowerCase());
-        }
-        return newColumn;
+    default StringColumn lowerCase() {
+        return mapStrings(name() + "[lcase]", String::toLowerCase);
     }
 
     default StringColumn trim() {
-
-        StringColumn newColumn = StringColumn.create(name() + "[trim]");
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(value.trim());
-        }
-        return newColumn;
+        return mapStrings(name() + "[trim]", String::trim);
     }
 
     default StringColumn replaceAll(String regex, String replacement) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[repl]");
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(value.replaceAll(regex, replacement));
-        }
-        return newColumn;
+        Pattern pattern = Pattern.compile(regex);
+        return mapStrings(name() + "[repl]", value -> pattern.matcher(value).replaceAll(replacement));
     }
 
     default StringColumn replaceFirst(String regex, String replacement) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[repl]");
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(value.replaceFirst(regex, replacement));
-        }
-        return newColumn;
+        Pattern pattern = Pattern.compile(regex);
+        return mapStrings(name() + "[repl]", value -> pattern.matcher(value).replaceFirst(replacement));
     }
 
     default StringColumn substring(int start, int end) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[sub]");
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(value.substring(start, end));
-        }
-        return newColumn;
+        return mapStrings(name() + "[sub]", value -> value.substring(start, end));
     }
 
     /**
@@ -108,14 +81,7 @@ public interface StringMapFunctions extends Column {
      * @throws java.lang.StringIndexOutOfBoundsException if any string in the column is shorter than start
      */
     default StringColumn substring(int start) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[sub]");
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(value.substring(start));
-        }
-        return newColumn;
+        return mapStrings(name() + "[sub]", value -> value.substring(start));
     }
 
     /**
@@ -124,43 +90,19 @@ public interface StringMapFunctions extends Column {
      * @param maxWidth  the maximum width of the resulting strings, including the elipses.
      */
     default StringColumn abbreviate(int maxWidth) {
-        StringColumn newColumn = StringColumn.create(name() + "[abbr]");
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(StringUtils.abbreviate(value, maxWidth));
-        }
-        return newColumn;
+        return mapStrings(name() + "[abbr]", value -> StringUtils.abbreviate(value, maxWidth));
     }
 
     default StringColumn format(String formatString) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[formatted]");
-        for (int r = 0; r < size(); r++) {
-            newColumn.append(String.format(formatString, getString(r)));
-        }
-        return newColumn;
+        return mapStrings(name() + "[formatted]", value -> String.format(formatString, value));
     }
 
     default StringColumn padEnd(int minLength, char padChar) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[pad]");
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(Strings.padEnd(value, minLength, padChar));
-        }
-        return newColumn;
+        return mapStrings(name() + "[pad]", value -> Strings.padEnd(value, minLength, padChar));
     }
 
     default StringColumn padStart(int minLength, char padChar) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[pad]");
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            newColumn.append(Strings.padStart(value, minLength, padChar));
-        }
-        return newColumn;
+        return mapStrings(name() + "[pad]", value -> Strings.padStart(value, minLength, padChar));
     }
 
     default StringColumn commonPrefix(Column column2) {
@@ -227,11 +169,7 @@ public interface StringMapFunctions extends Column {
      * @return the new column
      */
     default StringColumn concatenate(String append) {
-        StringColumn newColumn = StringColumn.create(name() + "[append]", this.size());
-        for (int r = 0; r < size(); r++) {
-            newColumn.append(getString(r) + append);
-        }
-        return newColumn;
+        return mapStrings(name() + "[append]", value -> value + append);
     }
 
     /**
@@ -243,35 +181,29 @@ public interface StringMapFunctions extends Column {
      * @return the new column
      */
     default StringColumn replaceAll(String[] regexArray, String replacement) {
-
-        StringColumn newColumn = StringColumn.create(name() + "[repl]", this.size());
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            for (String regex : regexArray) {
-                value = value.replaceAll(regex, replacement);
-            }
-            newColumn.append(value);
+        Pattern[] patterns = new Pattern[regexArray.length];
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = Pattern.compile(regexArray[i]);
         }
-        return newColumn;
+        return mapStrings(name() + "[repl]", value -> {
+            for (Pattern pattern : patterns) {
+                value = pattern.matcher(value).replaceAll(replacement);
+            }
+            return value;
+        });
     }
 
     default StringColumn tokenizeAndSort(String separator) {
-        StringColumn newColumn = StringColumn.create(name() + "[sorted]", this.size());
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
+        Splitter splitter = Splitter.on(separator);
+        splitter = splitter.trimResults();
+        splitter = splitter.omitEmptyStrings();
+        Splitter tokenSplitter = splitter;
 
-            Splitter splitter = Splitter.on(separator);
-            splitter = splitter.trimResults();
-            splitter = splitter.omitEmptyStrings();
-            List<String> tokens =
-                    new ArrayList<>(splitter.splitToList(value));
+        return mapStrings(name() + "[sorted]", value -> {
+            List<String> tokens = new ArrayList<>(tokenSplitter.splitToList(value));
             Collections.sort(tokens);
-            value = String.join(separator, tokens);
-            newColumn.append(value);
-        }
-        return newColumn;
+            return String.join(separator, tokens);
+        });
     }
 
     default NumberColumn countTokens(String separator) {
@@ -349,35 +281,27 @@ public interface StringMapFunctions extends Column {
      * @return a {@link StringColumn}
      */
     default StringColumn tokenizeAndSort() {
-        StringColumn newColumn = StringColumn.create(name() + "[sorted]", this.size());
+        Splitter splitter = Splitter.on(CharMatcher.whitespace());
+        splitter = splitter.trimResults();
+        splitter = splitter.omitEmptyStrings();
+        Splitter tokenSplitter = splitter;
 
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-            Splitter splitter = Splitter.on(CharMatcher.whitespace());
-            splitter = splitter.trimResults();
-            splitter = splitter.omitEmptyStrings();
-            List<String> tokens = new ArrayList<>(splitter.splitToList(value));
+        return mapStrings(name() + "[sorted]", value -> {
+            List<String> tokens = new ArrayList<>(tokenSplitter.splitToList(value));
             Collections.sort(tokens);
-            value = String.join(" ", tokens);
-            newColumn.append(value);
-        }
-        return newColumn;
+            return String.join(" ", tokens);
+        });
     }
 
     default StringColumn tokenizeAndRemoveDuplicates(String separator) {
-        StringColumn newColumn = StringColumn.create(name() + "[without duplicates]", this.size());
-
-        for (int r = 0; r < size(); r++) {
-            String value = getString(r);
-
-            Splitter splitter = Splitter.on(separator);
-            splitter = splitter.trimResults();
-            splitter = splitter.omitEmptyStrings();
-            List<String> tokens = new ArrayList<>(splitter.splitToList(value));
-
-            String result = tokens.stream().distinct().collect(Collectors.joining(separator));
-            newColumn.append(result);
-        }
-        return newColumn;
+        Splitter splitter = Splitter.on(separator);
+        splitter = splitter.trimResults();
+        splitter = splitter.omitEmptyStrings();
+        Splitter tokenSplitter = splitter;
+
+        return mapStrings(name() + "[without duplicates]", value -> {
+            List<String> tokens = new ArrayList<>(tokenSplitter.splitToList(value));
+            return tokens.stream().distinct().collect(Collectors.joining(separator));
+        });
     }
 }
\ No newline at end of file
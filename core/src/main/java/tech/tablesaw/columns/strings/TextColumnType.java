@@ -0,0 +1,62 @@
+package tech.tablesaw.columns.strings;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import tech.tablesaw.api.Row;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.columns.AbstractColumnType;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.io.csv.CsvReadOptions;
+
+public class TextColumnType extends AbstractColumnType {
+
+    public static final TextColumnType INSTANCE =
+            new TextColumnType("",
+                    4,
+                    "TEXT",
+                    "Text");
+    public static final StringStringParser DEFAULT_PARSER = new StringStringParser(INSTANCE);
+
+    private TextColumnType(Comparable<?> missingValue, int byteSize, String name, String printerFriendlyName) {
+        super(missingValue, byteSize, name, printerFriendlyName);
+    }
+
+    @Override
+    public TextColumn create(String name) {
+        return TextColumn.create(name);
+    }
+
+    @Override
+    public StringStringParser defaultParser() {
+        return new StringStringParser(this);
+    }
+
+    @Override
+    public StringStringParser customParser(CsvReadOptions options) {
+        return new StringStringParser(this, options);
+    }
+
+    @Override
+    public void copy(IntArrayList rows, Column oldColumn, Column newColumn) {
+        TextColumn oldText = (TextColumn) oldColumn;
+        TextColumn newText = (TextColumn) newColumn;
+        for (int index : rows) {
+            newText.append(oldText, index);
+        }
+    }
+
+    @Override
+    public void copyFromRows(IntArrayList rows, Column newColumn, Row row) {
+        TextColumn newText = (TextColumn) newColumn;
+        for (int index : rows) {
+            row.at(index);
+            newText.append(row.getString(newColumn.name()));
+        }
+    }
+
+    @Override
+    public boolean compare(int rowNumber, Column temp, Column original) {
+        TextColumn tempText = (TextColumn) temp;
+        TextColumn originalText = (TextColumn) original;
+        return originalText.compareRows(rowNumber, tempText, tempText.size() - 1) == 0;
+    }
+}
@@ -1,6 +1,7 @@
 package tech.tablesaw.columns.times;
 
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntIterator;
 import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
@@ -32,8 +33,9 @@ public interface TimeFilters extends Column {
 
     default Selection eval(IntPredicate predicate) {
         Selection selection = new BitmapBackedSelection();
+        IntList data = dataInternal();
         for (int idx = 0; idx < size(); idx++) {
-            int next = data().getInt(idx);
+            int next = data.getInt(idx);
             if (predicate.test(next)) {
                 selection.add(idx);
             }
@@ -43,8 +45,9 @@ public interface TimeFilters extends Column {
 
     default Selection eval(IntBiPredicate predicate, int value) {
         Selection selection = new BitmapBackedSelection();
+        IntList data = dataInternal();
         for (int idx = 0; idx < size(); idx++) {
-            int next = data().getInt(idx);
+            int next = data.getInt(idx);
             if (predicate.test(next, value)) {
                 selection.add(idx);
             }
@@ -134,7 +137,7 @@ public interface TimeFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int packedLocalTime = PackedLocalTime.pack(value);
         int i = 0;
-        for (int next : data()) {
+        for (int next : dataInternal()) {
             if (packedLocalTime != next) {
                 results.add(i);
             }
@@ -147,7 +150,7 @@ public interface TimeFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int packedLocalTime = PackedLocalTime.pack(value);
         int i = 0;
-        for (int next : data()) {
+        for (int next : dataInternal()) {
             if (packedLocalTime == next) {
                 results.add(i);
             }
@@ -165,7 +168,7 @@ public interface TimeFilters extends Column {
         Selection results = new BitmapBackedSelection();
         int i = 0;
         IntIterator intIterator = column.intIterator();
-        for (int next : data()) {
+        for (int next : dataInternal()) {
             if (next == intIterator.nextInt()) {
                 results.add(i);
             }
@@ -203,6 +206,8 @@ public interface TimeFilters extends Column {
 
     IntArrayList data();
 
+    IntList dataInternal();
+
     LocalTime get(int index);
 
     /**
@@ -67,6 +67,10 @@ public class TimeStringParser extends StringParser<LocalTime> {
         if (isMissing(s)) {
             return true;
         }
+        // every default format has digits and a colon
+        if (formatter == DEFAULT_FORMATTER && (!containsDigit(s) || s.indexOf(':') < 0)) {
+            return false;
+        }
         try {
             LocalTime.parse(s, formatter.withLocale(locale));
             return true;
@@ -85,6 +89,11 @@ public class TimeStringParser extends StringParser<LocalTime> {
         return LocalTime.parse(value, parserFormatter);
     }
 
+    @Override
+    public int parseInt(String value) {
+        return PackedLocalTime.pack(parse(value));
+    }
+
     // A formatter that handles time formats defined above
     /**
      * A formatter for parsing. Useful when the user has specified that a numeric-like column is really supposed to be a time
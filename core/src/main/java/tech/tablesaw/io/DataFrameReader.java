@@ -15,18 +15,23 @@
 package tech.tablesaw.io;
 
 import tech.tablesaw.api.Table;
+import tech.tablesaw.io.binary.BinaryReader;
 import tech.tablesaw.io.csv.CsvReadOptions;
 import tech.tablesaw.io.csv.CsvReader;
 import tech.tablesaw.io.html.HtmlTableReader;
 import tech.tablesaw.io.jdbc.SqlResultSetReader;
 
+import javax.sql.DataSource;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.stream.Stream;
 
 public class DataFrameReader {
 
@@ -62,11 +67,76 @@ public class DataFrameReader {
         return CsvReader.read(options);
     }
 
+    public Stream<Table> csvChunks(CsvReadOptions.Builder options, int rowsPerChunk) throws IOException {
+        return csvChunks(options.build(), rowsPerChunk);
+    }
+
+    /**
+     * Reads the file as a stream of tables of up to {@code rowsPerChunk} rows each, with the same columns, so that a
+     * file too large to read into one table can be processed one chunk at a time. The stream should be closed after use
+     */
+    public Stream<Table> csvChunks(CsvReadOptions options, int rowsPerChunk) throws IOException {
+        return CsvReader.readChunks(options, rowsPerChunk);
+    }
+
     public Table db(ResultSet resultSet, String tableName) throws SQLException {
         return SqlResultSetReader.read(resultSet, tableName);
     }
 
+    /**
+     * Runs the query and reads its results, with the driver fetching {@code fetchSize} rows at a time
+     */
+    public Table db(Connection connection, String sql, String tableName, int fetchSize) throws SQLException {
+        return SqlResultSetReader.read(connection, sql, tableName, fetchSize);
+    }
+
+    /**
+     * Runs the query in {@code partitions} ranges of the numeric {@code partitionColumn} concurrently, each on its own
+     * connection, and returns the results in order of their ranges
+     *
+     * @see SqlResultSetReader#read(DataSource, String, String, String, long, long, int)
+     */
+    public Table db(DataSource dataSource, String sql, String tableName, String partitionColumn,
+                    long lowerBound, long upperBound, int partitions) throws SQLException {
+        return SqlResultSetReader.read(dataSource, sql, tableName, partitionColumn, lowerBound, upperBound, partitions);
+    }
+
+    /**
+     * Runs the query in {@code partitions} ranges of the date {@code partitionColumn} concurrently, each on its own
+     * connection, and returns the results in order of their ranges
+     *
+     * @see SqlResultSetReader#read(DataSource, String, String, String, LocalDate, LocalDate, int)
+     */
+    public Table db(DataSource dataSource, String sql, String tableName, String partitionColumn,
+                    LocalDate lowerBound, LocalDate upperBound, int partitions) throws SQLException {
+        return SqlResultSetReader.read(dataSource, sql, tableName, partitionColumn, lowerBound, upperBound, partitions);
+    }
+
     public Table html(String url) throws IOException {
         return csv(new HtmlTableReader().tableToCsv(url), url);
     }
+
+    public Table binary(String file) throws IOException {
+        return binary(new File(file));
+    }
+
+    /**
+     * Reads a table written with {@link DataFrameWriter#binary(File)}, reading its columns in parallel
+     */
+    public Table binary(File file) throws IOException {
+        return BinaryReader.read(file);
+    }
+
+    public Table binaryMapped(String file) throws IOException {
+        return binaryMapped(new File(file));
+    }
+
+    /**
+     * Returns a table over a file written with {@link DataFrameWriter#binary(File)} whose columns, except for string and
+     * text columns, are backed by the memory-mapped file rather than read onto the heap, so that the table can be larger
+     * than the heap
+     */
+    public Table binaryMapped(File file) throws IOException {
+        return BinaryReader.readMapped(file);
+    }
 }
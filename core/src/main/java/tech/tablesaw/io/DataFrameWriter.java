@@ -15,14 +15,18 @@
 package tech.tablesaw.io;
 
 import tech.tablesaw.api.Table;
+import tech.tablesaw.io.binary.BinaryWriter;
 import tech.tablesaw.io.csv.CsvWriteOptions;
 import tech.tablesaw.io.csv.CsvWriter;
 import tech.tablesaw.io.html.HtmlTableWriter;
+import tech.tablesaw.io.jdbc.SqlTableWriter;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.sql.Connection;
+import java.sql.SQLException;
 
 public class DataFrameWriter {
 
@@ -59,4 +63,22 @@ public class DataFrameWriter {
     public void html(OutputStream stream) {
         HtmlTableWriter.write(table, stream);
     }
+
+    public void binary(String file) throws IOException {
+        binary(new File(file));
+    }
+
+    /**
+     * Writes the table in the binary columnar format, which can be read back much faster than CSV
+     */
+    public void binary(File file) throws IOException {
+        BinaryWriter.write(table, file);
+    }
+
+    /**
+     * Inserts the rows of the table into an existing database table with the given name, in batches
+     */
+    public void db(Connection connection, String tableName) throws SQLException {
+        SqlTableWriter.write(table, connection, tableName);
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.binary;
+
+import java.nio.ByteOrder;
+
+/**
+ * Constants of the binary table format.
+ * <p>
+ * A file starts with {@link #MAGIC} and {@link #VERSION}, followed by one block per column holding the column's data
+ * in its internal primitive form:
+ * <ul>
+ * <li>numbers as doubles</li>
+ * <li>dates and times as packed ints, and date-times as packed longs</li>
+ * <li>booleans as bytes</li>
+ * <li>strings as their dictionary, a count followed by a key and a UTF-8 string for each entry, then an int key for
+ * each row</li>
+ * <li>text as the length in bytes and the UTF-8 bytes of each row's value</li>
+ * </ul>
+ * After the blocks comes a footer with the table name, the row and column counts, and for each column its name, type
+ * name, and the offset and length of its block. The file ends with the offset of the footer and {@link #MAGIC}, so
+ * that the footer can be found without reading the blocks, and the blocks can then be read independently. Strings are
+ * written as their length in bytes followed by their UTF-8 bytes, and all numbers are little-endian
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x57415354; // "TSAW" in little-endian order
+
+    static final int VERSION = 1;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    // the size of the trailing footer offset and magic number
+    static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    static final int BUFFER_SIZE = 1 << 20;
+
+    // Don't instantiate
+    private BinaryFormat() {}
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.binary;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static tech.tablesaw.io.binary.BinaryFormat.MAGIC;
+import static tech.tablesaw.io.binary.BinaryFormat.TRAILER_SIZE;
+import static tech.tablesaw.io.binary.BinaryFormat.VERSION;
+
+/**
+ * Reads tables written by {@link BinaryWriter}. Each column's data is read straight into the primitive array backing
+ * the new column, and since the file's footer gives the offset of every column, the columns can be read concurrently
+ */
+public final class BinaryReader {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BinaryReader() {}
+
+    /**
+     * Reads a table from the given file, reading its columns concurrently with one thread per available processor
+     *
+     * @throws IOException if the file can't be read, or isn't in the binary format
+     */
+    public static Table read(File file) throws IOException {
+        return read(file, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Reads a table from the given file, reading its columns concurrently with the given number of threads
+     *
+     * @throws IOException if the file can't be read, or isn't in the binary format
+     */
+    public static Table read(File file, int threads) throws IOException {
+        Preconditions.checkArgument(threads > 0, "The number of threads must be positive, but was %s", threads);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Directory directory = Directory.read(channel, file);
+            Column[] columns = new Column[directory.columnCount()];
+            if (threads == 1 || columns.length <= 1) {
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = readColumn(channel, directory, i);
+                }
+            } else {
+                readColumnsInParallel(channel, directory, columns, threads);
+            }
+            return Table.create(directory.tableName, columns);
+        }
+    }
+
+    /**
+     * Returns a table over the given file without reading its data onto the heap. Number, date, time, date-time and
+     * boolean columns are backed by the memory-mapped file, so their data is paged in by the operating system as it
+     * is accessed, and the table can be larger than the heap. String columns are read onto the heap, since their
+     * dictionaries are needed to look up any value, and so are text columns, whose rows have no fixed size.
+     * <p>
+     * The mapped columns can be filtered, summarized and otherwise read like any other column. Modifying one first
+     * copies its data onto the heap
+     *
+     * @throws IOException if the file can't be read, or isn't in the binary format
+     */
+    public static Table readMapped(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Directory directory = Directory.read(channel, file);
+            Column[] columns = new Column[directory.columnCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = mapColumn(channel, directory, i);
+            }
+            // the mappings stay valid after the channel is closed
+            return Table.create(directory.tableName, columns);
+        }
+    }
+
+    private static void readColumnsInParallel(FileChannel channel, Directory directory, Column[] columns,
+                                              int threads) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, columns.length));
+        try {
+            List<Future<Column>> futures = new ArrayList<>(columns.length);
+            for (int i = 0; i < columns.length; i++) {
+                final int c = i;
+                futures.add(executor.submit(() -> readColumn(channel, directory, c)));
+            }
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading columns", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Column readColumn(FileChannel channel, Directory directory, int column) throws IOException {
+        String name = directory.names[column];
+        ColumnType type = directory.types[column];
+        int rowCount = directory.rowCount;
+        BlockInput in = new BlockInput(channel, directory.offsets[column]);
+        if (type == ColumnType.DOUBLE) {
+            double[] values = new double[rowCount];
+            in.getDoubles(values);
+            return DoubleColumn.createInternal(name, DoubleArrayList.wrap(values));
+        } else if (type == ColumnType.LOCAL_DATE) {
+            int[] values = new int[rowCount];
+            in.getInts(values);
+            return DateColumn.createInternal(name, IntArrayList.wrap(values));
+        } else if (type == ColumnType.LOCAL_TIME) {
+            int[] values = new int[rowCount];
+            in.getInts(values);
+            return TimeColumn.createInternal(name, IntArrayList.wrap(values));
+        } else if (type == ColumnType.LOCAL_DATE_TIME) {
+            long[] values = new long[rowCount];
+            in.getLongs(values);
+            return DateTimeColumn.createInternal(name, LongArrayList.wrap(values));
+        } else if (type == ColumnType.BOOLEAN) {
+            byte[] values = new byte[rowCount];
+            in.getBytes(values);
+            return BooleanColumn.createInternal(name, ByteArrayList.wrap(values));
+        } else if (type == ColumnType.TEXT) {
+            // the block holds a length for each row, and the bytes of all the values
+            long byteCount = directory.lengths[column] - (long) Integer.BYTES * rowCount;
+            Preconditions.checkState(byteCount <= Integer.MAX_VALUE,
+                    "Text column %s has too many bytes to read: %s", name, byteCount);
+            byte[] bytes = new byte[(int) byteCount];
+            int[] lengths = new int[rowCount];
+            int offset = 0;
+            for (int row = 0; row < rowCount; row++) {
+                lengths[row] = in.getInt();
+                in.getBytes(bytes, offset, lengths[row]);
+                offset += lengths[row];
+            }
+            return TextColumn.createInternal(name, bytes, lengths);
+        } else {
+            int dictionarySize = in.getInt();
+            int[] dictionaryKeys = new int[dictionarySize];
+            String[] dictionaryValues = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionaryKeys[i] = in.getInt();
+                dictionaryValues[i] = in.getString();
+            }
+            int[] keys = new int[rowCount];
+            in.getInts(keys);
+            return StringColumn.createInternal(name, dictionaryKeys, dictionaryValues, keys);
+        }
+    }
+
+    private static Column mapColumn(FileChannel channel, Directory directory, int column) throws IOException {
+        String name = directory.names[column];
+        ColumnType type = directory.types[column];
+        int rowCount = directory.rowCount;
+        if (type == ColumnType.STRING || type == ColumnType.TEXT) {
+            return readColumn(channel, directory, column);
+        }
+        MappedBlock block = MappedBlock.map(channel, directory.offsets[column], directory.lengths[column]);
+        if (type == ColumnType.DOUBLE) {
+            return DoubleColumn.createInternal(name, new MappedLists.Doubles(block, rowCount));
+        } else if (type == ColumnType.LOCAL_DATE) {
+            return DateColumn.createInternal(name, new MappedLists.Ints(block, rowCount));
+        } else if (type == ColumnType.LOCAL_TIME) {
+            return TimeColumn.createInternal(name, new MappedLists.Ints(block, rowCount));
+        } else if (type == ColumnType.LOCAL_DATE_TIME) {
+            return DateTimeColumn.createInternal(name, new MappedLists.Longs(block, rowCount));
+        } else {
+            return BooleanColumn.createInternal(name, new MappedLists.Bytes(block, rowCount));
+        }
+    }
+
+    /**
+     * The contents of a file's footer: the table's name and row count, and the name, type and block of each column
+     */
+    private static final class Directory {
+
+        private String tableName;
+        private int rowCount;
+        private String[] names;
+        private ColumnType[] types;
+        private long[] offsets;
+        private long[] lengths;
+
+        static Directory read(FileChannel channel, File file) throws IOException {
+            long size = channel.size();
+            if (size < 2 * Integer.BYTES + TRAILER_SIZE) {
+                throw new IOException(file + " is not a Tablesaw binary file");
+            }
+            BlockInput header = new BlockInput(channel, 0, 2 * Integer.BYTES);
+            int magic = header.getInt();
+            int version = header.getInt();
+            BlockInput trailer = new BlockInput(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+            long footerOffset = trailer.getLong();
+            if (magic != MAGIC || trailer.getInt() != MAGIC) {
+                throw new IOException(file + " is not a Tablesaw binary file");
+            }
+            if (version > VERSION) {
+                throw new IOException(file + " was written in version " + version
+                        + " of the binary format, which is newer than this version of Tablesaw supports");
+            }
+
+            BlockInput footer = new BlockInput(channel, footerOffset);
+            Directory directory = new Directory();
+            directory.tableName = footer.getString();
+            directory.rowCount = footer.getInt();
+            int columnCount = footer.getInt();
+            directory.names = new String[columnCount];
+            directory.types = new ColumnType[columnCount];
+            directory.offsets = new long[columnCount];
+            directory.lengths = new long[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                directory.names[i] = footer.getString();
+                directory.types[i] = ColumnType.valueOf(footer.getString());
+                directory.offsets[i] = footer.getLong();
+                directory.lengths[i] = footer.getLong();
+                if (!BinaryWriter.isSupported(directory.types[i])) {
+                    throw new IOException("Column " + directory.names[i] + " has unsupported type "
+                            + directory.types[i].name());
+                }
+            }
+            return directory;
+        }
+
+        int columnCount() {
+            return names.length;
+        }
+    }
+}
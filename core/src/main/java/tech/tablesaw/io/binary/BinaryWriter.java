@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.binary;
+
+import it.unimi.dsi.fastutil.bytes.ByteList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import static tech.tablesaw.io.binary.BinaryFormat.MAGIC;
+import static tech.tablesaw.io.binary.BinaryFormat.VERSION;
+
+/**
+ * Writes tables in a binary columnar format, which stores the internal data of each column as is, so that the table
+ * can be read back without parsing any text. See {@link BinaryReader}
+ */
+public final class BinaryWriter {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BinaryWriter() {}
+
+    /**
+     * Writes the given table to a file, replacing the file if it exists
+     *
+     * @throws IOException              if the write fails
+     * @throws IllegalArgumentException if the table has a column of a type that the format doesn't support
+     */
+    public static void write(Table table, File file) throws IOException {
+        for (Column column : table.columns()) {
+            if (!isSupported(column.type())) {
+                throw new IllegalArgumentException("Column " + column.name() + " of type " + column.type().name()
+                        + " can't be written in the binary format");
+            }
+        }
+
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try (BlockOutput out = new BlockOutput(channel)) {
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+
+            int columnCount = table.columnCount();
+            long[] offsets = new long[columnCount];
+            long[] lengths = new long[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                offsets[i] = out.position();
+                writeColumn(out, table.column(i));
+                lengths[i] = out.position() - offsets[i];
+            }
+
+            long footerOffset = out.position();
+            out.putString(table.name());
+            out.putInt(table.rowCount());
+            out.putInt(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                Column column = table.column(i);
+                out.putString(column.name());
+                out.putString(column.type().name());
+                out.putLong(offsets[i]);
+                out.putLong(lengths[i]);
+            }
+            out.putLong(footerOffset);
+            out.putInt(MAGIC);
+        }
+    }
+
+    static boolean isSupported(ColumnType type) {
+        return type == ColumnType.DOUBLE
+                || type == ColumnType.LOCAL_DATE
+                || type == ColumnType.LOCAL_TIME
+                || type == ColumnType.LOCAL_DATE_TIME
+                || type == ColumnType.BOOLEAN
+                || type == ColumnType.STRING
+                || type == ColumnType.TEXT;
+    }
+
+    private static void writeColumn(BlockOutput out, Column column) throws IOException {
+        ColumnType type = column.type();
+        if (type == ColumnType.DOUBLE) {
+            DoubleColumn doubles = (DoubleColumn) column;
+            for (int row = 0; row < doubles.size(); row++) {
+                out.putDouble(doubles.get(row));
+            }
+        } else if (type == ColumnType.LOCAL_DATE) {
+            writeInts(out, ((DateColumn) column).dataInternal());
+        } else if (type == ColumnType.LOCAL_TIME) {
+            writeInts(out, ((TimeColumn) column).dataInternal());
+        } else if (type == ColumnType.LOCAL_DATE_TIME) {
+            LongList data = ((DateTimeColumn) column).dataInternal();
+            for (int row = 0; row < data.size(); row++) {
+                out.putLong(data.getLong(row));
+            }
+        } else if (type == ColumnType.BOOLEAN) {
+            ByteList data = ((BooleanColumn) column).dataInternal();
+            for (int row = 0; row < data.size(); row++) {
+                out.putByte(data.getByte(row));
+            }
+        } else if (type == ColumnType.TEXT) {
+            TextColumn text = (TextColumn) column;
+            for (int row = 0; row < text.size(); row++) {
+                byte[] bytes = text.asBytes(row);
+                out.putInt(bytes.length);
+                out.putBytes(bytes);
+            }
+        } else {
+            StringColumn strings = (StringColumn) column;
+            Int2ObjectMap<String> dictionary = strings.keyToValueMap();
+            out.putInt(dictionary.size());
+            for (Int2ObjectMap.Entry<String> entry : dictionary.int2ObjectEntrySet()) {
+                out.putInt(entry.getIntKey());
+                out.putString(entry.getValue());
+            }
+            for (int row = 0; row < strings.size(); row++) {
+                out.putInt(strings.getInt(row));
+            }
+        }
+    }
+
+    private static void writeInts(BlockOutput out, IntList data) throws IOException {
+        for (int row = 0; row < data.size(); row++) {
+            out.putInt(data.getInt(row));
+        }
+    }
+}
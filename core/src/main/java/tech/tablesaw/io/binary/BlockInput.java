@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+import static tech.tablesaw.io.binary.BinaryFormat.BUFFER_SIZE;
+import static tech.tablesaw.io.binary.BinaryFormat.BYTE_ORDER;
+
+/**
+ * Reads primitive values from a file channel, starting at a given offset, through a direct buffer. Since it only uses
+ * positional reads, any number of inputs can read from the same channel concurrently
+ */
+final class BlockInput {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+
+    BlockInput(FileChannel channel, long position) {
+        this(channel, position, BUFFER_SIZE);
+    }
+
+    BlockInput(FileChannel channel, long position, int bufferSize) {
+        this.channel = channel;
+        this.position = position;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).order(BYTE_ORDER);
+        buffer.limit(0);
+    }
+
+    byte getByte() throws IOException {
+        ensureAvailable(Byte.BYTES);
+        return buffer.get();
+    }
+
+    int getInt() throws IOException {
+        ensureAvailable(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    long getLong() throws IOException {
+        ensureAvailable(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    String getString() throws IOException {
+        byte[] bytes = new byte[getInt()];
+        getBytes(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    void getBytes(byte[] values) throws IOException {
+        getBytes(values, 0, values.length);
+    }
+
+    void getBytes(byte[] values, int offset, int length) throws IOException {
+        int end = offset + length;
+        while (offset < end) {
+            ensureAvailable(Byte.BYTES);
+            int count = Math.min(buffer.remaining(), end - offset);
+            buffer.get(values, offset, count);
+            offset += count;
+        }
+    }
+
+    void getInts(int[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ensureAvailable(Integer.BYTES);
+            int count = Math.min(buffer.remaining() / Integer.BYTES, values.length - offset);
+            buffer.asIntBuffer().get(values, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+        }
+    }
+
+    void getLongs(long[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ensureAvailable(Long.BYTES);
+            int count = Math.min(buffer.remaining() / Long.BYTES, values.length - offset);
+            buffer.asLongBuffer().get(values, offset, count);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            offset += count;
+        }
+    }
+
+    void getDoubles(double[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ensureAvailable(Double.BYTES);
+            int count = Math.min(buffer.remaining() / Double.BYTES, values.length - offset);
+            buffer.asDoubleBuffer().get(values, offset, count);
+            buffer.position(buffer.position() + count * Double.BYTES);
+            offset += count;
+        }
+    }
+
+    /**
+     * Makes sure that at least the given number of bytes can be read from the buffer, refilling it from the channel if
+     * needed
+     */
+    private void ensureAvailable(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file at offset " + position);
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static tech.tablesaw.io.binary.BinaryFormat.BYTE_ORDER;
+
+/**
+ * A read-only block of a file, mapped into memory so that the operating system pages it in on demand, and evicts it
+ * under memory pressure, instead of holding it on the heap. Since a single buffer can map at most 2 GB, the block is
+ * mapped as a series of 1 GB segments; values never straddle two segments, because their sizes divide the segment
+ * size
+ */
+final class MappedBlock {
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final ByteBuffer[] segments;
+
+    private MappedBlock(ByteBuffer[] segments) {
+        this.segments = segments;
+    }
+
+    static MappedBlock map(FileChannel channel, long offset, long length) throws IOException {
+        int segmentCount = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        ByteBuffer[] segments = new ByteBuffer[Math.max(segmentCount, 1)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            long size = Math.min(length - start, 1L << SEGMENT_SHIFT);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start, Math.max(size, 0))
+                    .order(BYTE_ORDER);
+        }
+        return new MappedBlock(segments);
+    }
+
+    byte getByte(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+    }
+
+    int getInt(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].getInt((int) (position & SEGMENT_MASK));
+    }
+
+    long getLong(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].getLong((int) (position & SEGMENT_MASK));
+    }
+
+    double getDouble(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].getDouble((int) (position & SEGMENT_MASK));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.binary;
+
+import it.unimi.dsi.fastutil.bytes.AbstractByteList;
+import it.unimi.dsi.fastutil.doubles.AbstractDoubleList;
+import it.unimi.dsi.fastutil.ints.AbstractIntList;
+import it.unimi.dsi.fastutil.longs.AbstractLongList;
+
+/**
+ * Read-only primitive lists over the mapped block of a column. Columns created over these lists read their values
+ * straight from the mapped file, and copy them onto the heap only if they are modified
+ */
+final class MappedLists {
+
+    // Don't instantiate
+    private MappedLists() {}
+
+    static final class Doubles extends AbstractDoubleList {
+
+        private final MappedBlock block;
+        private final int size;
+
+        Doubles(MappedBlock block, int size) {
+            this.block = block;
+            this.size = size;
+        }
+
+        @Override
+        public double getDouble(int index) {
+            checkIndex(index, size);
+            return block.getDouble((long) index * Double.BYTES);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    static final class Ints extends AbstractIntList {
+
+        private final MappedBlock block;
+        private final int size;
+
+        Ints(MappedBlock block, int size) {
+            this.block = block;
+            this.size = size;
+        }
+
+        @Override
+        public int getInt(int index) {
+            checkIndex(index, size);
+            return block.getInt((long) index * Integer.BYTES);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    static final class Longs extends AbstractLongList {
+
+        private final MappedBlock block;
+        private final int size;
+
+        Longs(MappedBlock block, int size) {
+            this.block = block;
+            this.size = size;
+        }
+
+        @Override
+        public long getLong(int index) {
+            checkIndex(index, size);
+            return block.getLong((long) index * Long.BYTES);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    static final class Bytes extends AbstractByteList {
+
+        private final MappedBlock block;
+        private final int size;
+
+        Bytes(MappedBlock block, int size) {
+            this.block = block;
+            this.size = size;
+        }
+
+        @Override
+        public byte getByte(int index) {
+            checkIndex(index, size);
+            return block.getByte(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+    }
+}
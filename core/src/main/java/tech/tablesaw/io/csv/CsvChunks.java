@@ -0,0 +1,337 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.csv;
+
+import com.opencsv.CSVParser;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits a CSV file into byte ranges of about the same size that each hold only whole records, so that the ranges can
+ * be parsed independently.
+ * <p>
+ * The file is cut into one segment per chunk at evenly spaced offsets, and the segments are scanned concurrently. A
+ * line break only ends a record when it is outside quotes, and whether a segment starts inside quotes isn't known
+ * until the segments before it have been scanned, so each segment is scanned from every state the parser could be in
+ * at its first byte. The states mostly merge within the first field, leaving two, inside and outside quotes, to follow
+ * to the end of the segment. Chaining the segments' results from the start of the file then gives the state at each
+ * segment start, and so the first record boundary in each segment, without scanning any byte on one thread.
+ * <p>
+ * The states follow opencsv's parser, including its escape character, so quoted values containing line breaks,
+ * doubled quotes or escaped quotes are never split
+ */
+final class CsvChunks {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte QUOTE = '"';
+    private static final byte ESCAPE = CSVParser.DEFAULT_ESCAPE_CHARACTER;
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    // the bits of a parser state: inside quotes, opencsv's in-field flag, and whether the next byte was already taken
+    // by the escape or quote before it
+    private static final int QUOTED = 1;
+    private static final int IN_FIELD = 2;
+    private static final int SKIP_NEXT = 4;
+    private static final int STATE_COUNT = 8;
+
+    // added to the state returned by step() when the byte ends a record
+    private static final int RECORD_END = 8;
+
+    // the state at the start of a record
+    private static final int RECORD_START = 0;
+
+    // chunk i is the bytes from offsets[i] (inclusive) to offsets[i + 1] (exclusive)
+    private final long[] offsets;
+
+    // the row number of the first record in each chunk, counting the header if there is one
+    private final long[] firstRows;
+
+    private CsvChunks(long[] offsets, long[] firstRows) {
+        this.offsets = offsets;
+        this.firstRows = firstRows;
+    }
+
+    /**
+     * Returns at most one chunk per thread in the options, covering all the records in the file after the header if
+     * there is one. The file's segments are scanned by the given executor
+     */
+    static CsvChunks split(CsvReadOptions options, ExecutorService executor) throws IOException {
+        File file = options.file();
+        long length = file.length();
+        int segmentCount = (int) Math.max(1, Math.min(options.threads(), length));
+        byte separator = (byte) options.separator();
+
+        Segment[] segments;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            List<Callable<Segment>> scans = new ArrayList<>(segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                long from = length * i / segmentCount;
+                long to = length * (i + 1) / segmentCount;
+                scans.add(() -> Segment.scan(channel, length, from, to, separator));
+            }
+            segments = getAll(executor, scans, file).toArray(new Segment[0]);
+        }
+
+        LongArrayList offsets = new LongArrayList(segmentCount + 1);
+        LongArrayList firstRows = new LongArrayList(segmentCount + 1);
+        boolean inHeader = options.header();
+        if (!inHeader) {
+            offsets.add(0);
+            firstRows.add(0);
+        }
+        int state = RECORD_START;
+        long records = 0;
+        for (Segment segment : segments) {
+            long recordEnd = segment.firstRecordEnds[state];
+            if (recordEnd >= 0 && recordEnd < length
+                    && (inHeader || recordEnd > offsets.getLong(offsets.size() - 1))) {
+                // the header ends the first chunk that would otherwise start in the first segment
+                if (inHeader || segment.from > 0) {
+                    offsets.add(recordEnd);
+                    firstRows.add(records + 1);
+                }
+                inHeader = false;
+            }
+            records += segment.recordCounts[state];
+            state = segment.endStates[state];
+        }
+        if (offsets.isEmpty()) {
+            // a header with nothing after it, and so no data
+            offsets.add(length);
+            firstRows.add(1);
+        }
+        offsets.add(length);
+        return new CsvChunks(offsets.toLongArray(), firstRows.toLongArray());
+    }
+
+    /**
+     * Runs the tasks with the executor and returns their results, rethrowing the first failure
+     */
+    static <T> List<T> getAll(ExecutorService executor, List<Callable<T>> tasks, File file) throws IOException {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + file, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns the parser state after the byte b, which is followed by next, or by -1 at the end of the file, plus
+     * {@link #RECORD_END} if the byte ends a record. This follows CSVParser.parseLine() with its default settings
+     */
+    private static int step(int state, byte b, int next, byte separator) {
+        if ((state & SKIP_NEXT) != 0) {
+            return state & ~SKIP_NEXT;
+        }
+        if (b == NEW_LINE || b == CARRIAGE_RETURN && next != NEW_LINE) {
+            // a line break in quotes continues the field on the next line
+            return (state & QUOTED) != 0 ? state : RECORD_START | RECORD_END;
+        }
+        if (b == CARRIAGE_RETURN) {
+            // the \r of \r\n, which ends the line at the \n
+            return state;
+        }
+        boolean quotedOrInField = (state & (QUOTED | IN_FIELD)) != 0;
+        if (b == ESCAPE) {
+            // an escape before anything but a quote or another escape is dropped
+            return quotedOrInField && (next == QUOTE || next == ESCAPE) ? state | SKIP_NEXT : state;
+        }
+        if (b == QUOTE) {
+            int toggled = state ^ IN_FIELD;
+            return quotedOrInField && next == QUOTE ? toggled | SKIP_NEXT : toggled ^ QUOTED;
+        }
+        if (b == separator && (state & QUOTED) == 0) {
+            return RECORD_START;
+        }
+        return state | IN_FIELD;
+    }
+
+    /**
+     * The result of scanning a segment of the file from each parser state its first byte could be read in
+     */
+    private static final class Segment {
+
+        private final long from;
+
+        // for each state at the start of the segment: the end of the first record ending in the segment, or -1 if
+        // none does, the number of records ending in the segment, and the state after its last byte
+        private final long[] firstRecordEnds = new long[STATE_COUNT];
+        private final long[] recordCounts = new long[STATE_COUNT];
+        private final int[] endStates = new int[STATE_COUNT];
+
+        private Segment(long from) {
+            this.from = from;
+            Arrays.fill(firstRecordEnds, -1);
+        }
+
+        /**
+         * Scans the bytes from from (inclusive) to to (exclusive), following the states that are still different
+         * from each other as one class each, and merging classes as soon as they reach the same state
+         */
+        private static Segment scan(FileChannel channel, long length, long from, long to, byte separator)
+                throws IOException {
+            Segment segment = new Segment(from);
+            // the first segment can only start at the start of a record
+            int classCount = from == 0 ? 1 : STATE_COUNT;
+            int[] classStates = new int[STATE_COUNT];
+            int[] classOfState = new int[STATE_COUNT];
+            long[] classFirstEnds = new long[STATE_COUNT];
+            long[] classCounts = new long[STATE_COUNT];
+            for (int s = 0; s < STATE_COUNT; s++) {
+                classStates[s] = s;
+                classOfState[s] = from == 0 ? 0 : s;
+                classFirstEnds[s] = -1;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE + 1);
+            byte[] bytes = buffer.array();
+            long position = from;
+            while (position < to) {
+                // read one byte past the block, if there is one, to look ahead from the block's last byte
+                buffer.clear();
+                buffer.limit((int) Math.min(BUFFER_SIZE + 1, length - position));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        break;
+                    }
+                }
+                int filled = buffer.position();
+                int blockLength = (int) Math.min(BUFFER_SIZE, to - position);
+                for (int i = 0; i < blockLength; i++) {
+                    byte b = bytes[i];
+                    int next = i + 1 < filled ? bytes[i + 1] : -1;
+                    for (int c = 0; c < classCount; c++) {
+                        int state = step(classStates[c], b, next, separator);
+                        if ((state & RECORD_END) != 0) {
+                            state &= ~RECORD_END;
+                            if (classFirstEnds[c] < 0) {
+                                classFirstEnds[c] = position + i + 1;
+                            }
+                            classCounts[c]++;
+                        }
+                        classStates[c] = state;
+                    }
+                    if (classCount > 1) {
+                        classCount = segment.merge(classCount, classStates, classOfState, classFirstEnds,
+                                classCounts);
+                    }
+                }
+                position += blockLength;
+            }
+            segment.flush(classStates, classOfState, classFirstEnds, classCounts);
+            return segment;
+        }
+
+        /**
+         * Merges the classes that have reached the same state, moving what they've counted so far to the states they
+         * started from. Returns the new number of classes
+         */
+        private int merge(int classCount, int[] classStates, int[] classOfState, long[] classFirstEnds,
+                          long[] classCounts) {
+            boolean duplicates = false;
+            for (int c = 1; c < classCount && !duplicates; c++) {
+                for (int d = 0; d < c; d++) {
+                    if (classStates[c] == classStates[d]) {
+                        duplicates = true;
+                        break;
+                    }
+                }
+            }
+            if (!duplicates) {
+                return classCount;
+            }
+            flush(classStates, classOfState, classFirstEnds, classCounts);
+            int[] merged = new int[classCount];
+            int mergedCount = 0;
+            for (int c = 0; c < classCount; c++) {
+                int target = mergedCount;
+                for (int d = 0; d < mergedCount; d++) {
+                    if (classStates[d] == classStates[c]) {
+                        target = d;
+                        break;
+                    }
+                }
+                if (target == mergedCount) {
+                    classStates[mergedCount++] = classStates[c];
+                }
+                merged[c] = target;
+            }
+            for (int s = 0; s < STATE_COUNT; s++) {
+                classOfState[s] = merged[classOfState[s]];
+            }
+            Arrays.fill(classFirstEnds, 0, mergedCount, -1);
+            Arrays.fill(classCounts, 0, mergedCount, 0);
+            return mergedCount;
+        }
+
+        /**
+         * Adds what each class has counted since it was formed to the states it started from
+         */
+        private void flush(int[] classStates, int[] classOfState, long[] classFirstEnds,
+                           long[] classCounts) {
+            for (int s = 0; s < STATE_COUNT; s++) {
+                int c = classOfState[s];
+                if (firstRecordEnds[s] < 0) {
+                    firstRecordEnds[s] = classFirstEnds[c];
+                }
+                recordCounts[s] += classCounts[c];
+                endStates[s] = classStates[c];
+            }
+        }
+    }
+
+    int size() {
+        return firstRows.length;
+    }
+
+    long start(int chunk) {
+        return offsets[chunk];
+    }
+
+    long end(int chunk) {
+        return offsets[chunk + 1];
+    }
+
+    long firstRow(int chunk) {
+        return firstRows[chunk];
+    }
+}
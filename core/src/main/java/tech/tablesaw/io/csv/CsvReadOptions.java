@@ -14,6 +14,7 @@
 
 package tech.tablesaw.io.csv;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import tech.tablesaw.api.ColumnType;
 
@@ -26,6 +27,11 @@ import java.util.Locale;
 
 public class CsvReadOptions {
 
+    /**
+     * The most bytes read from the start of the input to detect column types when sampling, unless set otherwise
+     */
+    public static final long DEFAULT_MAX_SAMPLE_BYTES = 64L << 20;
+
     private final File file;
     private final Reader reader;
     private final String tableName;
@@ -38,6 +44,10 @@ public class CsvReadOptions {
     private final String timeFormat;
     private final Locale locale;
     private final String missingValueIndicator;
+    private final int threads;
+    private final int maxSampleRows;
+    private final long maxSampleBytes;
+    private final boolean detectText;
 
     private CsvReadOptions(CsvReadOptions.Builder builder) {
         file = builder.file;
@@ -51,6 +61,14 @@ public class CsvReadOptions {
         timeFormat = builder.timeFormat;
         dateTimeFormat = builder.dateTimeFormat;
         missingValueIndicator = builder.missingValueIndicator;
+        threads = builder.threads;
+        maxSampleRows = builder.maxSampleRows;
+        if (builder.maxSampleBytes == null) {
+            maxSampleBytes = sample ? DEFAULT_MAX_SAMPLE_BYTES : Long.MAX_VALUE;
+        } else {
+            maxSampleBytes = builder.maxSampleBytes;
+        }
+        detectText = builder.detectText;
 
         if (builder.locale == null) {
             locale = Locale.getDefault();
@@ -118,6 +136,22 @@ public class CsvReadOptions {
         return locale;
     }
 
+    public int threads() {
+        return threads;
+    }
+
+    public int maxSampleRows() {
+        return maxSampleRows;
+    }
+
+    public long maxSampleBytes() {
+        return maxSampleBytes;
+    }
+
+    public boolean detectText() {
+        return detectText;
+    }
+
     public DateTimeFormatter dateTimeFormatter() {
         if (Strings.isNullOrEmpty(dateTimeFormat)) {
             return null;
@@ -153,6 +187,10 @@ public class CsvReadOptions {
         private String dateTimeFormat;
         private Locale locale;
         private String missingValueIndicator;
+        private int threads = 1;
+        private int maxSampleRows = Integer.MAX_VALUE;
+        private Long maxSampleBytes;
+        private boolean detectText = false;
 
         public Builder file(File file) {
             this.file = file;
@@ -210,6 +248,49 @@ public class CsvReadOptions {
             return this;
         }
 
+        /**
+         * Sets the number of threads used to parse the rows. With more than one thread, the file is split into
+         * chunks of whole records that are parsed concurrently and then appended in file order. Only input read
+         * from a file is split; input from a stream or reader is always parsed by the calling thread
+         */
+        public Builder threads(int threads) {
+            Preconditions.checkArgument(threads > 0, "The number of threads must be positive, but was %s", threads);
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of rows, after the header, read to detect the column types. There is no limit by
+         * default
+         */
+        public Builder maxSampleRows(int maxSampleRows) {
+            Preconditions.checkArgument(maxSampleRows > 0,
+                    "The maximum number of sample rows must be positive, but was %s", maxSampleRows);
+            this.maxSampleRows = maxSampleRows;
+            return this;
+        }
+
+        /**
+         * Sets the approximate maximum number of bytes read from the start of the input to detect the column types.
+         * Detection stops at the end of the record in which the limit is passed. By default, up to
+         * {@link #DEFAULT_MAX_SAMPLE_BYTES} are read when sampling, and the whole input otherwise
+         */
+        public Builder maxSampleBytes(long maxSampleBytes) {
+            Preconditions.checkArgument(maxSampleBytes > 0,
+                    "The maximum number of sample bytes must be positive, but was %s", maxSampleBytes);
+            this.maxSampleBytes = maxSampleBytes;
+            return this;
+        }
+
+        /**
+         * Sets whether type detection may choose {@link ColumnType#TEXT} rather than {@link ColumnType#STRING} for
+         * columns whose sampled values are nearly all distinct. It doesn't by default
+         */
+        public Builder detectText(boolean detectText) {
+            this.detectText = detectText;
+            return this;
+        }
+
         public Builder columnTypes(ColumnType[] columnTypes) {
             this.columnTypes = columnTypes;
             return this;
@@ -14,18 +14,30 @@
 
 package tech.tablesaw.io.csv;
 
+import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
+import com.google.common.io.CountingInputStream;
 import com.opencsv.CSVParser;
 import com.opencsv.CSVParserBuilder;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import org.apache.commons.lang3.StringUtils;
+import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.columns.StringParser;
+import tech.tablesaw.columns.dates.DateStringParser;
+import tech.tablesaw.columns.datetimes.DateTimeStringParser;
+import tech.tablesaw.columns.times.TimeStringParser;
 import tech.tablesaw.io.TypeUtils;
 import tech.tablesaw.io.UnicodeBOMInputStream;
 
@@ -38,10 +50,26 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static tech.tablesaw.api.ColumnType.*;
 
@@ -59,6 +87,16 @@ public class CsvReader {
     private static List<ColumnType> typeArray =
             Lists.newArrayList(LOCAL_DATE_TIME, LOCAL_TIME, LOCAL_DATE, BOOLEAN, DOUBLE, STRING);
 
+    // type detection candidates, as bits at the types' positions in typeArray
+    private static final int ALL_TYPES = (1 << typeArray.size()) - 1;
+    private static final int STRING_ONLY = 1 << typeArray.indexOf(STRING);
+
+    // a string column is read as text when at least this many of its first non-missing values are sampled...
+    private static final int TEXT_SAMPLE_SIZE = 1000;
+
+    // ...and at least this fraction of them are distinct
+    private static final double TEXT_DISTINCT_RATIO = 0.9;
+
     /**
      * Private constructor to prevent instantiation
      */
@@ -69,16 +107,84 @@ public class CsvReader {
         byte[] bytes = options.reader() != null
                 ? CharStreams.toString(options.reader()).getBytes() : null;
 
-        ColumnType[] types;
+        ColumnType[] types = columnTypes(options, bytes);
+
+        try (CSVReader reader = csvReader(options, bytes)) {
+            String[] headerNames = headerNames(options, types, reader);
+            if (headerNames == null) {
+                return Table.create(options.tableName());
+            }
+            Header header = new Header(options, types, headerNames);
+            Table table = header.table;
+            String[] columnNames = header.columnNames;
+            int[] columnIndexes = header.columnIndexes;
+
+            if (options.threads() > 1 && options.file() != null) {
+                addRowsInParallel(options, types, table, columnNames, columnIndexes);
+            } else {
+                long firstRowNumber = options.header() ? 1L : 0L;
+                if (CsvTokenizer.supports(options)) {
+                    addRowsFromBytes(options, types, 0, options.file().length(), options.header(), table,
+                            columnNames, columnIndexes, firstRowNumber);
+                } else {
+                    addRows(options, types, reader, table, columnNames, columnIndexes, firstRowNumber);
+                }
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Returns the rows of the file as a stream of tables holding up to {@code rowsPerChunk} rows each, in file order.
+     * All the tables have the same columns, which are typed once, before the first chunk is read, and only one chunk
+     * is held in memory at a time, so a file much larger than the heap can be filtered or summarized chunk by chunk.
+     * <p>
+     * The stream reads the file lazily, and should be closed once it is no longer needed
+     *
+     * @throws IOException if the file cannot be opened, or its header or column types cannot be read
+     */
+    public static Stream<Table> readChunks(CsvReadOptions options, int rowsPerChunk) throws IOException {
+        Preconditions.checkArgument(rowsPerChunk > 0, "rowsPerChunk must be positive, but was %s", rowsPerChunk);
+
+        byte[] bytes = options.reader() != null
+                ? CharStreams.toString(options.reader()).getBytes() : null;
+
+        ColumnType[] types = columnTypes(options, bytes);
+
+        CSVReader reader = csvReader(options, bytes);
+        String[] headerNames;
+        try {
+            headerNames = headerNames(options, types, reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        if (headerNames == null) {
+            reader.close();
+            return Stream.empty();
+        }
+        ChunkIterator chunks = new ChunkIterator(options, types, reader,
+                new Header(options, types, headerNames), rowsPerChunk);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(chunks::close);
+    }
+
+    /**
+     * Returns the column types given in the options, or detects them from the file if none were given
+     */
+    private static ColumnType[] columnTypes(CsvReadOptions options, byte[] bytes) throws IOException {
         if (options.columnTypes() != null) {
-            types = options.columnTypes();
-        } else {
-            InputStream detectTypesStream = options.reader() != null
-                    ? new ByteArrayInputStream(bytes)
-                    : new FileInputStream(options.file());
-            types = detectColumnTypes(detectTypesStream, options);
+            return options.columnTypes();
+        }
+        try (InputStream detectTypesStream = options.reader() != null
+                ? new ByteArrayInputStream(bytes)
+                : new FileInputStream(options.file())) {
+            return detectColumnTypes(detectTypesStream, options);
         }
+    }
 
+    private static CSVReader csvReader(CsvReadOptions options, byte[] bytes) throws IOException {
         // All other read methods end up here, make sure we don't have leading Unicode BOM
         InputStream stream = options.reader() != null
                 ? new ByteArrayInputStream(bytes)
@@ -91,22 +197,34 @@ public class CsvReader {
                 .withSeparator(options.separator())
                 .build();
 
-        try (CSVReader reader = new CSVReaderBuilder(new InputStreamReader(ubis)).withCSVParser(csvParser).build()) {
-            Table table = Table.create(options.tableName());
+        return new CSVReaderBuilder(new InputStreamReader(ubis)).withCSVParser(csvParser).build();
+    }
 
-            String[] headerNames;
-            if (options.header()) {
-                headerNames = reader.readNext();
-                if (headerNames == null) {
-                    return table;
-                }
-            } else {
-                headerNames = makeColumnNames(types);
-            }
+    /**
+     * Returns the names in the header row, or placeholder names if the file has no header. Returns null if the file
+     * should have a header but is empty
+     */
+    private static String[] headerNames(CsvReadOptions options, ColumnType[] types, CSVReader reader)
+            throws IOException {
+        return options.header() ? reader.readNext() : makeColumnNames(types);
+    }
+
+    /**
+     * The columns of the table being read, and the position in each record of the value for each of them
+     */
+    private static final class Header {
+
+        // an empty table with the columns that aren't skipped
+        private final Table table;
+        private final String[] columnNames;
+        private final int[] columnIndexes;
+
+        private Header(CsvReadOptions options, ColumnType[] types, String[] headerNames) {
+            table = Table.create(options.tableName());
 
             List<String> headerRow = Lists.newArrayList(headerNames);
 
-            String[] columnNames = selectColumnNames(headerRow, types);
+            columnNames = selectColumnNames(headerRow, types);
 
             cleanNames(headerRow);
             for (int x = 0; x < types.length; x++) {
@@ -119,52 +237,298 @@ public class CsvReader {
                     table.addColumns(newColumn);
                 }
             }
-            int[] columnIndexes = new int[columnNames.length];
+            columnIndexes = new int[columnNames.length];
             for (int i = 0; i < columnIndexes.length; i++) {
                 // get the index in the original table, which includes skipped fields
                 columnIndexes[i] = headerRow.indexOf(columnNames[i]);
             }
+        }
+    }
 
-            addRows(options, types, reader, table, columnNames, columnIndexes);
-            return table;
+    /**
+     * Reads the records of a file into tables of a fixed number of rows. The next record is read ahead, so that the
+     * iterator can tell whether another chunk follows without creating it
+     */
+    private static final class ChunkIterator implements Iterator<Table> {
+
+        private final ColumnType[] types;
+        private final CSVReader reader;
+        private final Header header;
+        private final int rowsPerChunk;
+        private final StringParser[] parsers;
+
+        private String[] nextLine;
+        private long rowNumber;
+
+        private ChunkIterator(CsvReadOptions options, ColumnType[] types, CSVReader reader, Header header,
+                              int rowsPerChunk) throws IOException {
+            this.types = types;
+            this.reader = reader;
+            this.header = header;
+            this.rowsPerChunk = rowsPerChunk;
+            // the parsers are resolved once, and shared by every chunk
+            this.parsers = new StringParser[header.columnIndexes.length];
+            for (int i = 0; i < parsers.length; i++) {
+                parsers[i] = header.table.column(i).type().customParser(options);
+            }
+            this.rowNumber = options.header() ? 1L : 0L;
+            this.nextLine = reader.readNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public Table next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Table chunk = header.table.emptyCopy();
+            Column[] columns = new Column[parsers.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = chunk.column(i);
+            }
+            try {
+                while (nextLine != null && chunk.rowCount() < rowsPerChunk) {
+                    addRow(nextLine, columns, parsers, types, header.columnNames, header.columnIndexes, rowNumber);
+                    rowNumber++;
+                    nextLine = reader.readNext();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return chunk;
+        }
+
+        private void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Splits the file into one chunk of whole records per thread and parses the chunks concurrently, the first into
+     * the table itself and the others into empty copies of it. The other chunks' columns are then appended to the
+     * table's columns in file order, one column per task
+     */
+    private static void addRowsInParallel(CsvReadOptions options, ColumnType[] types, Table table,
+                                          String[] columnNames, int[] columnIndexes) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        try {
+            CsvChunks chunks = CsvChunks.split(options, executor);
+            List<Table> chunkTables = new ArrayList<>(chunks.size());
+            List<Callable<Void>> parseTasks = new ArrayList<>(chunks.size());
+            for (int chunk = 0; chunk < chunks.size(); chunk++) {
+                final int c = chunk;
+                chunkTables.add(chunk == 0 ? table : table.emptyCopy());
+                parseTasks.add(() -> {
+                    if (CsvTokenizer.supports(options)) {
+                        addRowsFromBytes(options, types, chunks.start(c), chunks.end(c), false,
+                                chunkTables.get(c), columnNames, columnIndexes, chunks.firstRow(c));
+                    } else {
+                        try (CSVReader reader = chunkReader(options, chunks.start(c), chunks.end(c))) {
+                            addRows(options, types, reader, chunkTables.get(c), columnNames, columnIndexes,
+                                    chunks.firstRow(c));
+                        }
+                    }
+                    return null;
+                });
+            }
+            CsvChunks.getAll(executor, parseTasks, options.file());
+
+            List<Callable<Void>> appendTasks = new ArrayList<>(table.columnCount());
+            for (int column = 0; column < table.columnCount(); column++) {
+                final int c = column;
+                appendTasks.add(() -> {
+                    Column target = table.column(c);
+                    for (int chunk = 1; chunk < chunkTables.size(); chunk++) {
+                        target.append(chunkTables.get(chunk).column(c));
+                    }
+                    return null;
+                });
+            }
+            CsvChunks.getAll(executor, appendTasks, options.file());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns a reader for the records in the given byte range of the file
+     */
+    private static CSVReader chunkReader(CsvReadOptions options, long start, long end) throws IOException {
+        FileInputStream fis = new FileInputStream(options.file());
+        fis.getChannel().position(start);
+        InputStream stream = ByteStreams.limit(fis, end - start);
+        if (start == 0) {
+            UnicodeBOMInputStream ubis = new UnicodeBOMInputStream(stream);
+            ubis.skipBOM();
+            stream = ubis;
         }
+        CSVParser csvParser = new CSVParserBuilder()
+                .withSeparator(options.separator())
+                .build();
+        return new CSVReaderBuilder(new InputStreamReader(stream)).withCSVParser(csvParser).build();
     }
 
-    private static void addRows(CsvReadOptions options, ColumnType[] types, CSVReader reader, Table table, String[] columnNames, int[] columnIndexes) throws IOException {
-        long rowNumber = options.header() ? 1L : 0L;
+    private static void addRows(CsvReadOptions options, ColumnType[] types, CSVReader reader, Table table,
+                                String[] columnNames, int[] columnIndexes, long firstRowNumber) throws IOException {
+        long rowNumber = firstRowNumber;
         String[] nextLine;
 
+        // resolve each column and its parser once, rather than once per cell
+        Column[] columns = new Column[columnIndexes.length];
+        StringParser[] parsers = new StringParser[columnIndexes.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = table.column(i);
+            parsers[i] = columns[i].type().customParser(options);
+        }
+
         // Add the rows
         while ((nextLine = reader.readNext()) != null) {
+            addRow(nextLine, columns, parsers, types, columnNames, columnIndexes, rowNumber);
+            rowNumber++;
+        }
+    }
 
-            if (nextLine.length < types.length) {
-                if (nextLine.length == 1 && Strings.isNullOrEmpty(nextLine[0])) {
-                    System.err.println("Warning: Invalid CSV file. Row "
-                            + rowNumber
-                            + " is empty. Continuing.");
-                } else {
-                    Exception e = new IndexOutOfBoundsException("Row number " + rowNumber + " is too short.");
-                    throw new AddCellToColumnException(e, 0, rowNumber, columnNames, nextLine);
+    private static void addRow(String[] line, Column[] columns, StringParser[] parsers, ColumnType[] types,
+                               String[] columnNames, int[] columnIndexes, long rowNumber) {
+        if (isCompleteRow(line.length, () -> line, types, rowNumber, columnNames)) {
+            // for each column that we're including (not skipping)
+            for (int cellIndex = 0; cellIndex < columnIndexes.length; cellIndex++) {
+                int columnIndex = columnIndexes[cellIndex];
+                try {
+                    columns[cellIndex].appendCell(line[columnIndex], parsers[cellIndex]);
+                } catch (Exception e) {
+                    throw new AddCellToColumnException(e, columnIndex, rowNumber, columnNames, line);
                 }
-            } else if (nextLine.length > types.length) {
-                throw new RuntimeException("Row number " + rowNumber + " is too long.");
-            } else {
-                // for each column that we're including (not skipping)
-                int cellIndex = 0;
-                for (int columnIndex : columnIndexes) {
-                    Column column = table.column(cellIndex);
-                    StringParser parser = column.type().customParser(options);
-                    try {
-                        String value = nextLine[columnIndex];
-                        column.appendCell(value, parser);
-                    } catch (Exception e) {
-                        throw new AddCellToColumnException(e, columnIndex, rowNumber, columnNames, nextLine);
+            }
+        }
+    }
+
+    /**
+     * Adds the rows in the given byte range of the file by tokenizing the mapped bytes directly, so that numbers, dates
+     * and booleans are parsed without creating a string for each cell. If a record uses CSV syntax that the tokenizer
+     * doesn't handle, that record and the rest of the range are read with opencsv instead
+     */
+    private static void addRowsFromBytes(CsvReadOptions options, ColumnType[] types, long start, long end,
+                                         boolean skipHeader, Table table, String[] columnNames,
+                                         int[] columnIndexes, long firstRowNumber) throws IOException {
+        CellAppender[] appenders = new CellAppender[columnIndexes.length];
+        for (int i = 0; i < appenders.length; i++) {
+            Column column = table.column(i);
+            appenders[i] = cellAppender(column, column.type().customParser(options));
+        }
+
+        long rowNumber = firstRowNumber;
+        boolean inHeader = skipHeader;
+        long unsupportedRecordStart;
+        try (FileChannel channel = FileChannel.open(options.file().toPath(), StandardOpenOption.READ)) {
+            CsvTokenizer tokenizer = new CsvTokenizer(channel, start, end, (byte) options.separator());
+            try {
+                while (tokenizer.next()) {
+                    if (inHeader) {
+                        inHeader = false;
+                        continue;
+                    }
+                    if (isCompleteRow(tokenizer.fieldCount(), tokenizer::fields, types, rowNumber, columnNames)) {
+                        byte[] bytes = tokenizer.bytes();
+                        for (int cellIndex = 0; cellIndex < columnIndexes.length; cellIndex++) {
+                            int columnIndex = columnIndexes[cellIndex];
+                            try {
+                                appenders[cellIndex].append(
+                                        bytes, tokenizer.fieldOffset(columnIndex), tokenizer.fieldLength(columnIndex));
+                            } catch (Exception e) {
+                                throw new AddCellToColumnException(e, columnIndex, rowNumber, columnNames,
+                                        tokenizer.fields());
+                            }
+                        }
                     }
-                    cellIndex++;
+                    rowNumber++;
                 }
+                return;
+            } catch (CsvTokenizer.UnsupportedSyntaxException e) {
+                unsupportedRecordStart = tokenizer.recordStart();
             }
-            rowNumber++;
         }
+        try (CSVReader reader = chunkReader(options, unsupportedRecordStart, end)) {
+            if (inHeader) {
+                reader.readNext();
+            }
+            addRows(options, types, reader, table, columnNames, columnIndexes, rowNumber);
+        }
+    }
+
+    /**
+     * Returns true if a row with the given number of fields should be added to the table. Empty rows are skipped with
+     * a warning, and rows of any other wrong length are an error
+     */
+    private static boolean isCompleteRow(int fieldCount, Supplier<String[]> fields, ColumnType[] types,
+                                         long rowNumber, String[] columnNames) {
+        if (fieldCount < types.length) {
+            String[] line = fields.get();
+            if (line.length == 1 && Strings.isNullOrEmpty(line[0])) {
+                System.err.println("Warning: Invalid CSV file. Row "
+                        + rowNumber
+                        + " is empty. Continuing.");
+                return false;
+            }
+            Exception e = new IndexOutOfBoundsException("Row number " + rowNumber + " is too short.");
+            throw new AddCellToColumnException(e, 0, rowNumber, columnNames, line);
+        } else if (fieldCount > types.length) {
+            throw new RuntimeException("Row number " + rowNumber + " is too long.");
+        }
+        return true;
+    }
+
+    /**
+     * Appends a cell, given as encoded bytes, to a column. The built-in parsers parse straight to the column's primitive
+     * values; any other parser is given the cell as a string
+     */
+    @FunctionalInterface
+    private interface CellAppender {
+        void append(byte[] bytes, int offset, int length);
+    }
+
+    private static CellAppender cellAppender(Column column, StringParser<?> parser) {
+        if (column instanceof DoubleColumn) {
+            DoubleColumn doubles = (DoubleColumn) column;
+            return (bytes, offset, length) -> {
+                try {
+                    doubles.append(parser.parseDouble(bytes, offset, length));
+                } catch (NumberFormatException e) {
+                    throw new NumberFormatException(doubles.name() + ": " + e.getMessage());
+                }
+            };
+        }
+        if (column instanceof DateColumn && parser instanceof DateStringParser) {
+            DateColumn dates = (DateColumn) column;
+            return (bytes, offset, length) -> dates.appendInternal(parser.parseInt(bytes, offset, length));
+        }
+        if (column instanceof TimeColumn && parser instanceof TimeStringParser) {
+            TimeColumn times = (TimeColumn) column;
+            return (bytes, offset, length) -> times.appendInternal(parser.parseInt(bytes, offset, length));
+        }
+        if (column instanceof DateTimeColumn && parser instanceof DateTimeStringParser) {
+            DateTimeColumn dateTimes = (DateTimeColumn) column;
+            return (bytes, offset, length) -> dateTimes.appendInternal(parser.parseLong(bytes, offset, length));
+        }
+        if (column instanceof BooleanColumn) {
+            BooleanColumn booleans = (BooleanColumn) column;
+            return (bytes, offset, length) -> booleans.append(parser.parseByte(bytes, offset, length));
+        }
+        if (column instanceof StringColumn) {
+            StringColumn strings = (StringColumn) column;
+            StringCache cache = new StringCache(Charset.defaultCharset());
+            return (bytes, offset, length) -> strings.appendCell(cache.get(bytes, offset, length), parser);
+        }
+        return (bytes, offset, length) ->
+                column.appendCell(new String(bytes, offset, length, Charset.defaultCharset()), parser);
     }
 
     private static void cleanNames(List<String> headerRow) {
@@ -340,7 +704,11 @@ public class CsvReader {
     /**
      * Estimates and returns the type for each column in the delimited text file {@code file}
      * <p>
-     * The type is determined by checking a sample of the data in the file. Because only a sample of the data is
+     * The type is determined by checking a sample of the data in the file. Reading stops after
+     * {@link CsvReadOptions#maxSampleRows()} rows or about {@link CsvReadOptions#maxSampleBytes()} bytes, or as soon as
+     * every column is known to hold strings. A string column whose first thousand non-missing values are
+     * nearly all distinct is detected as {@link ColumnType#TEXT} if {@link CsvReadOptions#detectText()} is
+     * true. Because only a sample of the data is
      * checked,
      * the types may be incorrect. If that is the case a Parse Exception will be thrown.
      * <p>
@@ -357,16 +725,25 @@ public class CsvReader {
 
         int linesToSkip = header ? 1 : 0;
 
-        // to hold the results
-        List<ColumnType> columnTypes = new ArrayList<>();
+        List<StringParser> parsers = getParserList(typeArray, options);
+        StringParser stringParser = parsers.get(typeArray.indexOf(STRING));
+        boolean detectText = options.detectText();
+
+        // the types each column can still have, as bits at the types' positions in typeArray. Each sampled value
+        // is only checked against the types its column can still have
+        int[] candidates = null;
 
-        // to hold the data read from the file
-        List<List<String>> columnData = new ArrayList<>();
+        // the distinct values among the first non-missing values of each column, to tell text from strings
+        List<Set<String>> distinctValues = new ArrayList<>();
+        int[] textSampleSizes = null;
 
         int rowCount = 0; // make sure we don't go over maxRows
 
+        // count the bytes read, to stop once the sample is large enough
+        CountingInputStream countingStream = new CountingInputStream(stream);
+
         // make sure we don't have leading Unicode BOM
-        UnicodeBOMInputStream ubis = new UnicodeBOMInputStream(stream);
+        UnicodeBOMInputStream ubis = new UnicodeBOMInputStream(countingStream);
         ubis.skipBOM();
 
         CSVParser csvParser = new CSVParserBuilder()
@@ -378,37 +755,97 @@ public class CsvReader {
                 .build()) {
             String[] nextLine;
             int nextRow = 0;
-            while ((nextLine = reader.readNext()) != null) {
-                // initialize the arrays to hold the strings. we don't know how many we need until we read the first row
+            while (rowCount < options.maxSampleRows()
+                    && countingStream.getCount() < options.maxSampleBytes()
+                    && (nextLine = reader.readNext()) != null) {
+                // we don't know how many columns there are until we read the first row
                 if (rowCount == 0) {
+                    candidates = new int[nextLine.length];
+                    Arrays.fill(candidates, ALL_TYPES);
+                    textSampleSizes = new int[nextLine.length];
                     for (int i = 0; i < nextLine.length; i++) {
-                        columnData.add(new ArrayList<>());
+                        distinctValues.add(new HashSet<>());
                     }
                 }
-                int columnNumber = 0;
                 if (rowCount == nextRow) {
-                    for (String field : nextLine) {
-                        columnData.get(columnNumber).add(field);
-                        columnNumber++;
+                    for (int i = 0; i < nextLine.length && i < candidates.length; i++) {
+                        candidates[i] = remainingCandidates(candidates[i], nextLine[i], parsers);
                     }
-                }
-                if (rowCount == nextRow) {
                     if (useSampling) {
                         nextRow = nextRow(nextRow);
                     } else {
                         nextRow = nextRowWithoutSampling(nextRow);
                     }
                 }
+                if (detectText) {
+                    for (int i = 0; i < nextLine.length && i < textSampleSizes.length; i++) {
+                        String value = (String) stringParser.parse(nextLine[i]);
+                        if (textSampleSizes[i] < TEXT_SAMPLE_SIZE && !value.isEmpty()) {
+                            textSampleSizes[i]++;
+                            distinctValues.get(i).add(value);
+                        }
+                    }
+                }
                 rowCount++;
+                if (allStrings(candidates) && (!detectText || allSampled(textSampleSizes))) {
+                    // reading further can't change any of the types
+                    break;
+                }
+            }
+        }
+
+        if (candidates == null) {
+            return new ColumnType[0];
+        }
+        ColumnType[] columnTypes = new ColumnType[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            columnTypes[i] = selectType(candidates[i]);
+            if (columnTypes[i] == STRING && detectText
+                    && isText(textSampleSizes[i], distinctValues.get(i).size())) {
+                columnTypes[i] = TEXT;
+            }
+        }
+        return columnTypes;
+    }
+
+    private static boolean allSampled(int[] textSampleSizes) {
+        for (int sampleSize : textSampleSizes) {
+            if (sampleSize < TEXT_SAMPLE_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if a string column is better read as text, because its sample is full and nearly all distinct, so
+     * a dictionary would hold almost every value once more
+     */
+    private static boolean isText(int sampleSize, int distinctCount) {
+        return sampleSize >= TEXT_SAMPLE_SIZE && distinctCount >= sampleSize * TEXT_DISTINCT_RATIO;
+    }
+
+    /**
+     * Returns the given candidate types, without those that can't parse the value
+     */
+    private static int remainingCandidates(int candidates, String value, List<StringParser> parsers) {
+        int remaining = candidates;
+        for (int bits = candidates; bits != 0; bits &= bits - 1) {
+            int type = Integer.numberOfTrailingZeros(bits);
+            if (!parsers.get(type).canParse(value)) {
+                remaining &= ~(1 << type);
             }
         }
+        return remaining;
+    }
 
-        // now detect
-        for (List<String> valuesList : columnData) {
-            ColumnType detectedType = detectType(valuesList, options);
-            columnTypes.add(detectedType);
+    private static boolean allStrings(int[] candidates) {
+        for (int columnCandidates : candidates) {
+            if (columnCandidates != STRING_ONLY) {
+                return false;
+            }
         }
-        return columnTypes.toArray(new ColumnType[0]);
+        return true;
     }
 
     private static int nextRowWithoutSampling(int nextRow) {
@@ -441,32 +878,13 @@ public class CsvReader {
     }
 
     /**
-     * Returns a predicted ColumnType derived by analyzing the given list of undifferentiated strings read from a
-     * column in the file and applying the given Locale and options
-     */
-    private static ColumnType detectType(List<String> valuesList, CsvReadOptions options) {
-
-        List<StringParser> parsers = getParserList(typeArray, options);
-
-        CopyOnWriteArrayList<ColumnType> typeCandidates = new CopyOnWriteArrayList<>(typeArray);
-
-        for (String s : valuesList) {
-            for (StringParser parser : parsers) {
-                if (!parser.canParse(s)) {
-                    typeCandidates.remove(parser.columnType());
-                }
-            }
-        }
-        return selectType(typeCandidates);
-    }
-
-    /**
-     * Returns the selected candidate for a column of data, by picking the first value in the given list
+     * Returns the selected candidate for a column of data, by picking the first type in typeArray that is still a
+     * candidate. String can parse anything, so there is always at least one
      *
-     * @param typeCandidates a possibly empty list of candidates. This list should be sorted in order of preference
+     * @param candidates the candidate types, as bits at the types' positions in typeArray
      */
-    private static ColumnType selectType(List<ColumnType> typeCandidates) {
-        return typeCandidates.get(0);
+    private static ColumnType selectType(int candidates) {
+        return typeArray.get(Integer.numberOfTrailingZeros(candidates));
     }
 
     /**
@@ -0,0 +1,359 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.csv;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Splits CSV records into fields directly from the bytes of a file, usually memory mapped, without decoding them
+ * into strings. The fields of the current record are copied, with quotes removed, into a reusable byte array, from
+ * which the cells are parsed.
+ * <p>
+ * Only the common subset of CSV is handled here: fields that are either unquoted, or quoted in full with embedded
+ * quotes doubled. When the tokenizer finds anything else, such as a quote in the middle of an unquoted field or a
+ * backslash, which opencsv treats as an escape character, it throws {@link UnsupportedSyntaxException} so that the
+ * caller can read the same bytes with opencsv instead. Line breaks are handled like opencsv does: a record ends at
+ * {@code \n}, {@code \r\n} or {@code \r}, and a line break inside quotes is read as {@code \n}
+ * <p>
+ * A range of a file is mapped one window at a time, as a single mapping can't be larger than 2 GB. When a record runs
+ * past the end of a window, the next window is mapped from the start of that record
+ */
+final class CsvTokenizer {
+
+    // charsets in which every byte below 0x80 is the ASCII character, and is never part of a longer character
+    private static final Set<Charset> ASCII_COMPATIBLE_CHARSETS = ImmutableSet.of(
+            StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1);
+
+    private static final byte QUOTE = '"';
+    private static final byte ESCAPE = '\\';
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    // the largest window of a file that is mapped at once
+    static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    private final byte separator;
+
+    // the file being read, or null if the tokenizer was given a buffer, and the end of the range being read
+    private final FileChannel channel;
+    private final long end;
+    private int windowSize;
+
+    // the bytes being read, which start at windowStart in the file, and whether they are the last ones
+    private ByteBuffer buffer;
+    private long windowStart;
+    private boolean lastWindow;
+
+    private int position;
+    private int recordStart;
+
+    // the unquoted bytes of the fields in the current record, and where each field ends
+    private byte[] bytes = new byte[256];
+    private int length;
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+
+    /**
+     * @param buffer        the bytes to read, from the buffer's position to its limit
+     * @param separator     the separator, which must be an ASCII character other than a quote or line break
+     * @param startOfFile   true if the bytes start at the beginning of the file, and so may start with a byte order mark
+     */
+    CsvTokenizer(ByteBuffer buffer, byte separator, boolean startOfFile) {
+        this.separator = separator;
+        this.channel = null;
+        this.end = buffer.limit();
+        this.buffer = buffer;
+        this.lastWindow = true;
+        this.position = buffer.position();
+        if (startOfFile) {
+            skipByteOrderMark();
+        }
+    }
+
+    /**
+     * Returns a tokenizer for the bytes of the file from start (inclusive) to end (exclusive), which must be the start
+     * of a record. The channel must stay open while the tokenizer is used
+     */
+    CsvTokenizer(FileChannel channel, long start, long end, byte separator) throws IOException {
+        this(channel, start, end, separator, MAX_WINDOW_SIZE);
+    }
+
+    /**
+     * Returns a tokenizer that maps at most windowSize bytes of the file at a time
+     */
+    CsvTokenizer(FileChannel channel, long start, long end, byte separator, int windowSize) throws IOException {
+        this.separator = separator;
+        this.channel = channel;
+        this.end = end;
+        this.windowSize = windowSize;
+        map(start);
+        if (start == 0) {
+            skipByteOrderMark();
+        }
+    }
+
+    private void skipByteOrderMark() {
+        if (buffer.limit() - position >= 3
+                && buffer.get(position) == (byte) 0xEF
+                && buffer.get(position + 1) == (byte) 0xBB
+                && buffer.get(position + 2) == (byte) 0xBF) {
+            position += 3;
+        }
+    }
+
+    private void map(long start) throws IOException {
+        long size = Math.min(windowSize, end - start);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        windowStart = start;
+        lastWindow = start + size == end;
+        position = 0;
+    }
+
+    /**
+     * Returns true if files read with the given options can be tokenized from their bytes
+     */
+    static boolean supports(CsvReadOptions options) {
+        char separator = options.separator();
+        return options.file() != null
+                && separator < 0x80
+                && separator != QUOTE
+                && separator != ESCAPE
+                && separator != NEW_LINE
+                && separator != CARRIAGE_RETURN
+                && ASCII_COMPATIBLE_CHARSETS.contains(Charset.defaultCharset());
+    }
+
+    /**
+     * Reads the next record, returning false if there are no more
+     *
+     * @throws UnsupportedSyntaxException if the record uses CSV syntax that isn't handled here. The record's position
+     *                                    in the file is then given by {@link #recordStart()}
+     */
+    boolean next() {
+        while (true) {
+            recordStart = position;
+            try {
+                return readRecord();
+            } catch (EndOfWindow e) {
+                nextWindow();
+            }
+        }
+    }
+
+    /**
+     * Maps the window starting at the current record. A record that doesn't fit in a whole window doubles the size of
+     * the window, up to the largest mapping allowed
+     */
+    private void nextWindow() {
+        if (recordStart == 0) {
+            if (windowSize == MAX_WINDOW_SIZE) {
+                throw new UnsupportedSyntaxException();
+            }
+            windowSize = (int) Math.min(MAX_WINDOW_SIZE, 2L * windowSize);
+        }
+        try {
+            map(windowStart + recordStart);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the offset in the file of the record read by the last call to {@link #next()}
+     */
+    long recordStart() {
+        return windowStart + recordStart;
+    }
+
+    /**
+     * Returns true if all the bytes have been read
+     *
+     * @throws EndOfWindow if all the bytes of the window have been read, but the range continues after it
+     */
+    private boolean atEnd() {
+        if (position < buffer.limit()) {
+            return false;
+        }
+        if (lastWindow) {
+            return true;
+        }
+        throw EndOfWindow.INSTANCE;
+    }
+
+    private boolean readRecord() {
+        if (atEnd()) {
+            return false;
+        }
+        length = 0;
+        fieldCount = 0;
+        while (!atEnd()) {
+            byte b = buffer.get(position++);
+            if (b == separator) {
+                endField();
+            } else if (b == NEW_LINE) {
+                break;
+            } else if (b == CARRIAGE_RETURN) {
+                skipNewLine();
+                break;
+            } else if (b == QUOTE) {
+                if (length != fieldStart()) {
+                    throw new UnsupportedSyntaxException();
+                }
+                if (readQuoted()) {
+                    break;
+                }
+            } else if (b == ESCAPE) {
+                throw new UnsupportedSyntaxException();
+            } else {
+                append(b);
+            }
+        }
+        endField();
+        return true;
+    }
+
+    /**
+     * Reads the rest of a quoted field, after its opening quote, and the separator or line break that follows it.
+     * Returns true if the field ends the record
+     */
+    private boolean readQuoted() {
+        while (true) {
+            if (atEnd()) {
+                // an unterminated quote
+                throw new UnsupportedSyntaxException();
+            }
+            byte b = buffer.get(position++);
+            if (b == QUOTE) {
+                if (!atEnd() && buffer.get(position) == QUOTE) {
+                    append(QUOTE);
+                    position++;
+                } else {
+                    break;
+                }
+            } else if (b == CARRIAGE_RETURN) {
+                skipNewLine();
+                append(NEW_LINE);
+            } else if (b == ESCAPE) {
+                throw new UnsupportedSyntaxException();
+            } else {
+                append(b);
+            }
+        }
+        if (atEnd()) {
+            return true;
+        }
+        byte b = buffer.get(position++);
+        if (b == separator) {
+            endField();
+            return false;
+        } else if (b == NEW_LINE) {
+            return true;
+        } else if (b == CARRIAGE_RETURN) {
+            skipNewLine();
+            return true;
+        }
+        throw new UnsupportedSyntaxException();
+    }
+
+    private void skipNewLine() {
+        if (!atEnd() && buffer.get(position) == NEW_LINE) {
+            position++;
+        }
+    }
+
+    private void append(byte b) {
+        if (length == bytes.length) {
+            bytes = Arrays.copyOf(bytes, length * 2);
+        }
+        bytes[length++] = b;
+    }
+
+    private void endField() {
+        if (fieldCount == fieldEnds.length) {
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldEnds[fieldCount++] = length;
+    }
+
+    private int fieldStart() {
+        return fieldCount == 0 ? 0 : fieldEnds[fieldCount - 1];
+    }
+
+    /**
+     * Returns the array holding the bytes of the current record's fields. It is reused for the next record
+     */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    int fieldOffset(int field) {
+        return field == 0 ? 0 : fieldEnds[field - 1];
+    }
+
+    int fieldLength(int field) {
+        return fieldEnds[field] - fieldOffset(field);
+    }
+
+    /**
+     * Returns the fields of the current record as strings, as opencsv would return them
+     */
+    String[] fields() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = new String(bytes, fieldOffset(i), fieldLength(i), Charset.defaultCharset());
+        }
+        return fields;
+    }
+
+    /**
+     * Thrown when a record runs past the end of the mapped window
+     */
+    private static final class EndOfWindow extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final EndOfWindow INSTANCE = new EndOfWindow();
+
+        private EndOfWindow() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Thrown when a record uses CSV syntax that the tokenizer doesn't handle
+     */
+    static final class UnsupportedSyntaxException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedSyntaxException() {
+            // only used for control flow, so there is no need for a stack trace
+            super(null, null, false, false);
+        }
+    }
+}
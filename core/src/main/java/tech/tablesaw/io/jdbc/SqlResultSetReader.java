@@ -16,23 +16,53 @@ package tech.tablesaw.io.jdbc;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import tech.tablesaw.api.BooleanColumn;
 import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.times.PackedLocalTime;
 import tech.tablesaw.io.TypeUtils;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
 
 /**
  * Creates a Relation from the result of a SQL query, by passing the jdbc resultset to the constructor
  */
 public class SqlResultSetReader {
 
+    // SQL types that can be read with getDouble
+    private static final Set<Integer> NUMERIC_TYPES = ImmutableSet.of(
+            Types.DECIMAL, Types.DOUBLE, Types.FLOAT, Types.NUMERIC, Types.REAL,
+            Types.INTEGER, Types.SMALLINT, Types.TINYINT, Types.BIGINT);
+
     // Maps from supported SQL types to their Tablesaw equivalents'
     private static final Map<Integer, ColumnType> SQL_TYPE_TO_TABLESAW_TYPE = initializeMap();
 
@@ -86,26 +116,222 @@ public class SqlResultSetReader {
 
         ResultSetMetaData metaData = resultSet.getMetaData();
         Table table = Table.create(tableName);
+        ValueReader[] readers = new ValueReader[metaData.getColumnCount()];
 
         // Setup the columns and add to the table
         for (int i = 1; i <= metaData.getColumnCount(); i++) {
             String name = metaData.getColumnName(i);
 
-            ColumnType type = SQL_TYPE_TO_TABLESAW_TYPE.get(metaData.getColumnType(i));
+            int sqlType = metaData.getColumnType(i);
+            ColumnType type = SQL_TYPE_TO_TABLESAW_TYPE.get(sqlType);
             Preconditions.checkState(type != null,
-                    "No column type found for %s as specified for column %s", metaData.getColumnType(i), name);
+                    "No column type found for %s as specified for column %s", sqlType, name);
 
             Column newColumn = TypeUtils.newColumn(name, type);
             table.addColumns(newColumn);
+            readers[i - 1] = valueReader(newColumn, sqlType);
         }
 
         // Add the rows
         while (resultSet.next()) {
-            for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                Column column = table.column(i - 1); // subtract 1 because results sets originate at 1 not 0
-                column.appendCell(resultSet.getString(i));
+            for (int i = 0; i < readers.length; i++) {
+                readers[i].read(resultSet, i + 1); // add 1 because results sets originate at 1 not 0
             }
         }
         return table;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a new table with the given tableName, constructed from the results of the given query. The driver is
+     * asked to fetch {@code fetchSize} rows from the database at a time, which for large results bounds the memory
+     * the driver uses, or saves round trips, depending on its default
+     *
+     * @throws SQLException if there is a problem detected in the database
+     */
+    public static Table read(Connection connection, String sql, String tableName, int fetchSize)
+            throws SQLException {
+        Preconditions.checkArgument(fetchSize >= 0, "The fetch size must not be negative, but was %s", fetchSize);
+        try (Statement statement = connection.createStatement(
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                return read(resultSet, tableName);
+            }
+        }
+    }
+
+    /**
+     * Returns a new table with the given tableName, holding the results of the given query, which are read in
+     * partitions concurrently. The values of {@code partitionColumn}, a numeric column in the query's results, are
+     * split into {@code partitions} ranges of equal width between the bounds. Each range is queried on its own
+     * connection from the data source, and the results are appended in order of their ranges.
+     * <p>
+     * The bounds only decide how the rows are split, not which rows are read: values below the lower bound and nulls
+     * go to the first partition, and values above the upper bound go to the last
+     *
+     * @throws SQLException if there is a problem detected in the database
+     */
+    public static Table read(DataSource dataSource, String sql, String tableName, String partitionColumn,
+                             long lowerBound, long upperBound, int partitions) throws SQLException {
+        return readPartitioned(dataSource, sql, tableName, partitionColumn, lowerBound, upperBound, partitions,
+                bound -> bound);
+    }
+
+    /**
+     * Returns a new table with the given tableName, holding the results of the given query, which are read in
+     * partitions concurrently, split by the values of {@code partitionColumn}, a date column in the query's results.
+     * See {@link #read(DataSource, String, String, String, long, long, int)}
+     *
+     * @throws SQLException if there is a problem detected in the database
+     */
+    public static Table read(DataSource dataSource, String sql, String tableName, String partitionColumn,
+                             LocalDate lowerBound, LocalDate upperBound, int partitions) throws SQLException {
+        return readPartitioned(dataSource, sql, tableName, partitionColumn,
+                lowerBound.toEpochDay(), upperBound.toEpochDay(), partitions,
+                bound -> Date.valueOf(LocalDate.ofEpochDay(bound)));
+    }
+
+    /**
+     * Reads the partitions, whose bounds are computed as longs, and passed to the queries as the objects returned by
+     * {@code parameter}
+     */
+    private static Table readPartitioned(DataSource dataSource, String sql, String tableName, String partitionColumn,
+                                         long lowerBound, long upperBound, int partitions,
+                                         LongFunction<Object> parameter) throws SQLException {
+        Preconditions.checkArgument(partitions > 0, "The number of partitions must be positive, but was %s",
+                partitions);
+        Preconditions.checkArgument(lowerBound <= upperBound,
+                "The lower bound %s must not be greater than the upper bound %s", lowerBound, upperBound);
+
+        // there can't be more partitions than distinct values between the bounds
+        int count = (int) Math.max(1, Math.min(partitions, upperBound - lowerBound));
+        long stride = (upperBound - lowerBound) / count;
+        long[] bounds = new long[count - 1];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = lowerBound + stride * (i + 1);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        try {
+            List<Future<Table>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final int partition = i;
+                futures.add(executor.submit(() ->
+                        readPartition(dataSource, sql, tableName, partitionColumn, bounds, partition, parameter)));
+            }
+            Table table = futures.get(0).get();
+            for (int i = 1; i < count; i++) {
+                table.append(futures.get(i).get());
+            }
+            return table;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while reading " + tableName, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the rows of one partition. Partition i holds the values from bound i - 1, inclusive, to bound i,
+     * exclusive, where the first partition is unbounded below and includes nulls, and the last is unbounded above
+     */
+    private static Table readPartition(DataSource dataSource, String sql, String tableName, String partitionColumn,
+                                       long[] bounds, int partition, LongFunction<Object> parameter)
+            throws SQLException {
+        List<String> conditions = new ArrayList<>();
+        List<Object> parameters = new ArrayList<>();
+        if (partition > 0) {
+            conditions.add(partitionColumn + " >= ?");
+            parameters.add(parameter.apply(bounds[partition - 1]));
+        }
+        if (partition < bounds.length) {
+            conditions.add(partition == 0
+                    ? "(" + partitionColumn + " < ? OR " + partitionColumn + " IS NULL)"
+                    : partitionColumn + " < ?");
+            parameters.add(parameter.apply(bounds[partition]));
+        }
+        String partitionSql = conditions.isEmpty()
+                ? sql
+                : "SELECT * FROM (" + sql + ") partitioned WHERE " + String.join(" AND ", conditions);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(partitionSql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return read(resultSet, tableName);
+            }
+        }
+    }
+
+    /**
+     * Reads the value in the current row of a result set, and appends it to a column
+     */
+    @FunctionalInterface
+    private interface ValueReader {
+        void read(ResultSet resultSet, int index) throws SQLException;
+    }
+
+    /**
+     * Returns a reader that gets values of the given SQL type with the typed getter for the column's type, and
+     * appends them to the column without going through a string. Values of other SQL types, such as those mapped to
+     * a column type with {@link #mapJdbcTypeToColumnType(Integer, ColumnType)}, are read as strings and parsed
+     */
+    private static ValueReader valueReader(Column column, int sqlType) {
+        if (column instanceof DoubleColumn && NUMERIC_TYPES.contains(sqlType)) {
+            DoubleColumn doubles = (DoubleColumn) column;
+            return (resultSet, index) -> {
+                double value = resultSet.getDouble(index);
+                doubles.append(resultSet.wasNull() ? DoubleColumn.MISSING_VALUE : value);
+            };
+        }
+        if (column instanceof DateColumn && sqlType == Types.DATE) {
+            DateColumn dates = (DateColumn) column;
+            return (resultSet, index) -> {
+                Date value = resultSet.getDate(index);
+                dates.appendInternal(value == null
+                        ? DateColumn.MISSING_VALUE
+                        : PackedLocalDate.pack(value.toLocalDate()));
+            };
+        }
+        if (column instanceof TimeColumn && sqlType == Types.TIME) {
+            TimeColumn times = (TimeColumn) column;
+            return (resultSet, index) -> {
+                Time value = resultSet.getTime(index);
+                times.appendInternal(value == null
+                        ? TimeColumn.MISSING_VALUE
+                        : PackedLocalTime.pack(value.toLocalTime()));
+            };
+        }
+        if (column instanceof DateTimeColumn && sqlType == Types.TIMESTAMP) {
+            DateTimeColumn dateTimes = (DateTimeColumn) column;
+            return (resultSet, index) -> {
+                Timestamp value = resultSet.getTimestamp(index);
+                dateTimes.appendInternal(value == null
+                        ? DateTimeColumn.MISSING_VALUE
+                        : PackedLocalDateTime.pack(value.toLocalDateTime()));
+            };
+        }
+        if (column instanceof BooleanColumn && (sqlType == Types.BOOLEAN || sqlType == Types.BIT)) {
+            BooleanColumn booleans = (BooleanColumn) column;
+            return (resultSet, index) -> {
+                boolean value = resultSet.getBoolean(index);
+                booleans.append(resultSet.wasNull()
+                        ? BooleanColumn.MISSING_VALUE
+                        : value ? BooleanColumn.BYTE_TRUE : BooleanColumn.BYTE_FALSE);
+            };
+        }
+        return (resultSet, index) -> column.appendCell(resultSet.getString(index));
+    }
+}
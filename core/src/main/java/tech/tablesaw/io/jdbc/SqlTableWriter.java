@@ -0,0 +1,251 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Preconditions;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.times.PackedLocalTime;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Locale;
+
+/**
+ * Inserts the rows of a table into an existing database table, with one prepared statement whose parameters are
+ * set from the columns' primitive values, and executed in batches
+ */
+public class SqlTableWriter {
+
+    /**
+     * The number of rows sent to the database at a time, by default
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SqlTableWriter() {}
+
+    /**
+     * Inserts every row of the table into the database table with the given name, using {@link #DEFAULT_BATCH_SIZE}
+     *
+     * @throws SQLException if there is a problem detected in the database
+     */
+    public static void write(Table table, Connection connection, String tableName) throws SQLException {
+        write(table, connection, tableName, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Inserts every row of the table into the database table with the given name. The database table must already
+     * exist, and have a column named like each column of the table, of a compatible type. Missing values are
+     * inserted as nulls.
+     * <p>
+     * The table and column names are quoted, so they may be keywords or hold spaces, but are matched as the database
+     * matches unquoted names, ignoring case unless it stores mixed-case identifiers. A table name may be qualified
+     * by a schema name and a dot
+     * <p>
+     * If the connection is in auto-commit mode, the rows are inserted in one transaction, which is rolled back if any
+     * insert fails. Otherwise, committing is left to the caller
+     *
+     * @param batchSize the number of rows sent to the database at a time
+     * @throws SQLException if there is a problem detected in the database
+     */
+    public static void write(Table table, Connection connection, String tableName, int batchSize)
+            throws SQLException {
+        Preconditions.checkArgument(batchSize > 0, "The batch size must be positive, but was %s", batchSize);
+
+        ParameterSetter[] setters = new ParameterSetter[table.columnCount()];
+        for (int i = 0; i < setters.length; i++) {
+            setters[i] = parameterSetter(table.column(i));
+        }
+
+        boolean autoCommit = connection.getAutoCommit();
+        if (autoCommit) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                insertStatement(table, tableName, connection.getMetaData()))) {
+            for (int row = 0; row < table.rowCount(); row++) {
+                for (int i = 0; i < setters.length; i++) {
+                    setters[i].set(statement, i + 1, row); // add 1 because parameters originate at 1 not 0
+                }
+                statement.addBatch();
+                if ((row + 1) % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (table.rowCount() % batchSize != 0) {
+                statement.executeBatch();
+            }
+            if (autoCommit) {
+                connection.commit();
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (autoCommit) {
+                connection.rollback();
+            }
+            throw e;
+        } finally {
+            if (autoCommit) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static String insertStatement(Table table, String tableName, DatabaseMetaData metaData)
+            throws SQLException {
+        StringBuilder columns = new StringBuilder();
+        StringBuilder parameters = new StringBuilder();
+        for (int i = 0; i < table.columnCount(); i++) {
+            if (i > 0) {
+                columns.append(", ");
+                parameters.append(", ");
+            }
+            columns.append(quoteIdentifier(table.column(i).name(), metaData));
+            parameters.append('?');
+        }
+        StringBuilder qualifiedName = new StringBuilder();
+        for (String part : tableName.split("\\.", -1)) {
+            if (qualifiedName.length() > 0) {
+                qualifiedName.append('.');
+            }
+            qualifiedName.append(quoteIdentifier(part, metaData));
+        }
+        return "INSERT INTO " + qualifiedName + " (" + columns + ") VALUES (" + parameters + ")";
+    }
+
+    /**
+     * Returns the name quoted as the database quotes identifiers, so that it may be a keyword or hold spaces. The name
+     * is first converted to the case the database stores unquoted identifiers in, so that it refers to the same table
+     * or column as it would unquoted
+     */
+    private static String quoteIdentifier(String name, DatabaseMetaData metaData) throws SQLException {
+        String quote = metaData.getIdentifierQuoteString().trim();
+        if (quote.isEmpty()) {
+            // the database doesn't support quoted identifiers
+            return name;
+        }
+        String identifier = name;
+        if (metaData.storesUpperCaseIdentifiers()) {
+            identifier = identifier.toUpperCase(Locale.ROOT);
+        } else if (metaData.storesLowerCaseIdentifiers()) {
+            identifier = identifier.toLowerCase(Locale.ROOT);
+        }
+        return quote + identifier.replace(quote, quote + quote) + quote;
+    }
+
+    /**
+     * Sets a statement parameter to the value of a column in a given row
+     */
+    @FunctionalInterface
+    private interface ParameterSetter {
+        void set(PreparedStatement statement, int parameterIndex, int row) throws SQLException;
+    }
+
+    private static ParameterSetter parameterSetter(Column column) {
+        if (column instanceof DoubleColumn) {
+            DoubleColumn doubles = (DoubleColumn) column;
+            return (statement, parameterIndex, row) -> {
+                if (doubles.isMissing(row)) {
+                    statement.setNull(parameterIndex, Types.DOUBLE);
+                } else {
+                    statement.setDouble(parameterIndex, doubles.get(row));
+                }
+            };
+        }
+        if (column instanceof DateColumn) {
+            DateColumn dates = (DateColumn) column;
+            return (statement, parameterIndex, row) -> {
+                if (dates.isMissing(row)) {
+                    statement.setNull(parameterIndex, Types.DATE);
+                } else {
+                    statement.setDate(parameterIndex,
+                            Date.valueOf(PackedLocalDate.asLocalDate(dates.getIntInternal(row))));
+                }
+            };
+        }
+        if (column instanceof TimeColumn) {
+            TimeColumn times = (TimeColumn) column;
+            return (statement, parameterIndex, row) -> {
+                if (times.isMissing(row)) {
+                    statement.setNull(parameterIndex, Types.TIME);
+                } else {
+                    statement.setTime(parameterIndex,
+                            Time.valueOf(PackedLocalTime.asLocalTime(times.getIntInternal(row))));
+                }
+            };
+        }
+        if (column instanceof DateTimeColumn) {
+            DateTimeColumn dateTimes = (DateTimeColumn) column;
+            return (statement, parameterIndex, row) -> {
+                if (dateTimes.isMissing(row)) {
+                    statement.setNull(parameterIndex, Types.TIMESTAMP);
+                } else {
+                    statement.setTimestamp(parameterIndex,
+                            Timestamp.valueOf(PackedLocalDateTime.asLocalDateTime(dateTimes.getLongInternal(row))));
+                }
+            };
+        }
+        if (column instanceof BooleanColumn) {
+            BooleanColumn booleans = (BooleanColumn) column;
+            return (statement, parameterIndex, row) -> {
+                byte value = booleans.getByte(row);
+                if (value == BooleanColumn.MISSING_VALUE) {
+                    statement.setNull(parameterIndex, Types.BOOLEAN);
+                } else {
+                    statement.setBoolean(parameterIndex, value == BooleanColumn.BYTE_TRUE);
+                }
+            };
+        }
+        if (column instanceof StringColumn) {
+            StringColumn strings = (StringColumn) column;
+            return (statement, parameterIndex, row) -> {
+                if (strings.isMissing(row)) {
+                    statement.setNull(parameterIndex, Types.VARCHAR);
+                } else {
+                    statement.setString(parameterIndex, strings.get(row));
+                }
+            };
+        }
+        if (column instanceof TextColumn) {
+            TextColumn text = (TextColumn) column;
+            return (statement, parameterIndex, row) -> {
+                if (text.isMissing(row)) {
+                    statement.setNull(parameterIndex, Types.VARCHAR);
+                } else {
+                    statement.setString(parameterIndex, text.get(row));
+                }
+            };
+        }
+        throw new IllegalArgumentException(
+                "Writing to a database is not supported for column " + column.name() + " of type " + column.type());
+    }
+}
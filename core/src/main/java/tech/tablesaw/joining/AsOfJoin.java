@@ -0,0 +1,84 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.times.PackedLocalTime;
+
+/**
+ * An as-of join, which matches each left row with the latest right row whose time is at or before the left row's
+ * time, optionally only among the right rows with the same "by" key.
+ * <p>
+ * Both tables are walked once in time order with two pointers over the packed datetime values, keeping the latest
+ * right row seen so far (per by key). Tables that are already sorted on time are read in place.
+ */
+final class AsOfJoin {
+
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+    // Don't instantiate
+    private AsOfJoin() {}
+
+    /**
+     * Returns one pair for each left row, in left row order
+     *
+     * @param byKeys          keys that must also match, or {@code null} to match on time alone
+     * @param toleranceMillis the largest allowed difference between the left time and the matched right time
+     */
+    static RowPairs join(DateTimeColumn leftTimes, DateTimeColumn rightTimes, JoinKeys byKeys, long toleranceMillis) {
+        LongList left = leftTimes.dataInternal();
+        LongList right = rightTimes.dataInternal();
+        KeyOrder leftOrder = KeyOrder.of(left.size(), leftTimes.rowComparator());
+        KeyOrder rightOrder = KeyOrder.of(right.size(), rightTimes.rowComparator());
+
+        Long2IntOpenHashMap latestByKey = new Long2IntOpenHashMap();
+        latestByKey.defaultReturnValue(RowPairs.NO_ROW);
+        int latest = RowPairs.NO_ROW;
+
+        int[] matches = new int[left.size()];
+        int j = 0;
+        for (int i = 0; i < leftOrder.size(); i++) {
+            int leftRow = leftOrder.row(i);
+            long time = left.getLong(leftRow);
+
+            for (; j < rightOrder.size() && right.getLong(rightOrder.row(j)) <= time; j++) {
+                int rightRow = rightOrder.row(j);
+                if (DateTimeColumn.valueIsMissing(right.getLong(rightRow))) {
+                    continue;
+                }
+                if (byKeys == null) {
+                    latest = rightRow;
+                } else {
+                    latestByKey.put(byKeys.right()[rightRow], rightRow);
+                }
+            }
+
+            int match = byKeys == null ? latest : latestByKey.get(byKeys.left()[leftRow]);
+            if (match == RowPairs.NO_ROW
+                    || DateTimeColumn.valueIsMissing(time)
+                    || epochMillis(time) - epochMillis(right.getLong(match)) > toleranceMillis) {
+                matches[leftRow] = RowPairs.NO_ROW;
+            } else {
+                matches[leftRow] = match;
+            }
+        }
+
+        int[] leftRows = new int[left.size()];
+        for (int i = 0; i < leftRows.length; i++) {
+            leftRows[i] = i;
+        }
+        return new RowPairs(IntArrayList.wrap(leftRows), IntArrayList.wrap(matches));
+    }
+
+    /**
+     * Returns the packed datetime as milliseconds since the epoch, treating it as UTC. Only differences between these
+     * values are used, so the zone doesn't matter
+     */
+    private static long epochMillis(long packedDateTime) {
+        return PackedLocalDate.toEpochDay(PackedLocalDateTime.date(packedDateTime)) * MILLIS_PER_DAY
+                + PackedLocalTime.getMillisecondOfDay(PackedLocalDateTime.time(packedDateTime));
+    }
+}
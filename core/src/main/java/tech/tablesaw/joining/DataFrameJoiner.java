@@ -1,33 +1,48 @@
 package tech.tablesaw.joining;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Streams;
 
-import tech.tablesaw.api.DateColumn;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import tech.tablesaw.api.DateTimeColumn;
-import tech.tablesaw.api.NumberColumn;
-import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
-import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.index.StringIndex;
-import tech.tablesaw.index.IntIndex;
-import tech.tablesaw.index.LongIndex;
-import tech.tablesaw.selection.BitmapBackedSelection;
-import tech.tablesaw.selection.Selection;
 
 public class DataFrameJoiner {
 
     private static final String TABLE_ALIAS = "T";
 
     private final Table table;
-    private final Column column;
+    private final Column[] columns;
     private AtomicInteger joinTableId = new AtomicInteger(2);
+    private JoinStrategy strategy = JoinStrategy.HASH;
 
-    public DataFrameJoiner(Table table, String column) {
+    /**
+     * Returns a joiner for the given table, joining on the given columns. When more than one column is given, rows
+     * are matched on the combination of their values
+     */
+    public DataFrameJoiner(Table table, String... columns) {
+        Preconditions.checkArgument(columns.length > 0, "At least one join column is required");
         this.table = table;
-        this.column = table.column(column);
+        this.columns = new Column[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            this.columns[i] = table.column(columns[i]);
+        }
+    }
+
+    /**
+     * Sets the algorithm used to match rows for the joins made with this joiner. The default is
+     * {@link JoinStrategy#HASH}; {@link JoinStrategy#SORT_MERGE} needs much less memory when the tables are large,
+     * and is fastest when they are already sorted on their join columns
+     */
+    public DataFrameJoiner strategy(JoinStrategy strategy) {
+        this.strategy = Preconditions.checkNotNull(strategy);
+        return this;
     }
 
     /**
@@ -49,7 +64,7 @@ public class DataFrameJoiner {
     public Table inner(boolean allowDuplicateColumnNames, Table... tables) {
         Table joined = table;
         for (Table table2 : tables) {
-          joined = inner(table2, column.name(), allowDuplicateColumnNames);
+          joined = inner(table2, allowDuplicateColumnNames, columnNames());
         }
         return joined;
     }
@@ -75,107 +90,184 @@ public class DataFrameJoiner {
      *                                  if {@code true} the join will succeed and duplicate columns are renamed*
      */
     public Table inner(Table table2, String col2Name, boolean allowDuplicateColumnNames) {
-        return joinInternal(table2, col2Name, false, allowDuplicateColumnNames);
+        return joinInternal(table2, new String[] {col2Name}, JoinType.INNER, allowDuplicateColumnNames);
+    }
+
+    /**
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2        The table to join with
+     * @param col2Name      The column to join on with the joiner's first column
+     * @param col2Name2     The column to join on with the joiner's second column
+     * @param moreCol2Names The columns to join on with the rest of the joiner's columns
+     */
+    public Table inner(Table table2, String col2Name, String col2Name2, String... moreCol2Names) {
+        return inner(table2, false, joinColumnNames(col2Name, col2Name2, moreCol2Names));
+    }
+
+    /**
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2    The table to join with
+     * @param allowDuplicateColumnNames if {@code false} the join will fail if any columns other than the join columns have the same name
+     *                                  if {@code true} the join will succeed and duplicate columns are renamed
+     * @param col2Names The columns to join on, one for each of the joiner's columns
+     */
+    public Table inner(Table table2, boolean allowDuplicateColumnNames, String... col2Names) {
+        return joinInternal(table2, col2Names, JoinType.INNER, allowDuplicateColumnNames);
     }
 
-    private Table joinInternal(Table table2, String col2Name, boolean outer, boolean allowDuplicates) {
+    private Table joinInternal(Table table2, String[] col2Names, JoinType joinType, boolean allowDuplicates) {
+        Preconditions.checkArgument(col2Names.length == columns.length,
+                "Expected %s join columns for table %s, but got %s", columns.length, table2.name(), col2Names.length);
 
         if (allowDuplicates) {
-            renameColumnsWithDuplicateNames(table2, col2Name);
+            renameColumnsWithDuplicateNames(table2, col2Names);
         }
 
-        Table result = emptyTableFromColumns(table, table2, col2Name);
-        if (column instanceof DateColumn) {
-            IntIndex index = new IntIndex(table2.dateColumn(col2Name));
-            DateColumn col1 = (DateColumn) column;
-            for (int i = 0; i < col1.size(); i++) {
-                int value = col1.getIntInternal(i);
-                Table table1Rows = table.where(Selection.with(i));
-                Table table2Rows = table2.where(index.get(value));
-                table2Rows.removeColumns(col2Name);
-                if (outer && table2Rows.isEmpty()) {
-                    withMissingLeftJoin(result, table1Rows);
-                } else {
-                    crossProduct(result, table1Rows, table2Rows);
-                }
-            }
-        } else if (column instanceof DateTimeColumn) {
-            LongIndex index = new LongIndex(table2.dateTimeColumn(col2Name));
-            DateTimeColumn col1 = (DateTimeColumn) column;
-            for (int i = 0; i < col1.size(); i++) {
-                long value = col1.getLongInternal(i);
-                Table table1Rows = table.where(Selection.with(i));
-                Table table2Rows = table2.where(index.get(value));
-                table2Rows.removeColumns(col2Name);
-                if (outer && table2Rows.isEmpty()) {
-                    withMissingLeftJoin(result, table1Rows);
-                } else {
-                    crossProduct(result, table1Rows, table2Rows);
-                }
-            }
-        } else if (column instanceof TimeColumn) {
-            IntIndex index = new IntIndex(table2.timeColumn(col2Name));
-            TimeColumn col1 = (TimeColumn) column;
-            for (int i = 0; i < col1.size(); i++) {
-                int value = col1.getIntInternal(i);
-                Table table1Rows = table.where(Selection.with(i));
-                Table table2Rows = table2.where(index.get(value));
-                table2Rows.removeColumns(col2Name);
-                if (outer && table2Rows.isEmpty()) {
-                    withMissingLeftJoin(result, table1Rows);
-                } else {
-                    crossProduct(result, table1Rows, table2Rows);
-                }
+        Column[] columns2 = new Column[col2Names.length];
+        for (int i = 0; i < col2Names.length; i++) {
+            columns2[i] = table2.column(col2Names[i]);
+        }
+        RowPairs rows;
+        if (strategy == JoinStrategy.SORT_MERGE) {
+            rows = SortMergeJoin.join(columns, columns2, joinType);
+        } else {
+            JoinKeys keys = JoinKeys.of(columns, columns2);
+            rows = HashJoin.join(keys.left(), keys.right(), joinType);
+        }
+        return gatherRows(table2, columns, columns2, rows, null);
+    }
+
+    /**
+     * Joins each row of this table with the latest row of table2 whose time is at or before its own, as is done to
+     * find the prevailing quote for each trade. The joiner's last column is the time column of this table, and any
+     * columns before it are matched with the given byColumns of table2, so only rows with the same values in those
+     * columns are considered.
+     * <p>
+     * The result has one row for each row in this table, in the same order, with missing values for table2's columns
+     * where there is no match within the tolerance. It includes every column of table2 except the by columns. Columns
+     * of table2 whose names are already used in this table, typically its time column, are renamed in the result as
+     * they are when duplicate column names are allowed in the other joins; table2 itself is not changed.
+     * <p>
+     * Both tables are read once, in time order, so the join runs in linear time when they are already sorted on time.
+     *
+     * @param table2     The table to join with
+     * @param timeColumn The DateTime column of table2 to match on
+     * @param tolerance  The largest difference allowed between the time in this table and the matched time
+     * @param byColumns  The columns of table2 to match exactly, one for each of the joiner's columns before its last
+     */
+    public Table asOf(Table table2, String timeColumn, Duration tolerance, String... byColumns) {
+        Preconditions.checkArgument(!tolerance.isNegative(), "The tolerance must not be negative");
+        Preconditions.checkArgument(byColumns.length == columns.length - 1,
+                "Expected %s by columns for table %s, but got %s", columns.length - 1, table2.name(), byColumns.length);
+        Column time = columns[columns.length - 1];
+        Column time2 = table2.column(timeColumn);
+        Preconditions.checkArgument(time instanceof DateTimeColumn && time2 instanceof DateTimeColumn,
+                "As-of joins are supported on DateTime columns. Columns %s and %s are of types %s and %s",
+                time.name(), time2.name(), time.type(), time2.type());
+
+        Column[] by = Arrays.copyOf(columns, byColumns.length);
+        Column[] by2 = table2.columns(byColumns).toArray(new Column[0]);
+        JoinKeys byKeys = by.length == 0 ? null : JoinKeys.of(by, by2);
+        RowPairs rows = AsOfJoin.join((DateTimeColumn) time, (DateTimeColumn) time2, byKeys, tolerance.toMillis());
+        return gatherRows(table2, by, by2, rows, TABLE_ALIAS + joinTableId.getAndIncrement());
+    }
+
+    /**
+     * Builds the result table from the joined row numbers, copying each column once through its column type's bulk
+     * copy path. The columns of table2 in columns2 are left out, and each of them provides the values of the column
+     * at the same position of columns1 in rows that have no match in the left table. If table2Alias is not null, the
+     * result's copies of table2 columns whose names are used in this table are renamed with it; table2 is unchanged
+     */
+    private Table gatherRows(Table table2, Column[] columns1, Column[] columns2, RowPairs rows, String table2Alias) {
+        List<Column> joinColumns = Arrays.asList(columns1);
+        List<Column> joinColumns2 = Arrays.asList(columns2);
+        Table result = emptyTableFromColumns(table, table2, joinColumns2, rows.size(), table2Alias);
+        int c = 0;
+        for (Column column1 : table.columns()) {
+            int joinIndex = joinColumns.indexOf(column1);
+            Column fallback = joinIndex >= 0 ? columns2[joinIndex] : null;
+            gather(result.column(c++), column1, rows.leftRows(), fallback, rows.rightRows(), rows.size());
+        }
+        for (Column t2Column : table2.columns()) {
+            if (!joinColumns2.contains(t2Column)) {
+                gather(result.column(c++), t2Column, rows.rightRows(), null, null, rows.size());
             }
-        } else if (column instanceof StringColumn) {
-            StringIndex index = new StringIndex(table2.stringColumn(col2Name));
-            StringColumn col1 = (StringColumn) column;
-            for (int i = 0; i < col1.size(); i++) {
-                String value = col1.get(i);
-                Table table1Rows = table.where(Selection.with(i));
-                Table table2Rows = table2.where(index.get(value));
-                table2Rows.removeColumns(col2Name);
-                if (outer && table2Rows.isEmpty()) {
-                    withMissingLeftJoin(result, table1Rows);
-                } else {
-                    crossProduct(result, table1Rows, table2Rows);
+        }
+        return result;
+    }
+
+    /**
+     * Appends the values of source at each of the given rows to destination. Runs of matched rows are copied in bulk;
+     * a row of -1 is taken from the fallback column at the same position in fallbackRows if there is one, and is
+     * otherwise appended as a missing value
+     */
+    private static void gather(Column destination, Column source, int[] rows,
+                               Column fallback, int[] fallbackRows, int size) {
+        IntArrayList run = new IntArrayList();
+        int i = 0;
+        while (i < size) {
+            int runStart = i;
+            if (rows[i] != RowPairs.NO_ROW) {
+                while (i < size && rows[i] != RowPairs.NO_ROW) {
+                    i++;
                 }
-            }
-        } else if (column instanceof NumberColumn) {
-            LongIndex index = new LongIndex(table2.numberColumn(col2Name));
-            NumberColumn col1 = (NumberColumn) column;
-            for (int i = 0; i < col1.size(); i++) {
-                long value = col1.getLong(i);
-                Table table1Rows = table.where(Selection.with(i));
-                Table table2Rows = table2.where(index.get(value));
-                table2Rows.removeColumns(col2Name);
-                if (outer && table2Rows.isEmpty()) {
-                    withMissingLeftJoin(result, table1Rows);
-                } else {
-                    crossProduct(result, table1Rows, table2Rows);
+                copyRun(destination, source, rows, runStart, i, size, run);
+            } else if (fallback != null && fallbackRows[i] != RowPairs.NO_ROW) {
+                while (i < size && rows[i] == RowPairs.NO_ROW && fallbackRows[i] != RowPairs.NO_ROW) {
+                    i++;
                 }
+                copyRun(destination, fallback, fallbackRows, runStart, i, size, run);
+            } else {
+                destination.appendMissing();
+                i++;
             }
-        } else {
-            throw new IllegalArgumentException(
-                    "Joining is supported on numeric, string, and date-like columns. Column "
-                            + column.name() + " is of type " + column.type());
         }
+    }
 
-        return result;
+    private static void copyRun(Column destination, Column source, int[] rows, int from, int to, int size,
+                                IntArrayList run) {
+        if (from == 0 && to == size) {
+            source.type().copy(IntArrayList.wrap(rows, size), source, destination);
+        } else {
+            run.clear();
+            run.addElements(0, rows, from, to - from);
+            source.type().copy(run, source, destination);
+        }
     }
 
-    private void renameColumnsWithDuplicateNames(Table table2, String col2Name) {
+    private void renameColumnsWithDuplicateNames(Table table2, String[] col2Names) {
         String table2Alias = TABLE_ALIAS + joinTableId.getAndIncrement();
+        List<Column> joinColumns2 = table2.columns(col2Names);
 
         for (Column table2Column : table2.columns()) {
             String columnName = table2Column.name();
             if (table.columnNames().contains(columnName)
-                    && !columnName.equalsIgnoreCase(col2Name)) {
+                    && !joinColumns2.contains(table2Column)) {
                 table2Column.setName(newName(table2Alias, columnName));
             }
         }
     }
 
+    private static String[] joinColumnNames(String col2Name, String col2Name2, String[] moreCol2Names) {
+        String[] names = new String[moreCol2Names.length + 2];
+        names[0] = col2Name;
+        names[1] = col2Name2;
+        System.arraycopy(moreCol2Names, 0, names, 2, moreCol2Names.length);
+        return names;
+    }
+
+    private String[] columnNames() {
+        String[] names = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            names[i] = columns[i].name();
+        }
+        return names;
+    }
+
     private String newName(String table2Alias, String columnName) {
         return table2Alias + "." + columnName;
     }
@@ -199,7 +291,7 @@ public class DataFrameJoiner {
     public Table fullOuter(boolean allowDuplicateColumnNames, Table... tables) {
         Table joined = table;
         for (Table table2 : tables) {
-            joined = fullOuter(table2, column.name(), allowDuplicateColumnNames);
+            joined = fullOuter(table2, allowDuplicateColumnNames, columnNames());
         }
         return joined;
     }
@@ -225,65 +317,33 @@ public class DataFrameJoiner {
      *                                  if {@code true} the join will succeed and duplicate columns are renamed
      */
     public Table fullOuter(Table table2, String col2Name, boolean allowDuplicateColumnNames) {
-        Table result = joinInternal(table2, col2Name, true, allowDuplicateColumnNames);
-
-        Selection selection = new BitmapBackedSelection();
-        if (column instanceof DateColumn) {
-            IntIndex index = new IntIndex(result.dateColumn(col2Name));
-            DateColumn col2 = (DateColumn) table2.column(col2Name);
-            for (int i = 0; i < col2.size(); i++) {
-                int value = col2.getIntInternal(i);
-                if (index.get(value).isEmpty()) {
-                    selection.add(i);
-                }
-            }
-        } else if (column instanceof DateTimeColumn) {
-            LongIndex index = new LongIndex(result.dateTimeColumn(col2Name));
-            DateTimeColumn col2 = (DateTimeColumn) table2.column(col2Name);
-            for (int i = 0; i < col2.size(); i++) {
-                long value = col2.getLongInternal(i);
-                if (index.get(value).isEmpty()) {
-                    selection.add(i);
-                }
-            }
-        } else if (column instanceof TimeColumn) {
-            IntIndex index = new IntIndex(result.timeColumn(col2Name));
-            TimeColumn col2 = (TimeColumn) table2.column(col2Name);
-            for (int i = 0; i < col2.size(); i++) {
-                int value = col2.getIntInternal(i);
-                if (index.get(value).isEmpty()) {
-                    selection.add(i);
-                }
-            }
-        } else if (column instanceof StringColumn) {
-            StringIndex index = new StringIndex(result.stringColumn(col2Name));
-            StringColumn col2 = (StringColumn) table2.column(col2Name);
-            for (int i = 0; i < col2.size(); i++) {
-                String value = col2.get(i);
-                if (index.get(value).isEmpty()) {
-                    selection.add(i);
-                }
-            }
-        } else if (column instanceof NumberColumn) {
-            LongIndex index = new LongIndex(result.numberColumn(col2Name));
-            NumberColumn col2 = (NumberColumn) table2.column(col2Name);
-            for (int i = 0; i < col2.size(); i++) {
-                long value = col2.getLong(i);
-                if (index.get(value).isEmpty()) {
-                    selection.add(i);
-                }
-            }
-        } else {
-            throw new IllegalArgumentException(
-                    "Joining is supported on numeric, string, and date-like columns. Column "
-                            + column.name() + " is of type " + column.type());
-        }
-        
-        Table table2OnlyRows = table2.where(selection);
-        Column joinColumn = table2OnlyRows.column(col2Name);
-        table2OnlyRows.removeColumns(joinColumn);
-        withMissingRightJoin(result, joinColumn, table2OnlyRows);        
-        return result;
+        return joinInternal(table2, new String[] {col2Name}, JoinType.FULL_OUTER, allowDuplicateColumnNames);
+    }
+
+    /**
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2        The table to join with
+     * @param col2Name      The column to join on with the joiner's first column
+     * @param col2Name2     The column to join on with the joiner's second column
+     * @param moreCol2Names The columns to join on with the rest of the joiner's columns
+     */
+    public Table fullOuter(Table table2, String col2Name, String col2Name2, String... moreCol2Names) {
+        return fullOuter(table2, false, joinColumnNames(col2Name, col2Name2, moreCol2Names));
+    }
+
+    /**
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2    The table to join with
+     * @param allowDuplicateColumnNames if {@code false} the join will fail if any columns other than the join columns have the same name
+     *                                  if {@code true} the join will succeed and duplicate columns are renamed
+     * @param col2Names The columns to join on, one for each of the joiner's columns
+     */
+    public Table fullOuter(Table table2, boolean allowDuplicateColumnNames, String... col2Names) {
+        return joinInternal(table2, col2Names, JoinType.FULL_OUTER, allowDuplicateColumnNames);
     }
 
     /**
@@ -305,7 +365,7 @@ public class DataFrameJoiner {
     public Table leftOuter(boolean allowDuplicateColumnNames, Table... tables) {
         Table joined = table;
         for (Table table2 : tables) {
-          joined = leftOuter(table2, column.name(), allowDuplicateColumnNames);
+          joined = leftOuter(table2, allowDuplicateColumnNames, columnNames());
         }
         return joined;
     }
@@ -331,7 +391,33 @@ public class DataFrameJoiner {
      *                                  if {@code true} the join will succeed and duplicate columns are renamed
      */
     public Table leftOuter(Table table2, String col2Name, boolean allowDuplicateColumnNames) {
-        return joinInternal(table2, col2Name, true, allowDuplicateColumnNames);
+        return joinInternal(table2, new String[] {col2Name}, JoinType.LEFT_OUTER, allowDuplicateColumnNames);
+    }
+
+    /**
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2        The table to join with
+     * @param col2Name      The column to join on with the joiner's first column
+     * @param col2Name2     The column to join on with the joiner's second column
+     * @param moreCol2Names The columns to join on with the rest of the joiner's columns
+     */
+    public Table leftOuter(Table table2, String col2Name, String col2Name2, String... moreCol2Names) {
+        return leftOuter(table2, false, joinColumnNames(col2Name, col2Name2, moreCol2Names));
+    }
+
+    /**
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2    The table to join with
+     * @param allowDuplicateColumnNames if {@code false} the join will fail if any columns other than the join columns have the same name
+     *                                  if {@code true} the join will succeed and duplicate columns are renamed
+     * @param col2Names The columns to join on, one for each of the joiner's columns
+     */
+    public Table leftOuter(Table table2, boolean allowDuplicateColumnNames, String... col2Names) {
+        return joinInternal(table2, col2Names, JoinType.LEFT_OUTER, allowDuplicateColumnNames);
     }
 
     /**
@@ -353,7 +439,7 @@ public class DataFrameJoiner {
     public Table rightOuter(boolean allowDuplicateColumnNames, Table... tables) {
         Table joined = table;
         for (Table table2 : tables) {
-          joined = rightOuter(table2, column.name(), allowDuplicateColumnNames);
+          joined = rightOuter(table2, allowDuplicateColumnNames, columnNames());
         }
         return joined;
     }
@@ -380,77 +466,47 @@ public class DataFrameJoiner {
      */
 
     public Table rightOuter(Table table2, String col2Name, boolean allowDuplicateColumnNames) {
-        Table leftOuter = table2.join(col2Name).leftOuter(table, column.name(), allowDuplicateColumnNames);
-
-        // reverse the columns
-        Table result = Table.create(leftOuter.name());
-        for (String name : table.columnNames()) {
-            result.addColumns(leftOuter.column(name));
-        }
-        for (String name : table2.columnNames()) {
-            if (!result.columnNames().contains(name)) {
-                result.addColumns(leftOuter.column(name));
-            }
-        }
-        return result;
-    }
-
-    private Table emptyTableFromColumns(Table table1, Table table2, String col2Name) {
-        Column[] cols = Streams.concat(
-                table1.columns().stream(),
-                table2.columns().stream().filter(c -> !c.name().equalsIgnoreCase(col2Name))
-        ).map(col -> col.emptyCopy(col.size())).toArray(Column[]::new);
-        return Table.create(table1.name(), cols);
-    }
-
-    private void crossProduct(Table destination, Table table1, Table table2) {
-        for (int c = 0; c < table1.columnCount() + table2.columnCount(); c++) {
-            for (int r1 = 0; r1 < table1.rowCount(); r1++) {
-                for (int r2 = 0; r2 < table2.rowCount(); r2++) {
-                    if (c < table1.columnCount()) {
-                        destination.column(c).appendCell(table1.getUnformatted(r1, c));
-                    } else {
-                        destination.column(c).appendCell(table2.getUnformatted(r2, c - table1.columnCount()));
-                    }
-                }
-            }
-        }
+        return joinInternal(table2, new String[] {col2Name}, JoinType.RIGHT_OUTER, allowDuplicateColumnNames);
     }
 
     /**
-     * Adds rows to destination for each row in table1, with the columns from table2 added as missing values in each
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2        The table to join with
+     * @param col2Name      The column to join on with the joiner's first column
+     * @param col2Name2     The column to join on with the joiner's second column
+     * @param moreCol2Names The columns to join on with the rest of the joiner's columns
      */
-    private void withMissingLeftJoin(Table destination, Table table1) {
-        for (int c = 0; c < destination.columnCount(); c++) {
-            for (int r1 = 0; r1 < table1.rowCount(); r1++) {
-                if (c < table1.columnCount()) {
-                    destination.column(c).appendCell(table1.getUnformatted(r1, c));
-                } else {
-                    destination.column(c).appendMissing();
-                }
-            }
-        }
+    public Table rightOuter(Table table2, String col2Name, String col2Name2, String... moreCol2Names) {
+        return rightOuter(table2, false, joinColumnNames(col2Name, col2Name2, moreCol2Names));
     }
 
     /**
-     * Adds rows to destination for each row in the joinColumn and table2
+     * Joins the joiner to the table2, matching each of the joiner's columns with the column of table2 in the same
+     * position, and returns the resulting table
+     *
+     * @param table2    The table to join with
+     * @param allowDuplicateColumnNames if {@code false} the join will fail if any columns other than the join columns have the same name
+     *                                  if {@code true} the join will succeed and duplicate columns are renamed
+     * @param col2Names The columns to join on, one for each of the joiner's columns
      */
-    private void withMissingRightJoin(Table destination, Column joinColumn, Table table2) {
-        int t2StartCol = destination.columnCount() - table2.columnCount();
-        for (int c = 0; c < destination.columnCount(); c++) {
-            if (destination.column(c).name().equalsIgnoreCase(joinColumn.name())) {
-                for (int r = 0; r < joinColumn.size(); r++) {
-                    destination.column(c).appendCell(joinColumn.getUnformattedString(r));
-                }
-                continue;
-            }
-            for (int r2 = 0; r2 < table2.rowCount(); r2++) {
-                if (c < t2StartCol) {
-                    destination.column(c).appendMissing();
-                } else {
-                    destination.column(c).appendCell(table2.getUnformatted(r2, c - t2StartCol));
-                }
-            }
-        }
+    public Table rightOuter(Table table2, boolean allowDuplicateColumnNames, String... col2Names) {
+        return joinInternal(table2, col2Names, JoinType.RIGHT_OUTER, allowDuplicateColumnNames);
+    }
+
+    private Table emptyTableFromColumns(Table table1, Table table2, List<Column> joinColumns2, int rowCount,
+                                        String table2Alias) {
+        Column[] cols = Streams.concat(
+                table1.columns().stream().map(col -> col.emptyCopy(rowCount)),
+                table2.columns().stream().filter(c -> !joinColumns2.contains(c)).map(col -> {
+                    Column copy = col.emptyCopy(rowCount);
+                    if (table2Alias != null && table1.columnNames().contains(col.name())) {
+                        copy.setName(newName(table2Alias, col.name()));
+                    }
+                    return copy;
+                })
+        ).toArray(Column[]::new);
+        return Table.create(table1.name(), cols);
     }
 }
@@ -0,0 +1,158 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+/**
+ * A build/probe hash join over primitive keys.
+ * <p>
+ * The smaller input is loaded into a hash table once, and the larger input is streamed against it. Output rows are
+ * ordered by the "driving" side (the right table for right outer joins, and the left table otherwise), and within
+ * a driving row by the row number on the other side, regardless of which side the hash table was built on.
+ */
+final class HashJoin {
+
+    // Don't instantiate
+    private HashJoin() {}
+
+    static RowPairs join(long[] leftKeys, long[] rightKeys, JoinType type) {
+        boolean rightDrives = type == JoinType.RIGHT_OUTER;
+        long[] driving = rightDrives ? rightKeys : leftKeys;
+        long[] other = rightDrives ? leftKeys : rightKeys;
+        boolean keepUnmatchedDriving = type != JoinType.INNER;
+        boolean keepUnmatchedOther = type == JoinType.FULL_OUTER;
+
+        RowPairs pairs;
+        if (other.length <= driving.length) {
+            pairs = buildOther(driving, other, keepUnmatchedDriving, keepUnmatchedOther);
+        } else {
+            pairs = buildDriving(driving, other, keepUnmatchedDriving, keepUnmatchedOther);
+        }
+        return rightDrives ? pairs.swap() : pairs;
+    }
+
+    /**
+     * Builds the hash table over the other side and probes it with the driving rows in order, so the output is
+     * produced directly in driving order
+     */
+    private static RowPairs buildOther(long[] driving, long[] other,
+                                       boolean keepUnmatchedDriving, boolean keepUnmatchedOther) {
+        BuildTable build = new BuildTable(other);
+        boolean[] otherMatched = new boolean[other.length];
+        RowPairs pairs = new RowPairs(driving.length);
+
+        for (int d = 0; d < driving.length; d++) {
+            int o = build.first(driving[d]);
+            if (o == RowPairs.NO_ROW) {
+                if (keepUnmatchedDriving) {
+                    pairs.add(d, RowPairs.NO_ROW);
+                }
+                continue;
+            }
+            for (; o != RowPairs.NO_ROW; o = build.next(o)) {
+                pairs.add(d, o);
+                otherMatched[o] = true;
+            }
+        }
+        if (keepUnmatchedOther) {
+            addUnmatchedOther(pairs, otherMatched);
+        }
+        return pairs;
+    }
+
+    /**
+     * Builds the hash table over the driving side and probes it with the other rows. The matches are then placed in
+     * driving order with a counting sort, which is stable, so the other rows stay in ascending order within each
+     * driving row
+     */
+    private static RowPairs buildDriving(long[] driving, long[] other,
+                                         boolean keepUnmatchedDriving, boolean keepUnmatchedOther) {
+        BuildTable build = new BuildTable(driving);
+        boolean[] otherMatched = new boolean[other.length];
+        int[] matchCounts = new int[driving.length];
+        IntArrayList matchedDriving = new IntArrayList(other.length);
+        IntArrayList matchedOther = new IntArrayList(other.length);
+
+        for (int o = 0; o < other.length; o++) {
+            for (int d = build.first(other[o]); d != RowPairs.NO_ROW; d = build.next(d)) {
+                matchedDriving.add(d);
+                matchedOther.add(o);
+                matchCounts[d]++;
+                otherMatched[o] = true;
+            }
+        }
+
+        // turn the counts into the output position of each driving row's first pair
+        int[] positions = new int[driving.length];
+        int size = 0;
+        for (int d = 0; d < driving.length; d++) {
+            positions[d] = size;
+            if (matchCounts[d] > 0) {
+                size += matchCounts[d];
+            } else if (keepUnmatchedDriving) {
+                size++;
+            }
+        }
+
+        int[] drivingRows = new int[size];
+        int[] otherRows = new int[size];
+        if (keepUnmatchedDriving) {
+            for (int d = 0; d < driving.length; d++) {
+                if (matchCounts[d] == 0) {
+                    drivingRows[positions[d]] = d;
+                    otherRows[positions[d]] = RowPairs.NO_ROW;
+                }
+            }
+        }
+        int[] drivingElements = matchedDriving.elements();
+        int[] otherElements = matchedOther.elements();
+        for (int i = 0; i < matchedDriving.size(); i++) {
+            int d = drivingElements[i];
+            int position = positions[d]++;
+            drivingRows[position] = d;
+            otherRows[position] = otherElements[i];
+        }
+
+        RowPairs pairs = new RowPairs(IntArrayList.wrap(drivingRows), IntArrayList.wrap(otherRows));
+        if (keepUnmatchedOther) {
+            addUnmatchedOther(pairs, otherMatched);
+        }
+        return pairs;
+    }
+
+    private static void addUnmatchedOther(RowPairs pairs, boolean[] otherMatched) {
+        for (int o = 0; o < otherMatched.length; o++) {
+            if (!otherMatched[o]) {
+                pairs.add(RowPairs.NO_ROW, o);
+            }
+        }
+    }
+
+    /**
+     * A hash table from key to the first row holding it, with the remaining rows for the same key chained in
+     * ascending order through a parallel int array
+     */
+    private static final class BuildTable {
+
+        private final Long2IntOpenHashMap heads;
+        private final int[] next;
+
+        BuildTable(long[] keys) {
+            heads = new Long2IntOpenHashMap(keys.length);
+            heads.defaultReturnValue(RowPairs.NO_ROW);
+            next = new int[keys.length];
+            // walk backwards so each chain comes out in ascending row order
+            for (int row = keys.length - 1; row >= 0; row--) {
+                next[row] = heads.put(keys[row], row);
+            }
+        }
+
+        int first(long key) {
+            return heads.get(key);
+        }
+
+        int next(int row) {
+            return next[row];
+        }
+    }
+}
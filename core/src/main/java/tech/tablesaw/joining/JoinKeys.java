@@ -0,0 +1,192 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The values of the join columns of two tables, encoded as primitive longs such that a left row and a right row get
+ * the same key exactly when their join values are equal. Except for text, no per-row objects are created: dates and
+ * times use their packed int or long values, and strings use their dictionary keys. Text values are numbered by
+ * hashing their UTF-8 bytes
+ */
+final class JoinKeys {
+
+    private final long[] left;
+    private final long[] right;
+
+    private JoinKeys(long[] left, long[] right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Returns keys for a composite join, matching each left column with the right column in the same position. The
+     * key of each column pair is computed as for a single column join, and the keys are then packed together
+     */
+    static JoinKeys of(Column[] leftColumns, Column[] rightColumns) {
+        JoinKeys keys = of(leftColumns[0], rightColumns[0]);
+        for (int i = 1; i < leftColumns.length; i++) {
+            keys = keys.and(of(leftColumns[i], rightColumns[i]));
+        }
+        return keys;
+    }
+
+    static JoinKeys of(Column leftColumn, Column rightColumn) {
+        if (leftColumn instanceof DateColumn) {
+            return new JoinKeys(
+                    intKeys(((DateColumn) leftColumn).dataInternal()),
+                    intKeys(((DateColumn) rightColumn).dataInternal()));
+        }
+        if (leftColumn instanceof DateTimeColumn) {
+            return new JoinKeys(
+                    longKeys(((DateTimeColumn) leftColumn).dataInternal()),
+                    longKeys(((DateTimeColumn) rightColumn).dataInternal()));
+        }
+        if (leftColumn instanceof TimeColumn) {
+            return new JoinKeys(
+                    intKeys(((TimeColumn) leftColumn).dataInternal()),
+                    intKeys(((TimeColumn) rightColumn).dataInternal()));
+        }
+        if (leftColumn instanceof StringColumn) {
+            return stringKeys((StringColumn) leftColumn, (StringColumn) rightColumn);
+        }
+        if (leftColumn instanceof TextColumn) {
+            return textKeys((TextColumn) leftColumn, (TextColumn) rightColumn);
+        }
+        if (leftColumn instanceof NumberColumn) {
+            // doubles are joined after rounding to integers
+            return new JoinKeys(
+                    roundedKeys((NumberColumn) leftColumn),
+                    roundedKeys((NumberColumn) rightColumn));
+        }
+        throw new IllegalArgumentException(
+                "Joining is supported on numeric, string, text, and date-like columns. Column "
+                        + leftColumn.name() + " is of type " + leftColumn.type());
+    }
+
+    long[] left() {
+        return left;
+    }
+
+    long[] right() {
+        return right;
+    }
+
+    /**
+     * Returns keys that match when both this key and other match. Each side's values are first replaced by dense
+     * ids, shared between the left and right tables, so that the two ids can be packed into one long without overflow
+     */
+    private JoinKeys and(JoinKeys other) {
+        Long2IntOpenHashMap firstIds = new Long2IntOpenHashMap();
+        firstIds.defaultReturnValue(-1);
+        int[] firstLeft = denseIds(left, firstIds);
+        int[] firstRight = denseIds(right, firstIds);
+
+        Long2IntOpenHashMap secondIds = new Long2IntOpenHashMap();
+        secondIds.defaultReturnValue(-1);
+        int[] secondLeft = denseIds(other.left, secondIds);
+        int[] secondRight = denseIds(other.right, secondIds);
+
+        long secondCount = secondIds.size();
+        return new JoinKeys(pack(firstLeft, secondLeft, secondCount), pack(firstRight, secondRight, secondCount));
+    }
+
+    private static int[] denseIds(long[] keys, Long2IntOpenHashMap ids) {
+        int[] result = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int id = ids.putIfAbsent(keys[i], ids.size());
+            result[i] = id == -1 ? ids.size() - 1 : id;
+        }
+        return result;
+    }
+
+    private static long[] pack(int[] first, int[] second, long secondCount) {
+        long[] packed = new long[first.length];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = first[i] * secondCount + second[i];
+        }
+        return packed;
+    }
+
+    private static long[] intKeys(IntList data) {
+        long[] keys = new long[data.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = data.getInt(i);
+        }
+        return keys;
+    }
+
+    private static long[] longKeys(LongList data) {
+        return data.toLongArray();
+    }
+
+    private static long[] roundedKeys(NumberColumn column) {
+        long[] keys = new long[column.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = column.getLong(i);
+        }
+        return keys;
+    }
+
+    /**
+     * Uses the left column's dictionary keys directly, and translates the right column's dictionary into them once
+     * per distinct value, so no strings are hashed per row. Strings found only on the right get negative keys, which
+     * can never collide with a left dictionary key
+     */
+    private static JoinKeys stringKeys(StringColumn leftColumn, StringColumn rightColumn) {
+        Object2IntMap<String> leftDictionary = new Object2IntOpenHashMap<>();
+        leftDictionary.defaultReturnValue(-1);
+        for (Int2ObjectMap.Entry<String> entry : leftColumn.keyToValueMap().int2ObjectEntrySet()) {
+            leftDictionary.put(entry.getValue(), entry.getIntKey());
+        }
+
+        Int2ObjectMap<String> rightDictionary = rightColumn.keyToValueMap();
+        Int2LongOpenHashMap rightToLeft = new Int2LongOpenHashMap(rightDictionary.size());
+        for (Int2ObjectMap.Entry<String> entry : rightDictionary.int2ObjectEntrySet()) {
+            int leftKey = leftDictionary.getInt(entry.getValue());
+            rightToLeft.put(entry.getIntKey(), leftKey > 0 ? leftKey : -entry.getIntKey());
+        }
+
+        long[] left = new long[leftColumn.size()];
+        for (int i = 0; i < left.length; i++) {
+            left[i] = leftColumn.getInt(i);
+        }
+        long[] right = new long[rightColumn.size()];
+        for (int i = 0; i < right.length; i++) {
+            right[i] = rightToLeft.get(rightColumn.getInt(i));
+        }
+        return new JoinKeys(left, right);
+    }
+
+    /**
+     * Gives each distinct value, found by hashing the rows' UTF-8 bytes, an id shared by both columns
+     */
+    private static JoinKeys textKeys(TextColumn leftColumn, TextColumn rightColumn) {
+        Object2IntMap<ByteBuffer> ids = new Object2IntOpenHashMap<>();
+        ids.defaultReturnValue(-1);
+        return new JoinKeys(textIds(leftColumn, ids), textIds(rightColumn, ids));
+    }
+
+    private static long[] textIds(TextColumn column, Object2IntMap<ByteBuffer> ids) {
+        long[] keys = new long[column.size()];
+        for (int i = 0; i < keys.length; i++) {
+            int id = ids.putIfAbsent(ByteBuffer.wrap(column.asBytes(i)), ids.size());
+            keys[i] = id == -1 ? ids.size() - 1 : id;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,20 @@
+package tech.tablesaw.joining;
+
+/**
+ * The algorithms {@link DataFrameJoiner} can use to match the rows of two tables
+ */
+public enum JoinStrategy {
+
+    /**
+     * Builds a hash table over the join keys of the smaller table and probes it with the rows of the larger one.
+     * The result rows are in the order of the left table (the right table for right outer joins).
+     */
+    HASH,
+
+    /**
+     * Walks both tables in join key order, matching rows as it goes. A table that is already sorted on its join
+     * columns is read in place; otherwise only an array of its row numbers is sorted. No hash table is built, so
+     * the memory needed beyond the result is small and fixed. The result rows are in join key order.
+     */
+    SORT_MERGE
+}
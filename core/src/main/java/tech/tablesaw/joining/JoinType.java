@@ -0,0 +1,11 @@
+package tech.tablesaw.joining;
+
+/**
+ * The kinds of join supported by {@link DataFrameJoiner}
+ */
+enum JoinType {
+    INNER,
+    LEFT_OUTER,
+    RIGHT_OUTER,
+    FULL_OUTER
+}
@@ -0,0 +1,55 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import tech.tablesaw.sorting.comparators.IntComparatorChain;
+
+/**
+ * The order in which to visit the rows of one table so that their join keys are ascending. A table that is already
+ * sorted is visited in place, without allocating anything; otherwise an array of its row numbers is sorted
+ */
+final class KeyOrder {
+
+    private final int size;
+    private final int[] rows;
+
+    private KeyOrder(int size, int[] rows) {
+        this.size = size;
+        this.rows = rows;
+    }
+
+    static KeyOrder of(int size, IntComparator comparator) {
+        if (isSorted(size, comparator)) {
+            return new KeyOrder(size, null);
+        }
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+        // break ties on the row number, so rows with equal keys keep their original order
+        IntComparatorChain stableComparator = new IntComparatorChain(comparator);
+        stableComparator.addComparator(Integer::compare);
+        IntArrays.parallelQuickSort(rows, stableComparator);
+        return new KeyOrder(size, rows);
+    }
+
+    private static boolean isSorted(int size, IntComparator comparator) {
+        for (int i = 1; i < size; i++) {
+            if (comparator.compare(i - 1, i) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the row number at the given position in key order
+     */
+    int row(int position) {
+        return rows == null ? position : rows[position];
+    }
+}
@@ -0,0 +1,54 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * The output of a join, expressed as two parallel vectors of row numbers: one into the left table and one into the
+ * right. A row number of -1 means the output row has no match on that side.
+ */
+final class RowPairs {
+
+    static final int NO_ROW = -1;
+
+    private final IntArrayList left;
+    private final IntArrayList right;
+
+    RowPairs(int expectedSize) {
+        this(new IntArrayList(expectedSize), new IntArrayList(expectedSize));
+    }
+
+    RowPairs(IntArrayList left, IntArrayList right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    void add(int leftRow, int rightRow) {
+        left.add(leftRow);
+        right.add(rightRow);
+    }
+
+    int size() {
+        return left.size();
+    }
+
+    /**
+     * Returns the left row numbers. The array may be longer than {@link #size()}
+     */
+    int[] leftRows() {
+        return left.elements();
+    }
+
+    /**
+     * Returns the right row numbers. The array may be longer than {@link #size()}
+     */
+    int[] rightRows() {
+        return right.elements();
+    }
+
+    /**
+     * Returns a RowPairs with the left and right sides exchanged
+     */
+    RowPairs swap() {
+        return new RowPairs(right, left);
+    }
+}
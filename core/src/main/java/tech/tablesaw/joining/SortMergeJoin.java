@@ -0,0 +1,179 @@
+package tech.tablesaw.joining;
+
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.sorting.SortUtils;
+import tech.tablesaw.sorting.comparators.IntComparatorChain;
+
+/**
+ * A sort-merge join. Each table is visited in join key order, which is either its natural row order when it is
+ * already sorted on the join columns, or the order of a sorted array of its row numbers. The two sequences are then
+ * merged in a single pass without any hash table.
+ */
+final class SortMergeJoin {
+
+    // Don't instantiate
+    private SortMergeJoin() {}
+
+    static RowPairs join(Column[] leftColumns, Column[] rightColumns, JoinType type) {
+        MergeColumn[] mergeColumns = new MergeColumn[leftColumns.length];
+        for (int i = 0; i < leftColumns.length; i++) {
+            mergeColumns[i] = MergeColumn.of(leftColumns[i], rightColumns[i]);
+        }
+        IntComparatorChain leftComparator = new IntComparatorChain(mergeColumns[0].leftComparator);
+        IntComparatorChain rightComparator = new IntComparatorChain(mergeColumns[0].rightComparator);
+        for (int i = 1; i < mergeColumns.length; i++) {
+            leftComparator.addComparator(mergeColumns[i].leftComparator);
+            rightComparator.addComparator(mergeColumns[i].rightComparator);
+        }
+        KeyOrder left = KeyOrder.of(leftColumns[0].size(), leftComparator);
+        KeyOrder right = KeyOrder.of(rightColumns[0].size(), rightComparator);
+        return merge(left, right, mergeColumns, leftComparator, type);
+    }
+
+    private static RowPairs merge(KeyOrder left, KeyOrder right, MergeColumn[] mergeColumns,
+                                  IntComparator leftComparator, JoinType type) {
+        boolean keepLeft = type == JoinType.LEFT_OUTER || type == JoinType.FULL_OUTER;
+        boolean keepRight = type == JoinType.RIGHT_OUTER || type == JoinType.FULL_OUTER;
+        boolean rightDrives = type == JoinType.RIGHT_OUTER;
+        RowPairs pairs = new RowPairs(Math.max(left.size(), right.size()));
+
+        int i = 0;
+        int j = 0;
+        while (i < left.size() && j < right.size()) {
+            int leftRow = left.row(i);
+            int comparison = compareAcross(mergeColumns, leftRow, right.row(j));
+            if (comparison < 0) {
+                if (keepLeft) {
+                    pairs.add(leftRow, RowPairs.NO_ROW);
+                }
+                i++;
+            } else if (comparison > 0) {
+                if (keepRight) {
+                    pairs.add(RowPairs.NO_ROW, right.row(j));
+                }
+                j++;
+            } else {
+                // find the extent of the run of equal keys on each side, and emit their cross product
+                int leftEnd = i + 1;
+                while (leftEnd < left.size() && leftComparator.compare(leftRow, left.row(leftEnd)) == 0) {
+                    leftEnd++;
+                }
+                int rightEnd = j + 1;
+                while (rightEnd < right.size() && compareAcross(mergeColumns, leftRow, right.row(rightEnd)) == 0) {
+                    rightEnd++;
+                }
+                if (rightDrives) {
+                    for (int r = j; r < rightEnd; r++) {
+                        for (int l = i; l < leftEnd; l++) {
+                            pairs.add(left.row(l), right.row(r));
+                        }
+                    }
+                } else {
+                    for (int l = i; l < leftEnd; l++) {
+                        for (int r = j; r < rightEnd; r++) {
+                            pairs.add(left.row(l), right.row(r));
+                        }
+                    }
+                }
+                i = leftEnd;
+                j = rightEnd;
+            }
+        }
+        for (; keepLeft && i < left.size(); i++) {
+            pairs.add(left.row(i), RowPairs.NO_ROW);
+        }
+        for (; keepRight && j < right.size(); j++) {
+            pairs.add(RowPairs.NO_ROW, right.row(j));
+        }
+        return pairs;
+    }
+
+    private static int compareAcross(MergeColumn[] mergeColumns, int leftRow, int rightRow) {
+        for (MergeColumn column : mergeColumns) {
+            int comparison = column.compareAcross(leftRow, rightRow);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares the values of one pair of join columns, within each table and across the two tables
+     */
+    private static final class MergeColumn {
+
+        private final IntComparator leftComparator;
+        private final IntComparator rightComparator;
+        private final IntComparator acrossComparator;
+
+        private MergeColumn(IntComparator leftComparator, IntComparator rightComparator,
+                            IntComparator acrossComparator) {
+            this.leftComparator = leftComparator;
+            this.rightComparator = rightComparator;
+            this.acrossComparator = acrossComparator;
+        }
+
+        int compareAcross(int leftRow, int rightRow) {
+            return acrossComparator.compare(leftRow, rightRow);
+        }
+
+        static MergeColumn of(Column left, Column right) {
+            if (left instanceof DateColumn) {
+                DateColumn l = (DateColumn) left;
+                DateColumn r = (DateColumn) right;
+                return sortedLikeColumns(l, r, (a, b) -> Integer.compare(l.getIntInternal(a), r.getIntInternal(b)));
+            }
+            if (left instanceof DateTimeColumn) {
+                DateTimeColumn l = (DateTimeColumn) left;
+                DateTimeColumn r = (DateTimeColumn) right;
+                return sortedLikeColumns(l, r, (a, b) -> Long.compare(l.getLongInternal(a), r.getLongInternal(b)));
+            }
+            if (left instanceof TimeColumn) {
+                TimeColumn l = (TimeColumn) left;
+                TimeColumn r = (TimeColumn) right;
+                return sortedLikeColumns(l, r, (a, b) -> Integer.compare(l.getIntInternal(a), r.getIntInternal(b)));
+            }
+            if (left instanceof StringColumn) {
+                StringColumn l = (StringColumn) left;
+                StringColumn r = (StringColumn) right;
+                return sortedLikeColumns(l, r, (a, b) -> l.get(a).compareTo(r.get(b)));
+            }
+            if (left instanceof TextColumn) {
+                TextColumn l = (TextColumn) left;
+                TextColumn r = (TextColumn) right;
+                return sortedLikeColumns(l, r, (a, b) -> l.compareRows(a, r, b));
+            }
+            if (left instanceof NumberColumn) {
+                // doubles are joined after rounding to integers, so they are ordered on the rounded values too
+                NumberColumn l = (NumberColumn) left;
+                NumberColumn r = (NumberColumn) right;
+                return new MergeColumn(
+                        (a, b) -> Long.compare(l.getLong(a), l.getLong(b)),
+                        (a, b) -> Long.compare(r.getLong(a), r.getLong(b)),
+                        (a, b) -> Long.compare(l.getLong(a), r.getLong(b)));
+            }
+            throw new IllegalArgumentException(
+                    "Joining is supported on numeric, string, text, and date-like columns. Column "
+                            + left.name() + " is of type " + left.type());
+        }
+
+        /**
+         * Returns a MergeColumn that orders each table with its column's own ascending row comparator
+         */
+        private static MergeColumn sortedLikeColumns(Column left, Column right, IntComparator acrossComparator) {
+            return new MergeColumn(
+                    SortUtils.rowComparator(left, Sort.Order.ASCEND),
+                    SortUtils.rowComparator(right, Sort.Order.ASCEND),
+                    acrossComparator);
+        }
+    }
+}
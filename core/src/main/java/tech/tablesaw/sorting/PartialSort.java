@@ -0,0 +1,79 @@
+package tech.tablesaw.sorting;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+
+/**
+ * Finds the first n rows in the order given by a row comparator, without sorting all the rows. The rows are passed
+ * once through a heap that holds the n best rows seen so far, with the worst of them on top, so the cost is
+ * O(rows * log n) and the only memory used is the heap.
+ * <p>
+ * Rows that compare as equal are kept in row order
+ */
+public final class PartialSort {
+
+    private PartialSort() {}
+
+    /**
+     * Returns up to n of the rows from 0 to rowCount - 1 that come first in the comparator's order, in that order
+     */
+    public static int[] firstRows(int rowCount, int n, IntComparator comparator) {
+        IntComparator order = (row1, row2) -> {
+            int comparison = comparator.compare(row1, row2);
+            return comparison != 0 ? comparison : Integer.compare(row1, row2);
+        };
+        int[] heap = new int[Math.max(0, Math.min(n, rowCount))];
+        if (heap.length == 0) {
+            return heap;
+        }
+        int size = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (size < heap.length) {
+                heap[size] = row;
+                siftUp(heap, size, order);
+                size++;
+            } else if (order.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(heap, size, order);
+            }
+        }
+        IntArrays.quickSort(heap, order);
+        return heap;
+    }
+
+    /**
+     * Moves the row at the given position up the heap until its parent comes after it, so the last row in the order
+     * is at the top
+     */
+    private static void siftUp(int[] heap, int position, IntComparator order) {
+        int row = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (order.compare(heap[parent], row) >= 0) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = row;
+    }
+
+    private static void siftDown(int[] heap, int size, IntComparator order) {
+        int row = heap[0];
+        int position = 0;
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && order.compare(heap[right], heap[child]) > 0) {
+                child = right;
+            }
+            if (order.compare(row, heap[child]) >= 0) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = row;
+    }
+}
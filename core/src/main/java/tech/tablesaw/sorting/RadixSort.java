@@ -0,0 +1,173 @@
+package tech.tablesaw.sorting;
+
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Sorts the rows of a table without comparing rows. Each sort column's values are turned into unsigned long keys that
+ * order the same way as the column's row comparator: packed dates and times have their sign bit flipped, doubles are
+ * transformed bit-wise as {@link Double#compare(double, double)} orders them, and strings are replaced by the rank of
+ * their value in the sorted dictionary. The rows are then put in order by an LSD radix sort, one byte at a time,
+ * skipping the bytes that are the same in every key.
+ * <p>
+ * The sort is stable, so sorting on several columns is done by sorting on each column in turn, from the last to the
+ * first
+ */
+public final class RadixSort {
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private RadixSort() {}
+
+    /**
+     * Returns true if every column in the sort key can be sorted by this class
+     */
+    public static boolean canSort(Table table, Sort key) {
+        for (Map.Entry<String, Sort.Order> entry : key) {
+            Column column = table.column(entry.getKey());
+            if (!(column instanceof DoubleColumn
+                    || column instanceof DateColumn
+                    || column instanceof TimeColumn
+                    || column instanceof DateTimeColumn
+                    || column instanceof StringColumn)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the rows of the table in the order given by the sort key. Rows with equal values keep their order
+     *
+     * @throws IllegalArgumentException if a sort column is of a type that can't be sorted by this class
+     */
+    public static int[] sort(Table table, Sort key) {
+        int rowCount = table.rowCount();
+        int[] rows = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = i;
+        }
+        Column[] columns = new Column[key.size()];
+        Sort.Order[] orders = new Sort.Order[key.size()];
+        int i = 0;
+        for (Map.Entry<String, Sort.Order> entry : key) {
+            columns[i] = table.column(entry.getKey());
+            orders[i] = entry.getValue();
+            i++;
+        }
+
+        long[] keys = new long[rowCount];
+        int[] rowBuffer = new int[rowCount];
+        long[] keyBuffer = new long[rowCount];
+        for (int c = columns.length - 1; c >= 0; c--) {
+            long[] columnKeys = keys(columns[c]);
+            boolean descending = orders[c] == Sort.Order.DESCEND;
+            for (int r = 0; r < rowCount; r++) {
+                long k = columnKeys[rows[r]];
+                keys[r] = descending ? ~k : k;
+            }
+            sort(rows, keys, rowBuffer, keyBuffer);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the key of each row of the column, such that comparing keys as unsigned longs orders the rows as the
+     * column's row comparator does
+     */
+    private static long[] keys(Column column) {
+        long[] keys = new long[column.size()];
+        if (column instanceof DoubleColumn) {
+            DoubleColumn doubles = (DoubleColumn) column;
+            for (int row = 0; row < keys.length; row++) {
+                long bits = Double.doubleToLongBits(doubles.get(row));
+                // flip every bit of a negative number, and only the sign bit of a positive one
+                keys[row] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+            }
+        } else if (column instanceof DateColumn) {
+            DateColumn dates = (DateColumn) column;
+            for (int row = 0; row < keys.length; row++) {
+                keys[row] = (dates.getIntInternal(row) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            }
+        } else if (column instanceof TimeColumn) {
+            TimeColumn times = (TimeColumn) column;
+            for (int row = 0; row < keys.length; row++) {
+                keys[row] = (times.getIntInternal(row) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+            }
+        } else if (column instanceof DateTimeColumn) {
+            DateTimeColumn dateTimes = (DateTimeColumn) column;
+            for (int row = 0; row < keys.length; row++) {
+                keys[row] = dateTimes.getLongInternal(row) ^ Long.MIN_VALUE;
+            }
+        } else if (column instanceof StringColumn) {
+            int[] ranks = ((StringColumn) column).valueRanks();
+            for (int row = 0; row < keys.length; row++) {
+                keys[row] = ranks[row];
+            }
+        } else {
+            throw new IllegalArgumentException("Can't radix sort column " + column.name() + " of type "
+                    + column.type());
+        }
+        return keys;
+    }
+
+    /**
+     * Sorts the rows by their keys, moving each key along with its row. The buffers must be as long as the rows
+     */
+    private static void sort(int[] rows, long[] keys, int[] rowBuffer, long[] keyBuffer) {
+        int n = rows.length;
+        if (n < 2) {
+            return;
+        }
+        // the bits that differ between any key and the first one; bytes with no such bits need no pass
+        long differing = 0;
+        for (int i = 1; i < n; i++) {
+            differing |= keys[i] ^ keys[0];
+        }
+
+        int[] fromRows = rows;
+        long[] fromKeys = keys;
+        int[] toRows = rowBuffer;
+        long[] toKeys = keyBuffer;
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            if (((differing >>> shift) & (RADIX - 1)) == 0) {
+                continue;
+            }
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(int) (fromKeys[i] >>> shift) & (RADIX - 1)]++;
+            }
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = counts[digit];
+                counts[digit] = position;
+                position += count;
+            }
+            for (int i = 0; i < n; i++) {
+                int target = counts[(int) (fromKeys[i] >>> shift) & (RADIX - 1)]++;
+                toRows[target] = fromRows[i];
+                toKeys[target] = fromKeys[i];
+            }
+            int[] swapRows = fromRows;
+            fromRows = toRows;
+            toRows = swapRows;
+            long[] swapKeys = fromKeys;
+            fromKeys = toKeys;
+            toKeys = swapKeys;
+        }
+        if (fromRows != rows) {
+            System.arraycopy(fromRows, 0, rows, 0, n);
+            System.arraycopy(fromKeys, 0, keys, 0, n);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package tech.tablesaw.sorting;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.AbstractColumn;
+import tech.tablesaw.columns.Column;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the row order of a table's most recent sorts, so that sorting again on the same key costs nothing until
+ * one of the sort columns changes. An order is reused only while the table has the same number of rows and the same
+ * sort column objects, and none of them has been modified since the order was computed. Columns that have handed
+ * out the list backing their values are never cached, as changes made through the list can't be seen
+ */
+public final class SortCache {
+
+    private static final int MAX_ENTRIES = 4;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(MAX_ENTRIES * 2, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns the rows of the table in the order given by the sort key. The array may be shared with later calls,
+     * so it must not be modified. Synchronized, as the access-ordered map is changed by every lookup
+     */
+    public synchronized int[] sortedRows(Table table, Sort key) {
+        Column[] columns = new Column[key.size()];
+        StringBuilder id = new StringBuilder();
+        int i = 0;
+        for (Map.Entry<String, Sort.Order> entry : key) {
+            columns[i] = table.column(entry.getKey());
+            id.append(columns[i].name()).append(' ').append(entry.getValue()).append('\n');
+            i++;
+        }
+
+        Entry cached = entries.get(id.toString());
+        if (cached != null && cached.isValid(columns, table.rowCount())) {
+            return cached.rows;
+        }
+        int[] rows = RadixSort.canSort(table, key) ? RadixSort.sort(table, key) : comparatorSort(table, key);
+        if (isTracked(columns)) {
+            entries.put(id.toString(), new Entry(columns, table.rowCount(), rows));
+        }
+        return rows;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static int[] comparatorSort(Table table, Sort key) {
+        IntComparator comparator = key.size() == 1
+                ? SortUtils.getComparator(table, key)
+                : SortUtils.getChain(table, key);
+        int[] rows = new int[table.rowCount()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        IntArrays.parallelQuickSort(rows, comparator);
+        return rows;
+    }
+
+    /**
+     * Returns true if all the columns count every change to their values, without which a cached order can't be
+     * validated
+     */
+    private static boolean isTracked(Column[] columns) {
+        for (Column column : columns) {
+            if (!(column instanceof AbstractColumn) || !((AbstractColumn<?, ?>) column).isModificationCounted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Entry {
+
+        private final Column[] columns;
+        private final int[] modificationCounts;
+        private final int rowCount;
+        private final int[] rows;
+
+        private Entry(Column[] columns, int rowCount, int[] rows) {
+            this.columns = columns;
+            this.rowCount = rowCount;
+            this.rows = rows;
+            this.modificationCounts = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                modificationCounts[i] = ((AbstractColumn<?, ?>) columns[i]).modificationCount();
+            }
+        }
+
+        private boolean isValid(Column[] currentColumns, int currentRowCount) {
+            if (currentRowCount != rowCount || !isTracked(columns)) {
+                return false;
+            }
+            for (int i = 0; i < columns.length; i++) {
+                if (currentColumns[i] != columns[i]
+                        || ((AbstractColumn<?, ?>) columns[i]).modificationCount() != modificationCounts[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
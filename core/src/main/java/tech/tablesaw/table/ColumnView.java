@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.table;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import tech.tablesaw.aggregate.Accumulator;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.selection.Selection;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only view of the rows of a column that are in a selection. Row i of the view is the i-th selected row of
+ * the column, and every request is forwarded to the column, so creating a view copies nothing.
+ * <p>
+ * Like a {@link TableSlice}, a view is only good until the underlying column changes. Use {@link #materialize()} to
+ * get an independent column holding the selected values
+ */
+public class ColumnView implements Iterable<Object> {
+
+    private final Column column;
+    private final Selection selection;
+
+    ColumnView(Column column, Selection selection) {
+        this.column = column;
+        this.selection = selection;
+    }
+
+    public String name() {
+        return column.name();
+    }
+
+    public ColumnType type() {
+        return column.type();
+    }
+
+    public int size() {
+        return selection.size();
+    }
+
+    /**
+     * Returns the row of the underlying column that holds the given row of this view
+     */
+    public int rowNumber(int row) {
+        return selection.get(row);
+    }
+
+    public Object get(int row) {
+        return column.getObject(rowNumber(row));
+    }
+
+    public double getDouble(int row) {
+        return column.getDouble(rowNumber(row));
+    }
+
+    public String getString(int row) {
+        return column.getString(rowNumber(row));
+    }
+
+    public boolean isMissing(int row) {
+        return column.isMissing(rowNumber(row));
+    }
+
+    /**
+     * Returns the result of applying the function to the selected values. For numeric columns and functions that
+     * provide an accumulator, the values are read in place; otherwise the function is given a materialized copy
+     */
+    public double reduce(AggregateFunction function) {
+        Accumulator accumulator = column instanceof NumberColumn ? function.newAccumulator() : null;
+        if (accumulator == null) {
+            return function.summarize(materialize());
+        }
+        IntIterator rows = selection.iterator();
+        while (rows.hasNext()) {
+            accumulator.accept(column.getDouble(rows.nextInt()));
+        }
+        return accumulator.result();
+    }
+
+    /**
+     * Returns a new column of the same type holding a copy of the selected values
+     */
+    public Column materialize() {
+        return column.where(selection);
+    }
+
+    /**
+     * Returns an iterator over the selected values, in the order of the rows of the underlying column
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        IntIterator rows = selection.iterator();
+        return new Iterator<Object>() {
+
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                if (!rows.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return column.getObject(rows.nextInt());
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package tech.tablesaw.table;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.comparators.IntComparatorChain;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Assigns each row of a table to a dense group id, such that two rows get the same id exactly when they have equal
+ * values in all the grouping columns.
+ * <p>
+ * The rows are hashed in a single pass, using primitive values (dictionary keys for strings, packed values for dates
+ * and times) rather than building a key object per row, and without sorting or copying the table. The groups are then
+ * numbered in the order of their values, as if the table had been sorted on the grouping columns
+ */
+final class GroupIndex {
+
+    private final int[] groupOfRow;
+    private final int groupCount;
+    private final int[] firstRows;
+
+    private GroupIndex(int[] groupOfRow, int groupCount, int[] firstRows) {
+        this.groupOfRow = groupOfRow;
+        this.groupCount = groupCount;
+        this.firstRows = firstRows;
+    }
+
+    static GroupIndex of(List<Column> columns, int rowCount) {
+        RowKeys[] keys = new RowKeys[columns.size()];
+        Long2IntOpenHashMap[] valueIds = new Long2IntOpenHashMap[columns.size()];
+        Long2IntOpenHashMap[] prefixIds = new Long2IntOpenHashMap[columns.size()];
+        for (int col = 0; col < keys.length; col++) {
+            keys[col] = RowKeys.of(columns.get(col));
+            valueIds[col] = new Long2IntOpenHashMap();
+            valueIds[col].defaultReturnValue(-1);
+            prefixIds[col] = new Long2IntOpenHashMap();
+            prefixIds[col].defaultReturnValue(-1);
+        }
+
+        // a group id for the values in the first n columns is found from the id for the first n - 1 columns and the
+        // id of the n-th column's value, packed into one long
+        int[] groupOfRow = new int[rowCount];
+        IntArrayList firstRows = new IntArrayList();
+        for (int row = 0; row < rowCount; row++) {
+            int group = 0;
+            for (int col = 0; col < keys.length; col++) {
+                int valueId = denseId(valueIds[col], keys[col].key(row));
+                group = denseId(prefixIds[col], ((long) group << 32) | valueId);
+            }
+            if (group == firstRows.size()) {
+                firstRows.add(row);
+            }
+            groupOfRow[row] = group;
+        }
+        return sorted(columns, groupOfRow, firstRows.toIntArray());
+    }
+
+    /**
+     * Renumbers the groups in the order of their values, comparing one representative row from each group
+     */
+    private static GroupIndex sorted(List<Column> columns, int[] groupOfRow, int[] firstRows) {
+        int groupCount = firstRows.length;
+        if (columns.isEmpty()) {
+            return new GroupIndex(groupOfRow, groupCount, firstRows);
+        }
+        IntComparatorChain comparator = new IntComparatorChain(columns.get(0).rowComparator());
+        for (int col = 1; col < columns.size(); col++) {
+            comparator.addComparator(columns.get(col).rowComparator());
+        }
+        int[] order = new int[groupCount];
+        for (int group = 0; group < groupCount; group++) {
+            order[group] = group;
+        }
+        IntArrays.quickSort(order, (a, b) -> comparator.compare(firstRows[a], firstRows[b]));
+
+        int[] rank = new int[groupCount];
+        int[] sortedFirstRows = new int[groupCount];
+        for (int i = 0; i < groupCount; i++) {
+            rank[order[i]] = i;
+            sortedFirstRows[i] = firstRows[order[i]];
+        }
+        for (int row = 0; row < groupOfRow.length; row++) {
+            groupOfRow[row] = rank[groupOfRow[row]];
+        }
+        return new GroupIndex(groupOfRow, groupCount, sortedFirstRows);
+    }
+
+    private static int denseId(Long2IntOpenHashMap ids, long key) {
+        int id = ids.putIfAbsent(key, ids.size());
+        return id == -1 ? ids.size() - 1 : id;
+    }
+
+    int groupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Returns the group id of every row in the table
+     */
+    int[] groupOfRow() {
+        return groupOfRow;
+    }
+
+    /**
+     * Returns a row of the table that belongs to the given group
+     */
+    int firstRow(int group) {
+        return firstRows[group];
+    }
+
+    /**
+     * Returns a selection of the rows in each group, indexed by group id
+     */
+    Selection[] selections() {
+        Selection[] selections = new Selection[groupCount];
+        for (int group = 0; group < groupCount; group++) {
+            selections[group] = new BitmapBackedSelection();
+        }
+        for (int row = 0; row < groupOfRow.length; row++) {
+            selections[groupOfRow[row]].add(row);
+        }
+        return selections;
+    }
+
+    /**
+     * Provides a primitive key for each row of a column, equal for two rows exactly when their values are equal
+     */
+    @FunctionalInterface
+    private interface RowKeys {
+
+        long key(int row);
+
+        static RowKeys of(Column column) {
+            if (column instanceof StringColumn) {
+                StringColumn strings = (StringColumn) column;
+                return strings::getInt;
+            }
+            if (column instanceof DateColumn) {
+                DateColumn dates = (DateColumn) column;
+                return dates::getIntInternal;
+            }
+            if (column instanceof TimeColumn) {
+                TimeColumn times = (TimeColumn) column;
+                return times::getIntInternal;
+            }
+            if (column instanceof DateTimeColumn) {
+                DateTimeColumn dateTimes = (DateTimeColumn) column;
+                return dateTimes::getLongInternal;
+            }
+            if (column instanceof BooleanColumn) {
+                BooleanColumn booleans = (BooleanColumn) column;
+                return booleans::getByte;
+            }
+            if (column instanceof NumberColumn) {
+                NumberColumn numbers = (NumberColumn) column;
+                return row -> Double.doubleToLongBits(numbers.get(row));
+            }
+            // any other column type is keyed on its byte representation
+            Object2IntOpenHashMap<ByteBuffer> ids = new Object2IntOpenHashMap<>();
+            ids.defaultReturnValue(-1);
+            return row -> {
+                int id = ids.putIfAbsent(ByteBuffer.wrap(column.asBytes(row)), ids.size());
+                return id == -1 ? ids.size() - 1 : id;
+            };
+        }
+    }
+}
@@ -24,6 +24,7 @@ import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumberColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
 import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.conversion.TableConverter;
@@ -373,6 +374,14 @@ public abstract class Relation {
         return (StringColumn) column(columnIndex);
     }
 
+    public TextColumn textColumn(String columnName) {
+        return (TextColumn) column(columnName);
+    }
+
+    public TextColumn textColumn(int columnIndex) {
+        return (TextColumn) column(columnIndex);
+    }
+
     public DateTimeColumn dateTimeColumn(int columnIndex) {
         return (DateTimeColumn) column(columnIndex);
     }
@@ -1,25 +1,61 @@
 package tech.tablesaw.table;
 
+import com.google.common.base.Preconditions;
 import org.apache.commons.lang3.StringUtils;
+import tech.tablesaw.aggregate.Accumulator;
 import tech.tablesaw.aggregate.AggregateFunction;
 import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumberColumn;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
-import tech.tablesaw.selection.Selection;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.datetimes.PackedLocalDateTime;
+import tech.tablesaw.columns.times.PackedLocalTime;
+
+import java.time.Duration;
+import java.util.Arrays;
 
 /**
- * Does a calculation on a rolling basis (e.g. mean for last 20 days)
+ * Does a calculation on a rolling basis (e.g. mean for last 20 days).
+ * <p>
+ * A window is either a number of rows, or a duration over a column of date-times sorted in ascending order. The
+ * windows slide along the column one row at a time, and the common functions (sum, mean, min, max, variance,
+ * standard deviation, median and the other percentiles) are updated incrementally as rows enter and leave the
+ * window, so they take O(n) or O(n log n) time whatever the window size. Other functions are computed for each
+ * window from an accumulator, or from a copy of the window's values
  */
 public class RollingColumn {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
     private final Column column;
     private final int window;
+    private final DateTimeColumn times;
+    private final Duration duration;
 
     public RollingColumn(Column column, int window) {
+        Preconditions.checkArgument(window > 0, "The window size must be positive");
         this.column = column;
         this.window = window;
+        this.times = null;
+        this.duration = null;
+    }
+
+    /**
+     * Returns a rolling column whose window for each row holds the rows whose time is later than the row's time
+     * minus the given duration, up to and including the row itself
+     *
+     * @throws IllegalArgumentException if the times are missing or out of order, or not one per row of the column
+     */
+    public RollingColumn(Column column, DateTimeColumn times, Duration window) {
+        Preconditions.checkArgument(times.size() == column.size(),
+                "The time column must have as many rows as the column");
+        Preconditions.checkArgument(!window.isNegative() && !window.isZero(), "The window must be positive");
+        this.column = column;
+        this.window = 0;
+        this.times = times;
+        this.duration = window;
     }
 
     public NumberColumn mean() {
@@ -38,6 +74,22 @@ public class RollingColumn {
         return calc(AggregateFunctions.sum);
     }
 
+    public NumberColumn min() {
+        return calc(AggregateFunctions.min);
+    }
+
+    public NumberColumn max() {
+        return calc(AggregateFunctions.max);
+    }
+
+    public NumberColumn variance() {
+        return calc(AggregateFunctions.variance);
+    }
+
+    public NumberColumn stdDev() {
+        return calc(AggregateFunctions.stdDev);
+    }
+
     public NumberColumn pctChange() {
         return calc(AggregateFunctions.pctChange);
     }
@@ -47,30 +99,96 @@ public class RollingColumn {
         String separator = useSpaces ? " " : "";
         return new StringBuilder(column.name())
                 .append(separator).append(useSpaces ? function.functionName() : StringUtils.capitalize(function.functionName()))
-                .append(separator).append(window)
+                .append(separator).append(times == null ? String.valueOf(window) : duration.toString())
                 .toString();
     }
 
     public NumberColumn calc(AggregateFunction function) {
-        // TODO: the subset operation copies the array. creating a view would likely be more efficient
-        NumberColumn result = DoubleColumn.create(generateNewColumnName(function), column.size());
-        for (int i = 0; i < window - 1; i++) {
-            result.append(NumberColumn.MISSING_VALUE);
+        if (!(column instanceof NumberColumn)) {
+            throw new IllegalArgumentException("Cannot calculate " + function.functionName()
+                    + " on column of type " + column.type());
         }
-        for (int origColIndex = 0; origColIndex < column.size() - window + 1; origColIndex++) {
-            Selection selection = new BitmapBackedSelection();
-            selection.addRange(origColIndex, origColIndex + window);
-            Column windowedColumn = column.subset(selection);
-            double calc;
-            if (windowedColumn instanceof NumberColumn) {
-                calc = function.summarize(windowedColumn);
+        double[] values = column.asDoubleArray();
+        int[] starts = times == null ? rowWindowStarts(values.length) : timeWindowStarts();
+
+        NumberColumn result = DoubleColumn.create(generateNewColumnName(function), values.length);
+        SlidingAggregate sliding = SlidingAggregate.of(function, values);
+        int start = 0;
+        for (int row = 0; row < values.length; row++) {
+            if (sliding != null) {
+                sliding.add(values[row]);
+            }
+            if (starts[row] < 0) {
+                // the window isn't full yet
+                result.append(NumberColumn.MISSING_VALUE);
+            } else if (sliding == null) {
+                result.append(summarize(function, values, starts[row], row + 1));
             } else {
-                throw new IllegalArgumentException("Cannot calculate " + function.functionName()
-                        + " on column of type " + windowedColumn.type());
+                // the windows' starts never move backwards, so each row is removed once
+                for (; start < starts[row]; start++) {
+                    sliding.remove(values[start]);
+                }
+                result.append(sliding.result());
             }
-            result.append(calc);
         }
         return result;
     }
 
+    /**
+     * Returns the first row of the window ending at each row, or -1 if there are fewer rows than the window size
+     * up to that row
+     */
+    private int[] rowWindowStarts(int rowCount) {
+        int[] starts = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            starts[row] = row - window + 1;
+            if (starts[row] < 0) {
+                starts[row] = -1;
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * Returns the first row of the window ending at each row: the first row whose time is within the duration
+     * before the time of the row
+     */
+    private int[] timeWindowStarts() {
+        long windowMillis = duration.toMillis();
+        long[] millis = new long[times.size()];
+        for (int row = 0; row < millis.length; row++) {
+            long dateTime = times.getLongInternal(row);
+            Preconditions.checkArgument(dateTime != DateTimeColumn.MISSING_VALUE,
+                    "The time column has a missing value in row %s", row);
+            millis[row] = PackedLocalDate.toEpochDay(PackedLocalDateTime.date(dateTime)) * MILLIS_PER_DAY
+                    + PackedLocalTime.getMillisecondOfDay(PackedLocalDateTime.time(dateTime));
+            Preconditions.checkArgument(row == 0 || millis[row] >= millis[row - 1],
+                    "The time column must be sorted in ascending order, but row %s is earlier than the row before it",
+                    row);
+        }
+        int[] starts = new int[millis.length];
+        int start = 0;
+        for (int row = 0; row < millis.length; row++) {
+            while (millis[start] <= millis[row] - windowMillis) {
+                start++;
+            }
+            starts[row] = start;
+        }
+        return starts;
+    }
+
+    /**
+     * Returns the result of the function over the values between start, inclusive, and end, exclusive, for functions
+     * that can't be computed incrementally
+     */
+    static double summarize(AggregateFunction function, double[] values, int start, int end) {
+        Accumulator accumulator = function.newAccumulator();
+        if (accumulator == null) {
+            return function.summarize(DoubleColumn.create(function.functionName(), Arrays.copyOfRange(values, start, end)));
+        }
+        for (int i = start; i < end; i++) {
+            accumulator.accept(values[i]);
+        }
+        return accumulator.result();
+    }
 }
@@ -0,0 +1,283 @@
+package tech.tablesaw.table;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayFIFOQueue;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.api.NumberColumn;
+
+import java.util.Arrays;
+
+/**
+ * The state of an aggregate function over a window that slides along a column. Values are added at the end of the
+ * window and removed from its start, in the same order they were added, and the result is updated incrementally
+ * rather than recomputed from every value in the window.
+ * <p>
+ * As with the aggregate functions, missing values are ignored, and the result of a window with no values is missing
+ */
+abstract class SlidingAggregate {
+
+    abstract void add(double value);
+
+    /**
+     * Removes the oldest value in the window, which must be the given value
+     */
+    abstract void remove(double value);
+
+    abstract double result();
+
+    /**
+     * Returns a sliding implementation of the given function over windows of the given values, or null if there
+     * isn't one
+     */
+    static SlidingAggregate of(AggregateFunction function, double[] values) {
+        if (function == AggregateFunctions.sum) {
+            return new Sum(false);
+        }
+        if (function == AggregateFunctions.mean) {
+            return new Sum(true);
+        }
+        if (function == AggregateFunctions.min) {
+            return new Extreme(false);
+        }
+        if (function == AggregateFunctions.max) {
+            return new Extreme(true);
+        }
+        if (function == AggregateFunctions.variance) {
+            return new Variance(false);
+        }
+        if (function == AggregateFunctions.stdDev) {
+            return new Variance(true);
+        }
+        if (function == AggregateFunctions.median) {
+            return new Percentile(values, 50.0);
+        }
+        if (function == AggregateFunctions.quartile1) {
+            return new Percentile(values, 25.0);
+        }
+        if (function == AggregateFunctions.quartile3) {
+            return new Percentile(values, 75.0);
+        }
+        if (function == AggregateFunctions.percentile90) {
+            return new Percentile(values, 90.0);
+        }
+        if (function == AggregateFunctions.percentile95) {
+            return new Percentile(values, 95.0);
+        }
+        if (function == AggregateFunctions.percentile99) {
+            return new Percentile(values, 99.0);
+        }
+        return null;
+    }
+
+    private static boolean isMissing(double value) {
+        return NumberColumn.valueIsMissing(value);
+    }
+
+    /**
+     * A running sum and count, for the sum or the mean
+     */
+    private static final class Sum extends SlidingAggregate {
+
+        private final boolean mean;
+        private double sum;
+        private int count;
+
+        private Sum(boolean mean) {
+            this.mean = mean;
+        }
+
+        @Override
+        void add(double value) {
+            if (!isMissing(value)) {
+                sum += value;
+                count++;
+            }
+        }
+
+        @Override
+        void remove(double value) {
+            if (!isMissing(value)) {
+                count--;
+                // start again from zero when the window empties, so rounding errors don't carry over
+                sum = count == 0 ? 0 : sum - value;
+            }
+        }
+
+        @Override
+        double result() {
+            if (count == 0) {
+                return NumberColumn.MISSING_VALUE;
+            }
+            return mean ? sum / count : sum;
+        }
+    }
+
+    /**
+     * A monotonic queue holding the values that can still become the minimum (or maximum) of the window: each new
+     * value removes the values before it that it beats, so every value enters and leaves the queue once
+     */
+    private static final class Extreme extends SlidingAggregate {
+
+        private final boolean max;
+        private final DoubleArrayFIFOQueue candidates = new DoubleArrayFIFOQueue();
+
+        private Extreme(boolean max) {
+            this.max = max;
+        }
+
+        private boolean beats(double value, double other) {
+            return max ? value > other : value < other;
+        }
+
+        @Override
+        void add(double value) {
+            if (isMissing(value)) {
+                return;
+            }
+            while (!candidates.isEmpty() && beats(value, candidates.lastDouble())) {
+                candidates.dequeueLastDouble();
+            }
+            candidates.enqueue(value);
+        }
+
+        @Override
+        void remove(double value) {
+            // equal values are all kept in the queue, so the oldest value is at the head if it's still a candidate
+            if (!isMissing(value) && !candidates.isEmpty() && candidates.firstDouble() == value) {
+                candidates.dequeueDouble();
+            }
+        }
+
+        @Override
+        double result() {
+            return candidates.isEmpty() ? NumberColumn.MISSING_VALUE : candidates.firstDouble();
+        }
+    }
+
+    /**
+     * Welford's running mean and sum of squared deviations, updated in both directions, for the sample variance or
+     * standard deviation
+     */
+    private static final class Variance extends SlidingAggregate {
+
+        private final boolean stdDev;
+        private int count;
+        private double mean;
+        private double sumOfSquaredDeviations;
+
+        private Variance(boolean stdDev) {
+            this.stdDev = stdDev;
+        }
+
+        @Override
+        void add(double value) {
+            if (!isMissing(value)) {
+                count++;
+                double delta = value - mean;
+                mean += delta / count;
+                sumOfSquaredDeviations += delta * (value - mean);
+            }
+        }
+
+        @Override
+        void remove(double value) {
+            if (isMissing(value)) {
+                return;
+            }
+            count--;
+            if (count == 0) {
+                mean = 0;
+                sumOfSquaredDeviations = 0;
+                return;
+            }
+            double delta = value - mean;
+            mean -= delta / count;
+            sumOfSquaredDeviations = Math.max(0, sumOfSquaredDeviations - delta * (value - mean));
+        }
+
+        @Override
+        double result() {
+            if (count == 0) {
+                return NumberColumn.MISSING_VALUE;
+            }
+            double variance = count == 1 ? 0 : sumOfSquaredDeviations / (count - 1);
+            return stdDev ? Math.sqrt(variance) : variance;
+        }
+    }
+
+    /**
+     * An order statistic tree over the distinct values of the whole column: a Fenwick tree counting how many times
+     * each distinct value is in the window, from which the k-th smallest value is found in O(log n). Percentiles are
+     * estimated as {@link AggregateFunctions#percentile(NumberColumn, double)} does
+     */
+    private static final class Percentile extends SlidingAggregate {
+
+        private final double[] distinct;
+        private final int[] tree;
+        private final double percentile;
+        private final int highestBit;
+        private int count;
+
+        private Percentile(double[] values, double percentile) {
+            double[] sorted = Arrays.stream(values).filter(value -> !isMissing(value)).sorted().distinct().toArray();
+            this.distinct = sorted;
+            this.tree = new int[sorted.length + 1];
+            this.percentile = percentile;
+            this.highestBit = Integer.highestOneBit(Math.max(1, sorted.length));
+        }
+
+        private void update(double value, int delta) {
+            for (int i = Arrays.binarySearch(distinct, value) + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /**
+         * Returns the k-th smallest value in the window, counting from 1
+         */
+        private double kth(int k) {
+            int position = 0;
+            for (int bit = highestBit; bit > 0; bit >>= 1) {
+                int next = position + bit;
+                if (next < tree.length && tree[next] < k) {
+                    position = next;
+                    k -= tree[next];
+                }
+            }
+            return distinct[position];
+        }
+
+        @Override
+        void add(double value) {
+            if (!isMissing(value)) {
+                update(value, 1);
+                count++;
+            }
+        }
+
+        @Override
+        void remove(double value) {
+            if (!isMissing(value)) {
+                update(value, -1);
+                count--;
+            }
+        }
+
+        @Override
+        double result() {
+            if (count == 0) {
+                return NumberColumn.MISSING_VALUE;
+            }
+            double position = percentile * (count + 1) / 100;
+            if (position < 1) {
+                return kth(1);
+            }
+            if (position >= count) {
+                return kth(count);
+            }
+            int lower = (int) Math.floor(position);
+            double lowerValue = kth(lower);
+            return lowerValue + (position - lower) * (kth(lower + 1) - lowerValue);
+        }
+    }
+}
@@ -17,21 +17,23 @@ package tech.tablesaw.table;
 import tech.tablesaw.api.CategoricalColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
-import tech.tablesaw.selection.BitmapBackedSelection;
 import tech.tablesaw.selection.Selection;
 
-import java.nio.ByteBuffer;
-import java.util.Arrays;
 import java.util.List;
 
 /**
- * A group of tables formed by performing splitting operations on an original table
+ * A group of table slices, one for each combination of values of the grouping columns found in the source table.
+ * <p>
+ * Rows are assigned to groups by hashing, so the source table is neither sorted nor copied. Each slice is a view of
+ * the source table containing the rows of its group in their original order, and the slices are ordered by their
+ * values in the grouping columns
  */
 public class StandardTableSliceGroup extends TableSliceGroup {
 
+    private int[] groupOfRow;
+
     private StandardTableSliceGroup(Table original, CategoricalColumn... columns) {
         super(original, splitColumnNames(columns));
-        setSourceTable(getSourceTable().sortOn(getSplitColumnNames()));
         splitOn(getSplitColumnNames());
     }
 
@@ -65,52 +67,33 @@ public class StandardTableSliceGroup extends TableSliceGroup {
      * splitColumnNames
      */
     private void splitOn(String... columnNames) {
-
         List<Column> columns = getSourceTable().columns(columnNames);
-        int byteSize = getByteSize(columns);
-
-        byte[] currentKey = null;
-        String currentStringKey = null;
-        TableSlice view;
-
-        Selection selection = new BitmapBackedSelection();
-
-        for (int row = 0; row < getSourceTable().rowCount(); row++) {
-
-            ByteBuffer byteBuffer = ByteBuffer.allocate(byteSize);
-            String newStringKey = "";
+        GroupIndex groups = GroupIndex.of(columns, getSourceTable().rowCount());
+        groupOfRow = groups.groupOfRow();
+        Selection[] selections = groups.selections();
+        for (int group = 0; group < groups.groupCount(); group++) {
+            TableSlice view = new TableSlice(getSourceTable(), selections[group]);
+            view.setName(groupName(columns, groups.firstRow(group)));
+            addSlice(view);
+        }
+    }
 
-            for (int col = 0; col < columnNames.length; col++) {
-                if (col > 0) {
-                    newStringKey = newStringKey + SPLIT_STRING;
-                }
+    @Override
+    int[] sliceOfRow() {
+        return groupOfRow;
+    }
 
-                Column c = getSourceTable().column(columnNames[col]);
-                String groupKey = getSourceTable().get(row, getSourceTable().columnIndex(c));
-                newStringKey = newStringKey + groupKey;
-                byteBuffer.put(c.asBytes(row));
-            }
-            byte[] newKey = byteBuffer.array();
-            if (row == 0) {
-                currentKey = newKey;
-                currentStringKey = newStringKey;
-            }
-            if (!Arrays.equals(newKey, currentKey)) {
-                currentKey = newKey;
-                view = new TableSlice(getSourceTable(), selection);
-                view.setName(currentStringKey);
-                currentStringKey = newStringKey;
-                addSlice(view);
-                selection = new BitmapBackedSelection();
-                selection.add(row);
-            } else {
-                selection.add(row);
+    /**
+     * Returns the name of the slice containing the given row, made from its values in the grouping columns
+     */
+    private static String groupName(List<Column> columns, int row) {
+        StringBuilder name = new StringBuilder();
+        for (int col = 0; col < columns.size(); col++) {
+            if (col > 0) {
+                name.append(SPLIT_STRING);
             }
+            name.append(columns.get(col).getString(row));
         }
-        if (!selection.isEmpty()) {
-            view = new TableSlice(getSourceTable(), selection);
-            view.setName(currentStringKey);
-            addSlice(view);
-        }
+        return name.toString();
     }
 }
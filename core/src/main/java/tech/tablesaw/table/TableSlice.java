@@ -46,16 +46,37 @@ public class TableSlice extends Relation implements IntIterable {
         this.table = table;
     }
 
+    /**
+     * Returns a new column holding a copy of the rows of this slice. Use {@link #view(int)} to read the rows in place
+     */
     @Override
     public Column column(int columnIndex) {
         return table.column(columnIndex).subset(selection);
     }
 
+    /**
+     * Returns a new column holding a copy of the rows of this slice. Use {@link #view(String)} to read the rows in
+     * place
+     */
     @Override
     public Column column(String columnName) {
         return table.column(columnName).subset(selection);
     }
 
+    /**
+     * Returns a view of the rows of this slice in the given column of the underlying table, without copying them
+     */
+    public ColumnView view(int columnIndex) {
+        return new ColumnView(table.column(columnIndex), selection);
+    }
+
+    /**
+     * Returns a view of the rows of this slice in the named column of the underlying table, without copying them
+     */
+    public ColumnView view(String columnName) {
+        return new ColumnView(table.column(columnName), selection);
+    }
+
     /**
      * Returns the entire column of the source table, unfiltered
      */
@@ -139,6 +160,9 @@ public class TableSlice extends Relation implements IntIterable {
         return this;
     }
 
+    /**
+     * Returns a new table holding a copy of the rows of this slice
+     */
     public Table asTable() {
         Table table = Table.create(this.name());
         for (Column column : columns()) {
@@ -147,6 +171,13 @@ public class TableSlice extends Relation implements IntIterable {
         return table;
     }
 
+    /**
+     * Returns the rows of the underlying table that are in this slice
+     */
+    Selection selection() {
+        return selection;
+    }
+
     private IntIterator intIterator() {
         return selection.iterator();
     }
@@ -160,8 +191,7 @@ public class TableSlice extends Relation implements IntIterable {
      * @throws IllegalArgumentException if numberColumnName doesn't name a numeric column in this table
      */
     public double reduce(String numberColumnName, AggregateFunction function) {
-        Column column = table.column(numberColumnName);
-        return function.summarize(column.where(selection));
+        return view(numberColumnName).reduce(function);
     }
 
     /**
@@ -19,7 +19,9 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.ints.IntIterator;
 import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.GroupAggregator;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumberColumn;
 import tech.tablesaw.api.StringColumn;
@@ -27,6 +29,7 @@ import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -49,7 +52,10 @@ public class TableSliceGroup implements Iterable<TableSlice> {
     private final String[] splitColumnNames;
 
     // The table that underlies all the manipulations performed here
-    private Table sourceTable;
+    private final Table sourceTable;
+
+    // The number of threads used to aggregate numeric columns
+    private int parallelism = 1;
 
     /**
      * Returns an instance for calculating a single summary for the given table, with no sub-groupings
@@ -68,16 +74,18 @@ public class TableSliceGroup implements Iterable<TableSlice> {
         this.splitColumnNames = groupColumnNames;
     }
 
-    String[] getSplitColumnNames() {
-        return splitColumnNames;
+    /**
+     * Sets the number of threads used to aggregate numeric columns, which is 1 by default. The slices appear in the
+     * same order in the result regardless of the parallelism
+     */
+    public TableSliceGroup parallelism(int parallelism) {
+        Preconditions.checkArgument(parallelism > 0, "The parallelism must be positive, but was %s", parallelism);
+        this.parallelism = parallelism;
+        return this;
     }
 
-    int getByteSize(List<Column> columns) {
-        int byteSize = 0;
-        for (Column c : columns) {
-            byteSize += c.byteSize();
-        }
-        return byteSize;
+    String[] getSplitColumnNames() {
+        return splitColumnNames;
     }
 
     void addSlice(TableSlice slice) {
@@ -145,6 +153,10 @@ public class TableSliceGroup implements Iterable<TableSlice> {
     /**
      * Applies the given aggregations to the given columns.
      * The apply and combine steps of a split-apply-combine.
+     * <p>
+     * Numeric columns are aggregated for all slices in a single pass over the column, using the parallelism set on
+     * this group, unless the slices overlap. Other columns, and numeric columns of overlapping slices, are aggregated
+     * by applying each function to a copy of each slice's column
      *
      * @param functions map from column name to aggregation to apply on that function
      */
@@ -152,27 +164,67 @@ public class TableSliceGroup implements Iterable<TableSlice> {
         Preconditions.checkArgument(!getSlices().isEmpty());
         Table groupTable = summaryTableName(sourceTable);
         StringColumn groupColumn = StringColumn.create("Group", size());
+        for (TableSlice subTable : getSlices()) {
+            groupColumn.append(subTable.name());
+        }
         groupTable.addColumns(groupColumn);
+        // found once the first numeric column needs it; null if the slices overlap
+        int[] sliceOfRow = null;
+        boolean sliceOfRowFound = false;
         for (Map.Entry<String, Collection<AggregateFunction>> entry : functions.asMap().entrySet()) {
             String columnName = entry.getKey();
-            int functionCount = 0;
-            for (AggregateFunction function : entry.getValue()) {
+            Column column = sourceTable.column(columnName);
+
+            List<AggregateFunction> columnFunctions = new ArrayList<>(entry.getValue());
+            double[][] aggregated = null;
+            if (GroupAggregator.canAggregate(column)) {
+                if (!sliceOfRowFound) {
+                    sliceOfRow = sliceOfRow();
+                    sliceOfRowFound = true;
+                }
+                if (sliceOfRow != null) {
+                    aggregated = GroupAggregator.aggregate((NumberColumn) column, sliceOfRow, size(), columnFunctions,
+                            parallelism);
+                }
+            }
+
+            for (int f = 0; f < columnFunctions.size(); f++) {
+                AggregateFunction function = columnFunctions.get(f);
                 String colName = aggregateColumnName(columnName, function.functionName());
-                NumberColumn resultColumn = DoubleColumn.create(colName, getSlices().size());
-                for (TableSlice subTable : getSlices()) {
-                    double result = subTable.reduce(columnName, function);
-                    if (functionCount == 0) {
-                        groupColumn.append(subTable.name());
+                NumberColumn resultColumn = DoubleColumn.create(colName, size());
+                for (int i = 0; i < size(); i++) {
+                    if (aggregated != null) {
+                        resultColumn.append(aggregated[f][i]);
+                    } else {
+                        resultColumn.append(get(i).reduce(columnName, function));
                     }
-                    resultColumn.append(result);
                 }
                 groupTable.addColumns(resultColumn);
-                functionCount++;
             }
         }
         return splitGroupingColumn(groupTable);
     }
 
+    /**
+     * Returns the index of the slice that contains each row of the source table, or -1 for rows in no slice. Returns
+     * null if the slices overlap, as a row in more than one slice can't be given a single index
+     */
+    int[] sliceOfRow() {
+        int[] sliceOfRow = new int[sourceTable.rowCount()];
+        Arrays.fill(sliceOfRow, -1);
+        for (int i = 0; i < size(); i++) {
+            IntIterator rows = get(i).selection().iterator();
+            while (rows.hasNext()) {
+                int row = rows.nextInt();
+                if (sliceOfRow[row] >= 0) {
+                    return null;
+                }
+                sliceOfRow[row] = i;
+            }
+        }
+        return sliceOfRow;
+    }
+
     public static Table summaryTableName(Table source) {
         return Table.create(source.name() + " summary");
     }
@@ -204,8 +256,4 @@ public class TableSliceGroup implements Iterable<TableSlice> {
         }
         return tableList;
     }
-
-    void setSourceTable(Table sourceTable) {
-        this.sourceTable = sourceTable;
-    }
 }
@@ -0,0 +1,321 @@
+package tech.tablesaw.table;
+
+import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import org.apache.commons.lang3.StringUtils;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.aggregate.AggregateFunctions;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.Sort;
+import tech.tablesaw.sorting.SortUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes window functions: functions of each row and the rows around it in the same partition, such as ranks,
+ * lags and running totals. The rows are partitioned by the values of the partition columns, and ordered within each
+ * partition by the order columns, or kept in table order if none are given. For example
+ * <p>
+ * table.window().partitionBy("store").orderBy("date").cumSum("sales")
+ * <p>
+ * Every function returns a new column aligned with the rows of the table, so it can be added to the table as is.
+ * The table isn't sorted or split: the rows of each partition are found from the partitions' group ids and a
+ * permutation of the row numbers, and the results are written straight to their rows
+ */
+public class Window {
+
+    private final Table table;
+    private final List<String> partitionColumns = new ArrayList<>();
+    private Sort order;
+
+    public Window(Table table) {
+        this.table = table;
+    }
+
+    /**
+     * Partitions the rows by the values of the given columns
+     */
+    public Window partitionBy(String... columnNames) {
+        for (String columnName : columnNames) {
+            partitionColumns.add(table.column(columnName).name());
+        }
+        return this;
+    }
+
+    /**
+     * Orders the rows of each partition by the given columns, in ascending order
+     */
+    public Window orderBy(String... columnNames) {
+        for (String columnName : columnNames) {
+            if (order == null) {
+                order = Sort.on(columnName, Sort.Order.ASCEND);
+            } else {
+                order.next(columnName, Sort.Order.ASCEND);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Orders the rows of each partition by the given sort key
+     */
+    public Window orderBy(Sort key) {
+        Preconditions.checkArgument(!key.isEmpty());
+        this.order = key;
+        return this;
+    }
+
+    /**
+     * Returns the position of each row in its partition, starting from 1
+     */
+    public NumberColumn rowNumber() {
+        Partitions partitions = partitions();
+        double[] result = new double[table.rowCount()];
+        for (int p = 0; p < partitions.count(); p++) {
+            for (int i = partitions.start(p); i < partitions.end(p); i++) {
+                result[partitions.row(i)] = i - partitions.start(p) + 1;
+            }
+        }
+        return DoubleColumn.create("Row Number", result);
+    }
+
+    /**
+     * Returns the rank of each row in its partition: one more than the number of rows that come before it. Rows with
+     * equal order values get the same rank, leaving gaps after them
+     */
+    public NumberColumn rank() {
+        return rank(false);
+    }
+
+    /**
+     * Returns the rank of each row in its partition, where rows with equal order values get the same rank and the
+     * ranks have no gaps
+     */
+    public NumberColumn denseRank() {
+        return rank(true);
+    }
+
+    private NumberColumn rank(boolean dense) {
+        Partitions partitions = partitions();
+        IntComparator comparator = orderComparator();
+        double[] result = new double[table.rowCount()];
+        for (int p = 0; p < partitions.count(); p++) {
+            int rank = 0;
+            for (int i = partitions.start(p); i < partitions.end(p); i++) {
+                boolean tied = i > partitions.start(p)
+                        && (comparator == null || comparator.compare(partitions.row(i - 1), partitions.row(i)) == 0);
+                if (!tied) {
+                    rank = dense ? rank + 1 : i - partitions.start(p) + 1;
+                }
+                result[partitions.row(i)] = rank;
+            }
+        }
+        return DoubleColumn.create(dense ? "Dense Rank" : "Rank", result);
+    }
+
+    /**
+     * Returns a column holding, for each row, the value of the named column n rows earlier in its partition, or a
+     * missing value if there is no such row
+     */
+    public Column lag(String columnName, int n) {
+        Column column = table.column(columnName);
+        return shifted(column, n).setName(column.name() + " lag(" + n + ")");
+    }
+
+    /**
+     * Returns a column holding, for each row, the value of the named column n rows later in its partition, or a
+     * missing value if there is no such row
+     */
+    public Column lead(String columnName, int n) {
+        Column column = table.column(columnName);
+        return shifted(column, -n).setName(column.name() + " lead(" + n + ")");
+    }
+
+    private Column shifted(Column column, int n) {
+        Partitions partitions = partitions();
+        int[] sourceRows = new int[table.rowCount()];
+        for (int p = 0; p < partitions.count(); p++) {
+            for (int i = partitions.start(p); i < partitions.end(p); i++) {
+                int source = i - n;
+                boolean inPartition = source >= partitions.start(p) && source < partitions.end(p);
+                sourceRows[partitions.row(i)] = inPartition ? partitions.row(source) : -1;
+            }
+        }
+
+        // the values are copied in their internal form, a run of rows at a time
+        Column result = column.emptyCopy(sourceRows.length);
+        IntArrayList run = new IntArrayList();
+        for (int sourceRow : sourceRows) {
+            if (sourceRow >= 0) {
+                run.add(sourceRow);
+            } else {
+                column.type().copy(run, column, result);
+                run.clear();
+                result.appendMissing();
+            }
+        }
+        column.type().copy(run, column, result);
+        return result;
+    }
+
+    /**
+     * Returns the running total of the named numeric column in each partition. As with
+     * {@link NumberColumn#cumSum()}, rows with missing values get a missing value and don't change the total
+     */
+    public NumberColumn cumSum(String columnName) {
+        NumberColumn column = table.numberColumn(columnName);
+        Partitions partitions = partitions();
+        double[] result = new double[table.rowCount()];
+        for (int p = 0; p < partitions.count(); p++) {
+            double total = 0.0;
+            for (int i = partitions.start(p); i < partitions.end(p); i++) {
+                int row = partitions.row(i);
+                double value = column.getDouble(row);
+                if (NumberColumn.valueIsMissing(value)) {
+                    result[row] = NumberColumn.MISSING_VALUE;
+                } else {
+                    total += value;
+                    result[row] = total;
+                }
+            }
+        }
+        return DoubleColumn.create(column.name() + "[cumSum]", result);
+    }
+
+    /**
+     * Returns the mean of the named numeric column over the given number of rows up to each row in its partition
+     */
+    public NumberColumn rollingMean(String columnName, int window) {
+        return rolling(columnName, window, AggregateFunctions.mean);
+    }
+
+    /**
+     * Returns the result of the function over the given number of rows up to each row in its partition. Rows with
+     * fewer rows than that before them in their partition get a missing value. As for {@link RollingColumn}, the
+     * common functions are updated incrementally as the window slides
+     */
+    public NumberColumn rolling(String columnName, int window, AggregateFunction function) {
+        Preconditions.checkArgument(window > 0, "The window size must be positive");
+        NumberColumn column = table.numberColumn(columnName);
+        Partitions partitions = partitions();
+
+        // the values in partition order, so that every window is a range of the array
+        double[] values = new double[table.rowCount()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = column.getDouble(partitions.row(i));
+        }
+        SlidingAggregate sliding = SlidingAggregate.of(function, values);
+
+        double[] result = new double[values.length];
+        for (int p = 0; p < partitions.count(); p++) {
+            int start = partitions.start(p);
+            for (int i = partitions.start(p); i < partitions.end(p); i++) {
+                if (sliding != null) {
+                    sliding.add(values[i]);
+                }
+                int windowStart = i - window + 1;
+                double value;
+                if (windowStart < partitions.start(p)) {
+                    value = NumberColumn.MISSING_VALUE;
+                } else if (sliding == null) {
+                    value = RollingColumn.summarize(function, values, windowStart, i + 1);
+                } else {
+                    for (; start < windowStart; start++) {
+                        sliding.remove(values[start]);
+                    }
+                    value = sliding.result();
+                }
+                result[partitions.row(i)] = value;
+            }
+            // empty the window before the next partition
+            if (sliding != null) {
+                for (; start < partitions.end(p); start++) {
+                    sliding.remove(values[start]);
+                }
+            }
+        }
+        return DoubleColumn.create(column.name() + StringUtils.capitalize(function.functionName()) + window, result);
+    }
+
+    private IntComparator orderComparator() {
+        if (order == null) {
+            return null;
+        }
+        return order.size() == 1 ? SortUtils.getComparator(table, order) : SortUtils.getChain(table, order);
+    }
+
+    /**
+     * Returns the rows of the table grouped by partition, and ordered within each partition. The rows are first
+     * placed by a counting sort on their partition's group id, which keeps them in table order, and then each
+     * partition is sorted with a stable sort if there are order columns
+     */
+    private Partitions partitions() {
+        int rowCount = table.rowCount();
+        List<Column> columns = new ArrayList<>();
+        for (String columnName : partitionColumns) {
+            columns.add(table.column(columnName));
+        }
+        GroupIndex index = GroupIndex.of(columns, rowCount);
+        int[] groupOfRow = index.groupOfRow();
+
+        int[] starts = new int[index.groupCount() + 1];
+        for (int row = 0; row < rowCount; row++) {
+            starts[groupOfRow[row] + 1]++;
+        }
+        for (int group = 0; group < index.groupCount(); group++) {
+            starts[group + 1] += starts[group];
+        }
+        int[] rows = new int[rowCount];
+        int[] next = starts.clone();
+        for (int row = 0; row < rowCount; row++) {
+            rows[next[groupOfRow[row]]++] = row;
+        }
+
+        IntComparator comparator = orderComparator();
+        if (comparator != null) {
+            for (int group = 0; group < index.groupCount(); group++) {
+                IntArrays.mergeSort(rows, starts[group], starts[group + 1], comparator);
+            }
+        }
+        return new Partitions(rows, starts);
+    }
+
+    /**
+     * The rows of a table in partition order, and the range of positions that each partition takes
+     */
+    private static final class Partitions {
+
+        private final int[] rows;
+        private final int[] starts;
+
+        private Partitions(int[] rows, int[] starts) {
+            this.rows = rows;
+            this.starts = starts;
+        }
+
+        int count() {
+            return starts.length - 1;
+        }
+
+        int start(int partition) {
+            return starts[partition];
+        }
+
+        int end(int partition) {
+            return starts[partition + 1];
+        }
+
+        /**
+         * Returns the row of the table at the given position in partition order
+         */
+        int row(int position) {
+            return rows[position];
+        }
+    }
+}
@@ -50,7 +50,7 @@ public class AggregateFunctionsTest {
         assertEquals("who", result.column(0).name());
         assertEquals(6, result.rowCount());
         assertEquals("65.671875", result.get(0, 1));
-        assertEquals("10.648876067826901", result.get(0, 2));
+        assertEquals(10.648876067826901, result.numberColumn(2).get(0), 1e-12);
     }
 
     @Test
@@ -80,7 +80,82 @@ public class AggregateFunctionsTest {
         Table result = group.aggregate("approval", mean, AggregateFunctions.stdDev);
         assertEquals(3, result.columnCount());
         assertEquals("53.6", result.get(0, 1));
-        assertEquals("2.5099800796022267", result.get(0, 2));
+        assertEquals(2.5099800796022267, result.numberColumn(2).get(0), 1e-12);
+    }
+
+    @Test
+    public void testGroupAggregationMatchesSlices() {
+        TableSliceGroup group = StandardTableSliceGroup.create(table, "who");
+        Table result = group.aggregate("approval", mean, median, max, countMissing);
+        for (int i = 0; i < group.size(); i++) {
+            NumberColumn approval = group.get(i).asTable().numberColumn("approval");
+            assertEquals(StatUtils.mean(approval.asDoubleArray()), result.numberColumn(1).get(i), 1e-9);
+            assertEquals(StatUtils.percentile(approval.asDoubleArray(), 50), result.numberColumn(2).get(i), 1e-9);
+            assertEquals(StatUtils.max(approval.asDoubleArray()), result.numberColumn(3).get(i), 1e-9);
+            assertEquals(0, result.numberColumn(4).get(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testAccumulatorFunctions() {
+        double[] values = {4, 1, 8, 2, 9, 3};
+        NumberColumn c = DoubleColumn.create("test", values);
+        c.appendCell("");
+
+        assertEquals(StatUtils.mean(values), mean.summarize(c), 1e-12);
+        assertEquals(StatUtils.sum(values), sum.summarize(c), 1e-12);
+        assertEquals(StatUtils.variance(values), variance.summarize(c), 1e-12);
+        assertEquals(StatUtils.populationVariance(values), populationVariance.summarize(c), 1e-12);
+        assertEquals(Math.sqrt(StatUtils.variance(values)), stdDev.summarize(c), 1e-12);
+        assertEquals(StatUtils.geometricMean(values), geometricMean.summarize(c), 1e-12);
+        assertEquals(StatUtils.product(values), product.summarize(c), 1e-12);
+        assertEquals(8, range.summarize(c), 1e-12);
+        assertEquals(6, countNonMissing.summarize(c), 1e-12);
+        assertEquals(4, first.summarize(c), 1e-12);
+        assertTrue(Double.isNaN(last.summarize(c)));
+        assertTrue(Double.isNaN(mean.summarize(DoubleColumn.create("empty"))));
+    }
+
+    @Test
+    public void testMergedAccumulators() {
+        double[] values = {4, 1, 8, 2, 9, 3};
+        for (AggregateFunction function : new AggregateFunction[] {mean, variance, range, first, change}) {
+            Accumulator head = function.newAccumulator();
+            Accumulator tail = function.newAccumulator();
+            for (int i = 0; i < values.length; i++) {
+                (i < 2 ? head : tail).accept(values[i]);
+            }
+            head.merge(tail);
+            assertEquals(function.summarize(DoubleColumn.create("test", values)), head.result(), 1e-12);
+        }
+    }
+
+    @Test
+    public void testParallelSummarize() {
+        int rows = 300_000;
+        StringColumn groups = StringColumn.create("category");
+        NumberColumn values = DoubleColumn.create("value", rows);
+        for (int i = 0; i < rows; i++) {
+            groups.append("g" + (i % 7));
+            values.append((i * 31) % 1000);
+        }
+        Table big = Table.create("big", groups, values);
+
+        Table sequential = big.summarize("value", mean, variance, median, first, last).by("category");
+        Table parallel = big.summarize("value", mean, variance, median, first, last).parallelism(4).by("category");
+        assertEquals(7, parallel.rowCount());
+        for (int row = 0; row < sequential.rowCount(); row++) {
+            assertEquals(sequential.get(row, 0), parallel.get(row, 0));
+            for (int col = 1; col < sequential.columnCount(); col++) {
+                assertEquals(sequential.numberColumn(col).get(row), parallel.numberColumn(col).get(row), 1e-6);
+            }
+        }
+        assertEquals(0, parallel.numberColumn("First [value]").get(0), 0);
+        assertEquals(values.get(rows - 1 - (rows - 1) % 7), parallel.numberColumn("Last [value]").get(0), 0);
+
+        Table whole = big.summarize("value", sum, median).parallelism(4).apply();
+        assertEquals(StatUtils.sum(values.asDoubleArray()), whole.numberColumn(0).get(0), 1e-6);
+        assertEquals(StatUtils.percentile(values.asDoubleArray(), 50), whole.numberColumn(1).get(0), 0);
     }
 
     @Test
@@ -2,6 +2,7 @@ package tech.tablesaw.api;
 
 import org.junit.Before;
 import org.junit.Test;
+import tech.tablesaw.columns.StringParser;
 import tech.tablesaw.columns.dates.DateColumnType;
 
 import java.time.LocalDate;
@@ -157,4 +158,23 @@ public class DateColumnTest {
                 sorted.dateColumn("Date").asList());
     }
 
+    @Test
+    public void testAppendCellWithParseOnlyParser() {
+        StringParser<LocalDate> dayOfYear = new StringParser<LocalDate>(ColumnType.LOCAL_DATE) {
+            @Override
+            public boolean canParse(String s) {
+                return true;
+            }
+
+            @Override
+            public LocalDate parse(String s) {
+                return LocalDate.ofYearDay(2018, Integer.parseInt(s));
+            }
+        };
+        DateColumn dates = DateColumn.create("dates");
+        dates.appendCell("1", dayOfYear);
+        dates.appendCell("365", dayOfYear);
+        assertEquals(LocalDate.of(2018, 1, 1), dates.get(0));
+        assertEquals(LocalDate.of(2018, 12, 31), dates.get(1));
+    }
 }
@@ -16,6 +16,7 @@ package tech.tablesaw.api;
 
 import org.junit.Before;
 import org.junit.Test;
+import tech.tablesaw.columns.StringParser;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -89,4 +90,24 @@ public class DateTimeColumnTest {
         col.appendCell(null);
         assertNull(col.get(0));
     }
+
+    @Test
+    public void testAppendCellWithParseOnlyParser() {
+        StringParser<LocalDateTime> epochSeconds = new StringParser<LocalDateTime>(ColumnType.LOCAL_DATE_TIME) {
+            @Override
+            public boolean canParse(String s) {
+                return true;
+            }
+
+            @Override
+            public LocalDateTime parse(String s) {
+                return LocalDateTime.ofEpochSecond(Long.parseLong(s), 0, ZoneOffset.UTC);
+            }
+        };
+        DateTimeColumn dateTimes = DateTimeColumn.create("dateTimes");
+        dateTimes.appendCell("0", epochSeconds);
+        dateTimes.appendCell("1533029400", epochSeconds);
+        assertEquals(LocalDateTime.of(1970, 1, 1, 0, 0), dateTimes.get(0));
+        assertEquals(LocalDateTime.of(2018, 7, 31, 9, 30), dateTimes.get(1));
+    }
 }
@@ -14,12 +14,15 @@
 
 package tech.tablesaw.api;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import org.junit.Before;
 import org.junit.Test;
 import tech.tablesaw.TestDataUtil;
 import tech.tablesaw.columns.strings.StringColumnFormatter;
 import tech.tablesaw.selection.Selection;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -468,4 +471,112 @@ public class StringColumnTest {
         assertEquals("foo bam", result.get(0));
         assertEquals("bar bam", result.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMapOncePerDistinctValue() {
+        StringColumn mixedCase = StringColumn.create("mixed", new String[]{"a", "A", "b", "a", "", "A"});
+        mixedCase.set(2, "c"); // leaves "b" in the dictionary, but not in the column
+        List<String> mapped = new ArrayList<>();
+        StringColumn result = mixedCase.mapStrings("upper", value -> {
+            mapped.add(value);
+            return value.toUpperCase();
+        });
+        assertEquals(4, mapped.size());
+        assertFalse(mapped.contains("b"));
+        assertEquals(6, result.size());
+        assertEquals("A", result.get(0));
+        assertEquals("C", result.get(2));
+        assertEquals(StringColumn.MISSING_VALUE, result.get(4));
+        assertEquals(3, result.countUnique());
+
+        result.append("new");
+        assertEquals("new", result.get(6));
+        assertEquals(6, mixedCase.size());
+    }
+
+    @Test
+    public void testKeysWidenAsTheDictionaryGrows() {
+        StringColumn strings = StringColumn.create("strings");
+        for (int i = 0; i < 127; i++) {
+            strings.append("v" + i);
+        }
+        assertEquals(Byte.BYTES, strings.keyByteSize());
+
+        strings.append("v127");
+        assertEquals(Short.BYTES, strings.keyByteSize());
+        for (int i = 128; i < 32768; i++) {
+            strings.append("v" + i);
+        }
+        assertEquals(Integer.BYTES, strings.keyByteSize());
+
+        for (int i = 0; i < 32768; i++) {
+            assertEquals("v" + i, strings.get(i));
+        }
+        assertEquals(32768, strings.countUnique());
+        assertEquals(32767, strings.firstIndexOf("v32767"));
+    }
+
+    @Test
+    public void testSetWidensKeys() {
+        StringColumn strings = StringColumn.create("strings", new String[]{"a", "b", "a"});
+        for (int i = 0; i < 200; i++) {
+            strings.set(1, "v" + i);
+        }
+        assertEquals(Short.BYTES, strings.keyByteSize());
+        assertEquals("a", strings.get(0));
+        assertEquals("v199", strings.get(1));
+        assertEquals("a", strings.get(2));
+    }
+
+    @Test
+    public void testDataIsLive() {
+        StringColumn strings = StringColumn.create("strings", new String[]{"a", "b", "a"});
+        IntArrayList keys = strings.data();
+        assertEquals(Integer.BYTES, strings.keyByteSize());
+        assertEquals(3, keys.size());
+
+        keys.set(1, keys.getInt(0));
+        assertEquals("a", strings.get(1));
+        strings.append("c");
+        assertEquals(4, keys.size());
+        assertEquals("c", strings.get(3));
+        strings.clear();
+        assertTrue(keys.isEmpty());
+        strings.append("b");
+        assertSame(keys, strings.data());
+        assertEquals(1, keys.size());
+    }
+
+    @Test
+    public void testSortByKeyCounts() {
+        StringColumn strings = StringColumn.create("strings", new String[]{"c", "a", "b", "a", "", "c", "a"});
+        strings.sortAscending();
+        assertEquals(Arrays.asList("", "a", "a", "a", "b", "c", "c"), strings.asList());
+        strings.sortDescending();
+        assertEquals(Arrays.asList("c", "c", "b", "a", "a", "a", ""), strings.asList());
+    }
+
+    @Test
+    public void testCreateInternalNarrowsKeys() {
+        StringColumn strings = StringColumn.createInternal("strings", new int[]{1, 2}, new String[]{"x", "y"},
+                new int[]{2, 1, 2});
+        assertEquals(Byte.BYTES, strings.keyByteSize());
+        assertEquals(Arrays.asList("y", "x", "y"), strings.asList());
+        strings.append("z");
+        assertEquals("z", strings.get(3));
+        assertEquals(3, strings.countUnique());
+    }
+
+    @Test
+    public void testClearResetsKeys() {
+        StringColumn strings = StringColumn.create("strings");
+        for (int i = 0; i < 200; i++) {
+            strings.append("v" + i);
+        }
+        strings.clear();
+        assertTrue(strings.isEmpty());
+        strings.append("a");
+        assertEquals(Byte.BYTES, strings.keyByteSize());
+        assertEquals("a", strings.get(0));
+    }
+}
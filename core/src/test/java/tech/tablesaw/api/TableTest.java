@@ -15,10 +15,10 @@
 package tech.tablesaw.api;
 
 import com.google.common.collect.Lists;
-import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.Sort;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -57,7 +57,7 @@ public class TableTest {
         Table result = table.summarize("Injuries", mean, stdDev).by("State");
         assertEquals(49, result.rowCount());
         assertEquals(3, result.columnCount());
-        Assert.assertEquals("4.580805569368455", result.column(1).getString(0));
+        assertEquals(4.580805569368455, result.numberColumn(1).get(0), 1e-12);
     }
 
     @Test
@@ -174,6 +174,25 @@ public class TableTest {
         assertEquals(LocalDate.of(2004, 2, 5), t1.dateColumn(0).get(2));
     }
 
+    @Test
+    public void testTopNAndBottomN() throws IOException {
+        Table t = Table.read().csv("../data/bush.csv");
+        Table top = t.topN(5, "approval", "date");
+        assertEquals(t.sortDescendingOn("approval", "date").first(5).print(), top.print());
+
+        Table bottom = t.bottomN(7, "who", "approval");
+        assertEquals(t.sortAscendingOn("who", "approval").first(7).print(), bottom.print());
+        assertEquals(t.rowCount(), t.bottomN(t.rowCount() + 10, "date").rowCount());
+    }
+
+    @Test
+    public void testFirstWithSortKey() throws IOException {
+        Table t = Table.read().csv("../data/bush.csv");
+        Sort key = Sort.on("who", Sort.Order.DESCEND).next("date", Sort.Order.ASCEND);
+        assertEquals(t.sortOn(key).first(12).print(), t.first(12, key).print());
+        assertEquals(0, t.first(0, key).rowCount());
+    }
+
     @Test
     public void testSelect1() throws Exception {
         Table t = Table.read().csv("../data/bush.csv");
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.api;
+
+import org.junit.Test;
+import tech.tablesaw.selection.Selection;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class TextColumnTest {
+
+    private final TextColumn column = TextColumn.create("text",
+            new String[]{"banana", "", "apple", "éclair", "banana", "cherry"});
+
+    @Test
+    public void testGet() {
+        assertEquals(6, column.size());
+        assertEquals("banana", column.get(0));
+        assertEquals(TextColumn.MISSING_VALUE, column.get(1));
+        assertEquals("éclair", column.get(3));
+        assertTrue(column.isMissing(1));
+        assertEquals(1, column.countMissing());
+    }
+
+    @Test
+    public void testSet() {
+        column.set(0, "fig");
+        column.set(1, "grape");
+        assertEquals(Arrays.asList("fig", "grape", "apple", "éclair", "banana", "cherry"), column.asList());
+        assertEquals(0, column.countMissing());
+    }
+
+    @Test
+    public void testSort() {
+        column.sortAscending();
+        assertEquals(Arrays.asList("", "apple", "banana", "banana", "cherry", "éclair"), column.asList());
+        column.sortDescending();
+        assertEquals(Arrays.asList("éclair", "cherry", "banana", "banana", "apple", ""), column.asList());
+    }
+
+    @Test
+    public void testTopAndBottom() {
+        assertEquals(Arrays.asList("éclair", "cherry"), column.top(2));
+        assertEquals(Arrays.asList("", "apple", "banana"), column.bottom(3));
+        assertEquals(6, column.top(10).size());
+        assertEquals("banana", column.get(0));
+    }
+
+    @Test
+    public void testUnique() {
+        assertEquals(5, column.countUnique());
+        TextColumn unique = column.unique();
+        assertEquals(5, unique.size());
+        assertTrue(unique.contains("banana"));
+        assertTrue(unique.contains(""));
+    }
+
+    @Test
+    public void testFilters() {
+        Selection bananas = column.isEqualTo("banana");
+        assertEquals(2, bananas.size());
+        assertTrue(bananas.contains(4));
+        assertEquals(2, column.isIn("apple", "cherry", "kiwi").size());
+        assertEquals(4, column.isNotIn("apple", "cherry").size());
+        assertEquals(1, column.startsWith("é").size());
+        assertEquals(5, column.isNotMissing().size());
+    }
+
+    @Test
+    public void testWhereAndCopy() {
+        TextColumn selected = column.where(Selection.with(0, 3));
+        assertEquals(Arrays.asList("banana", "éclair"), selected.asList());
+
+        TextColumn copy = column.copy();
+        copy.set(0, "fig");
+        assertEquals("banana", column.get(0));
+        assertEquals("fig", copy.get(0));
+    }
+
+    @Test
+    public void testLagAndLead() {
+        assertEquals(Arrays.asList("", "banana", "", "apple", "éclair", "banana"), column.lag(1).asList());
+        assertEquals(Arrays.asList("apple", "éclair", "banana", "cherry", "", ""), column.lead(2).asList());
+    }
+
+    @Test
+    public void testTableOperations() {
+        Table table = Table.create("t", column, DoubleColumn.create("n", new double[]{1, 2, 3, 4, 5, 6}));
+        Table sorted = table.sortDescendingOn("text");
+        assertEquals("éclair", sorted.textColumn("text").get(0));
+        assertEquals(4, sorted.numberColumn("n").get(0), 0.0);
+
+        Table filtered = table.where(table.textColumn("text").isEqualTo("banana"));
+        assertEquals(2, filtered.rowCount());
+        assertEquals(ColumnType.TEXT, filtered.column("text").type());
+    }
+
+    @Test
+    public void testCreateInternal() {
+        byte[] bytes = "abcd".getBytes();
+        TextColumn text = TextColumn.createInternal("t", bytes, new int[]{1, 0, 3});
+        assertEquals(Arrays.asList("a", "", "bcd"), text.asList());
+        text.append("e");
+        assertEquals("e", text.get(3));
+    }
+}
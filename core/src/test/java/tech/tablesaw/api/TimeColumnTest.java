@@ -15,6 +15,7 @@
 package tech.tablesaw.api;
 
 import tech.tablesaw.columns.Column;
+import tech.tablesaw.columns.StringParser;
 import tech.tablesaw.selection.Selection;
 
 import org.junit.Before;
@@ -428,4 +429,24 @@ public class TimeColumnTest {
         column1.appendInternal(of(3, 6, 2));
         column1.appendInternal(of(11, 4, 2));
     }
+
+    @Test
+    public void testAppendCellWithParseOnlyParser() {
+        StringParser<LocalTime> minuteOfDay = new StringParser<LocalTime>(ColumnType.LOCAL_TIME) {
+            @Override
+            public boolean canParse(String s) {
+                return true;
+            }
+
+            @Override
+            public LocalTime parse(String s) {
+                return LocalTime.ofSecondOfDay(Integer.parseInt(s) * 60L);
+            }
+        };
+        TimeColumn times = TimeColumn.create("times");
+        times.appendCell("0", minuteOfDay);
+        times.appendCell("570", minuteOfDay);
+        assertEquals(LocalTime.MIDNIGHT, times.get(0));
+        assertEquals(LocalTime.of(9, 30), times.get(1));
+    }
 }
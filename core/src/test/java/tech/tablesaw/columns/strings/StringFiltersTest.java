@@ -20,6 +20,7 @@ import org.junit.Test;
 import tech.tablesaw.api.NumberColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.selection.Selection;
 
 import java.util.List;
 
@@ -260,4 +261,31 @@ public class StringFiltersTest {
         NumberColumn nc = stringColumn1.countTokens(" ");
         assertEquals( 3, nc.sum(), 0.00001);
     }
+
+    @Test
+    public void testPredicateIsTestedOncePerDistinctValue() {
+        StringColumn column = StringColumn.create("repeated");
+        for (int i = 0; i < 1000; i++) {
+            column.append(i % 3 == 0 ? "apple" : "banana");
+        }
+        List<String> tested = Lists.newArrayList();
+        Selection selection = column.eval(value -> {
+            tested.add(value);
+            return value.startsWith("a");
+        });
+        assertEquals(2, tested.size());
+        assertEquals(334, selection.size());
+        assertTrue(selection.contains(999));
+        assertFalse(selection.contains(998));
+    }
+
+    @Test
+    public void testFiltersAfterValuesAreReplaced() {
+        sc1.set(0, "banana split");
+        Selection selection = sc1.startsWith("apple");
+        assertEquals(1, selection.size());
+        assertTrue(selection.contains(7));
+        assertEquals(2, sc1.matchesRegex("^b.*|dog").size());
+        assertEquals(2, sc1.isIn("dog", "fish", "missing").size());
+    }
 }
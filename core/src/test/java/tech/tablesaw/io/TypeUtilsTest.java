@@ -15,16 +15,24 @@
 package tech.tablesaw.io;
 
 import org.junit.Test;
+import tech.tablesaw.api.DateColumn;
 import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.columns.dates.DateColumnType;
 import tech.tablesaw.columns.dates.DateStringParser;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+import tech.tablesaw.columns.numbers.DoubleColumnType;
 import tech.tablesaw.columns.datetimes.DateTimeStringParser;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Locale;
+import java.util.Random;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static tech.tablesaw.api.ColumnType.DOUBLE;
 
@@ -56,4 +64,79 @@ public class TypeUtilsTest {
         LocalDateTime result = LocalDateTime.parse(anotherDate, DateTimeStringParser.DEFAULT_FORMATTER);
         assertThat(result, notNullValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPackedDateParsing() {
+        DateStringParser parser = DateColumnType.DEFAULT_PARSER;
+        for (String date : new String[] {"2016-02-29", "1999-12-31", "0001-01-01", "12/31/1999", "12-May-2015"}) {
+            assertEquals(date, PackedLocalDate.pack(parser.parse(date)), parser.parseInt(date));
+        }
+        assertEquals(DateColumn.MISSING_VALUE, parser.parseInt(""));
+    }
+
+    @Test
+    public void testDoubleParsing() {
+        assertEquals(1234.5, DoubleColumnType.DEFAULT_PARSER.parseDouble("1,234.5"), 0.0);
+        assertEquals(-0.25, DoubleColumnType.DEFAULT_PARSER.parseDouble("-0.25"), 0.0);
+    }
+
+    @Test
+    public void testDoubleParsingFromBytes() {
+        String[] values = {"0", "-0.25", "+7", "1.", ".5", "123456789.123456", "1e10", "1,234.5", "9007199254740993",
+                "0.1000000000000000055511151231257827", "", "NaN"};
+        for (String value : values) {
+            byte[] bytes = ("x" + value).getBytes(StandardCharsets.US_ASCII);
+            assertEquals(value, DoubleColumnType.DEFAULT_PARSER.parseDouble(value),
+                    DoubleColumnType.DEFAULT_PARSER.parseDouble(bytes, 1, value.length()), 0.0);
+        }
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            String value = String.valueOf(random.nextDouble() * Math.pow(10, random.nextInt(12)));
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(value, Double.parseDouble(value),
+                    DoubleColumnType.DEFAULT_PARSER.parseDouble(bytes, 0, bytes.length), 0.0);
+        }
+    }
+
+    @Test
+    public void testPackedDateParsingFromBytes() {
+        byte[] bytes = "2016-02-29".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(PackedLocalDate.pack(LocalDate.of(2016, 2, 29)),
+                DateColumnType.DEFAULT_PARSER.parseInt(bytes, 0, bytes.length));
+        bytes = "02/29/2016".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(PackedLocalDate.pack(LocalDate.of(2016, 2, 29)),
+                DateColumnType.DEFAULT_PARSER.parseInt(bytes, 0, bytes.length));
+    }
+
+    @Test
+    public void testDoubleDetectionMatchesParsing() {
+        String[] values = {"0", "-0.25", "+7", "1.", ".5", "1e10", "1E-3", "-", ".", "e5", "1e", "1.2.3", "--1",
+                "2018-07-31", "12:30", "1,234.5", "NaN", "-Infinity", "0x1p3", "1.5d", " 12 ", "Nebraska", "abc"};
+        for (String value : values) {
+            boolean parses;
+            try {
+                Double.parseDouble(value);
+                parses = true;
+            } catch (NumberFormatException e) {
+                parses = false;
+            }
+            assertEquals(value, parses, DoubleColumnType.DEFAULT_PARSER.canParse(value));
+        }
+    }
+
+    @Test
+    public void testDateDetectionMatchesParsing() {
+        String[] values = {"2016-02-29", "2018-02-30", "2018-04-31", "2018-01-32", "2018-13-01", "0000-01-01",
+                "12/31/1999", "12-May-2015", "20180731", "12:30", "May", "2018-7-31"};
+        for (String value : values) {
+            boolean parses;
+            try {
+                LocalDate.parse(value, DateStringParser.DEFAULT_FORMATTER.withLocale(Locale.getDefault()));
+                parses = true;
+            } catch (DateTimeParseException e) {
+                parses = false;
+            }
+            assertEquals(value, parses, DateColumnType.DEFAULT_PARSER.canParse(value));
+        }
+    }
+}
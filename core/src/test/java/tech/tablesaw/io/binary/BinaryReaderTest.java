@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.binary;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.junit.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TextColumn;
+import tech.tablesaw.api.TimeColumn;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BinaryReaderTest {
+
+    @Test
+    public void testRoundTripAllTypes() throws Exception {
+        Table table = Table.create("all types",
+                DoubleColumn.create("double", new double[]{1.5, DoubleColumn.MISSING_VALUE, -3}),
+                StringColumn.create("string", new String[]{"a", "", "a"}),
+                DateColumn.create("date", new LocalDate[]{LocalDate.of(2018, 7, 31), null, LocalDate.of(1970, 1, 1)}),
+                TimeColumn.create("time", new LocalTime[]{LocalTime.NOON, LocalTime.MIDNIGHT, null}),
+                DateTimeColumn.create("dateTime", new LocalDateTime[]{null, LocalDateTime.of(2018, 7, 31, 12, 30),
+                        LocalDateTime.of(2000, 1, 1, 0, 0)}),
+                BooleanColumn.create("boolean", new Boolean[]{true, null, false}),
+                TextColumn.create("text", new String[]{"caf\u00e9", "", "\ud83d\ude00 smile"}));
+
+        Table read = roundTrip(table, 4);
+
+        assertEquals("all types", read.name());
+        assertSameData(table, read);
+        assertEquals(2, read.stringColumn("string").countUnique());
+        assertEquals(1, read.column("double").countMissing());
+        assertEquals(1, read.textColumn("text").countMissing());
+    }
+
+    @Test
+    public void testStringColumnCanBeAppendedToAfterReading() throws Exception {
+        StringColumn strings = StringColumn.create("s", new String[]{"x", "y", "x"});
+        Table read = roundTrip(Table.create("t", strings), 1);
+
+        StringColumn column = read.stringColumn("s");
+        column.append("z");
+        column.append("x");
+        assertEquals("[x, y, x, z, x]", column.asList().toString());
+        assertEquals(3, column.countUnique());
+    }
+
+    @Test
+    public void testRoundTripCsvData() throws Exception {
+        Table table = Table.read().csv("../data/bush.csv");
+        assertSameData(table, roundTrip(table, 2));
+    }
+
+    @Test
+    public void testReadMapped() throws Exception {
+        int rows = 10_000;
+        DoubleColumn values = DoubleColumn.create("value", rows);
+        DateColumn dates = DateColumn.create("date", rows);
+        BooleanColumn flags = BooleanColumn.create("flag", rows);
+        for (int i = 0; i < rows; i++) {
+            values.append(i);
+            dates.append(LocalDate.of(2000, 1, 1).plusDays(i));
+            flags.append(i % 2 == 0);
+        }
+        File file = File.createTempFile("tablesaw-mapped", ".bin");
+        file.deleteOnExit();
+        Table table = Table.create("mapped", values, dates, flags);
+        table.write().binary(file);
+
+        Table mapped = Table.read().binaryMapped(file);
+        assertSameData(table, mapped);
+
+        DoubleColumn mappedValues = (DoubleColumn) mapped.numberColumn("value");
+        assertEquals(rows / 2, mappedValues.isGreaterThanOrEqualTo(rows / 2).size());
+        assertEquals(rows * (rows - 1) / 2.0, mappedValues.sum(), 0.0);
+        assertEquals(rows - 1, mapped.dateColumn("date").isAfter(LocalDate.of(2000, 1, 1)).size());
+        assertEquals(rows / 2, mapped.booleanColumn("flag").isTrue().size());
+
+        // modifying a mapped column copies it onto the heap, leaving the file unchanged
+        mappedValues.set(0, -1.0);
+        mappedValues.append(rows);
+        mappedValues.sortDescending();
+        assertEquals(rows, mappedValues.get(0), 0.0);
+        assertEquals(rows + 1, mappedValues.size());
+        assertSameData(table, Table.read().binaryMapped(file));
+    }
+
+    @Test
+    public void testMappedDataAccessors() throws Exception {
+        File file = File.createTempFile("tablesaw-binary", ".bin");
+        file.deleteOnExit();
+        DateColumn dates = DateColumn.create("date");
+        for (int i = 0; i < 10; i++) {
+            dates.append(LocalDate.of(2000, 1, 1).plusDays(i));
+        }
+        Table.create("mapped", dates).write().binary(file);
+
+        DateColumn mapped = Table.read().binaryMapped(file).dateColumn("date");
+        assertEquals(dates.dataInternal(), mapped.dataInternal());
+        try {
+            mapped.dataInternal().set(0, 0);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+            // the view is read-only
+        }
+
+        // data() hands out a heap copy that the column then owns, leaving the file unchanged
+        IntArrayList heapData = mapped.data();
+        heapData.set(0, dates.getIntInternal(9));
+        assertEquals(LocalDate.of(2000, 1, 10), mapped.get(0));
+        assertEquals(LocalDate.of(2000, 1, 1), Table.read().binaryMapped(file).dateColumn("date").get(0));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotBinaryFile() throws Exception {
+        File file = File.createTempFile("tablesaw-binary", ".csv");
+        file.deleteOnExit();
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("a,b,c\n1,2,3\n");
+        }
+        Table.read().binary(file);
+    }
+
+    private static Table roundTrip(Table table, int threads) throws IOException {
+        File file = File.createTempFile("tablesaw-binary", ".bin");
+        file.deleteOnExit();
+        table.write().binary(file);
+        return BinaryReader.read(file, threads);
+    }
+
+    private static void assertSameData(Table expected, Table actual) {
+        assertEquals(expected.columnNames(), actual.columnNames());
+        assertEquals(expected.rowCount(), actual.rowCount());
+        for (int col = 0; col < expected.columnCount(); col++) {
+            assertEquals(expected.column(col).type(), actual.column(col).type());
+            for (int row = 0; row < expected.rowCount(); row++) {
+                assertEquals(expected.column(col).getString(row), actual.column(col).getString(row));
+            }
+        }
+    }
+}
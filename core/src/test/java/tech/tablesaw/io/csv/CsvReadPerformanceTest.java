@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.csv;
+
+import com.google.common.base.Stopwatch;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.out;
+
+/**
+ * Measures the throughput of reading a large, generated CSV file, in cells per second. Run it before and after a
+ * change to the CSV read path to compare them
+ */
+public class CsvReadPerformanceTest {
+
+    private static final int ROWS = 2_000_000;
+    private static final int RUNS = 5;
+
+    private static final ColumnType[] TYPES = {
+            ColumnType.DOUBLE, ColumnType.DOUBLE, ColumnType.LOCAL_DATE, ColumnType.STRING, ColumnType.BOOLEAN};
+
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("tablesaw-read-performance", ".csv");
+        file.deleteOnExit();
+        writeTestData(file);
+
+        CsvReadOptions options = CsvReadOptions.builder(file).columnTypes(TYPES).build();
+        long cells = (long) ROWS * TYPES.length;
+        for (int run = 0; run < RUNS; run++) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            Table table = Table.read().csv(options);
+            long millis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+            out.println(String.format("Run %d: read %d rows in %d ms, %,d cells/second",
+                    run, table.rowCount(), millis, cells * 1000 / Math.max(millis, 1)));
+        }
+    }
+
+    private static void writeTestData(File file) throws IOException {
+        Random random = new Random(0);
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("price,quantity,date,name,flag");
+            writer.newLine();
+            for (int i = 0; i < ROWS; i++) {
+                writer.write(String.valueOf(random.nextDouble() * 1000));
+                writer.write(',');
+                writer.write(String.valueOf(random.nextInt(10_000)));
+                writer.write(',');
+                writer.write(start.plusDays(random.nextInt(7000)).toString());
+                writer.write(',');
+                writer.write("name" + random.nextInt(1000));
+                writer.write(',');
+                writer.write(random.nextBoolean() ? "true" : "false");
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -28,13 +28,16 @@ import tech.tablesaw.api.Table;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileWriter;
 import java.io.InputStream;
+import java.io.Writer;
 import java.net.URL;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.*;
@@ -397,4 +400,137 @@ public class CsvReaderTest {
         assertEquals("0 rows X 0 cols", table1.shape());
     }
 
+    @Test
+    public void testParallelReadWithQuotedLineBreaks() throws Exception {
+        File file = File.createTempFile("tablesaw-parallel-read", ".csv");
+        file.deleteOnExit();
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("id,text,value\n");
+            for (int i = 0; i < 1000; i++) {
+                // quoted separators, escaped quotes and line breaks must not be taken as record boundaries
+                String text = i % 3 == 0 ? "\"line one,\nline \"\"two\"\"\"" : "plain " + i;
+                writer.write(i + "," + text + "," + (i * 0.5) + "\n");
+            }
+        }
+        CsvReadOptions.Builder builder = CsvReadOptions.builder(file).columnTypes(new ColumnType[]{DOUBLE, STRING, DOUBLE});
+        Table sequential = Table.read().csv(builder.threads(1).build());
+        Table parallel = Table.read().csv(builder.threads(4).build());
+
+        assertEquals(1000, parallel.rowCount());
+        assertEquals("line one,\nline \"two\"", parallel.stringColumn("text").get(999));
+        assertSameRows(sequential, parallel);
+    }
+
+    @Test
+    public void testParallelReadWithEscapedQuotes() throws Exception {
+        File file = File.createTempFile("tablesaw-parallel-read", ".csv");
+        file.deleteOnExit();
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("id,text,value\r\n");
+            for (int i = 0; i < 500; i++) {
+                // an escaped quote doesn't end the quoted value, so the line breaks after it are inside quotes
+                String text = i % 4 == 0 ? "\"5\\\" long,\r\nmore\nlines\"" : "plain \\\"" + i + "\\\"";
+                writer.write(i + "," + text + "," + (i * 0.5) + "\r\n");
+            }
+        }
+        CsvReadOptions.Builder builder = CsvReadOptions.builder(file).columnTypes(new ColumnType[]{DOUBLE, STRING, DOUBLE});
+        Table sequential = Table.read().csv(builder.threads(1).build());
+        assertEquals(500, sequential.rowCount());
+        assertEquals("5\" long,\nmore\nlines", sequential.stringColumn("text").get(0));
+        assertEquals("plain \"1\"", sequential.stringColumn("text").get(1));
+        for (int threads : new int[]{2, 3, 8, 64}) {
+            Table parallel = Table.read().csv(builder.threads(threads).build());
+            assertSameRows(sequential, parallel);
+        }
+    }
+
+    @Test
+    public void testParallelReadWithoutHeader() throws Exception {
+        CsvReadOptions.Builder builder = CsvReadOptions.builder("../data/bus_stop_noheader_test.csv")
+                .header(false)
+                .columnTypes(bus_types);
+        Table sequential = Table.read().csv(builder.build());
+        Table parallel = Table.read().csv(builder.threads(3).build());
+
+        assertSameRows(sequential, parallel);
+    }
+
+    @Test
+    public void testReadInChunks() throws Exception {
+        CsvReadOptions.Builder builder = CsvReadOptions.builder("../data/bus_stop_test.csv")
+                .columnTypes(bus_types);
+        Table whole = Table.read().csv(builder.build());
+
+        Table combined = null;
+        int chunkCount = 0;
+        try (Stream<Table> chunks = Table.read().csvChunks(builder, 7)) {
+            for (Table chunk : (Iterable<Table>) chunks::iterator) {
+                assertTrue(chunk.rowCount() <= 7);
+                assertEquals(whole.columnNames(), chunk.columnNames());
+                if (combined == null) {
+                    combined = chunk;
+                } else {
+                    combined.append(chunk);
+                }
+                chunkCount++;
+            }
+        }
+        assertEquals((whole.rowCount() + 6) / 7, chunkCount);
+        assertSameRows(whole, combined);
+    }
+
+    @Test
+    public void testReadChunksWithDetectedTypes() throws Exception {
+        try (Stream<Table> chunks = Table.read().csvChunks(CsvReadOptions.builder("../data/bush.csv"), 100)) {
+            double total = chunks.mapToDouble(chunk -> chunk.numberColumn("approval").sum()).sum();
+            Table whole = Table.read().csv("../data/bush.csv");
+            assertEquals(whole.numberColumn("approval").sum(), total, 0.0001);
+        }
+    }
+
+    @Test
+    public void testDetectColumnTypesWithinSampleLimits() throws Exception {
+        StringBuilder csv = new StringBuilder("id,value\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(',').append(i * 0.5).append('\n');
+        }
+        csv.append("1000,unknown\n");
+        byte[] bytes = csv.toString().getBytes();
+
+        ColumnType[] types = detectColumnTypes(new ByteArrayInputStream(bytes),
+                CsvReadOptions.builder(new ByteArrayInputStream(bytes), "t").sample(false).build());
+        assertArrayEquals(new ColumnType[]{DOUBLE, STRING}, types);
+
+        types = detectColumnTypes(new ByteArrayInputStream(bytes),
+                CsvReadOptions.builder(new ByteArrayInputStream(bytes), "t").sample(false).maxSampleRows(100).build());
+        assertArrayEquals(new ColumnType[]{DOUBLE, DOUBLE}, types);
+    }
+
+    private static void assertSameRows(Table expected, Table actual) {
+        assertEquals(expected.rowCount(), actual.rowCount());
+        for (int col = 0; col < expected.columnCount(); col++) {
+            for (int row = 0; row < expected.rowCount(); row++) {
+                assertEquals(expected.column(col).getString(row), actual.column(col).getString(row));
+            }
+        }
+    }
+
+    @Test
+    public void testDetectText() throws Exception {
+        StringBuilder csv = new StringBuilder("id,category,url\n");
+        for (int i = 0; i < 2000; i++) {
+            csv.append(i).append(',').append("c").append(i % 10).append(',')
+                    .append("http://example.com/").append(i).append('\n');
+        }
+        byte[] bytes = csv.toString().getBytes();
+
+        Table table = Table.read().csv(CsvReadOptions.builder(new ByteArrayInputStream(bytes), "t").detectText(true));
+        assertEquals(ColumnType.STRING, table.column("category").type());
+        assertEquals(ColumnType.TEXT, table.column("url").type());
+        assertEquals("http://example.com/1999", table.textColumn("url").get(1999));
+
+        ColumnType[] types = detectColumnTypes(new ByteArrayInputStream(bytes),
+                CsvReadOptions.builder(new ByteArrayInputStream(bytes), "t").build());
+        assertArrayEquals(new ColumnType[]{DOUBLE, STRING, STRING}, types);
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.csv;
+
+import org.junit.Test;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CsvTokenizerTest {
+
+    @Test
+    public void testFields() {
+        List<String[]> records = tokenize("a,b,c\n\"x,y\",\"say \"\"hi\"\"\",\r\n\"two\r\nlines\",,3");
+        assertEquals(3, records.size());
+        assertArrayEquals(new String[]{"a", "b", "c"}, records.get(0));
+        assertArrayEquals(new String[]{"x,y", "say \"hi\"", ""}, records.get(1));
+        assertArrayEquals(new String[]{"two\nlines", "", "3"}, records.get(2));
+    }
+
+    @Test
+    public void testEmptyLineAndByteOrderMark() {
+        List<String[]> records = tokenize("\uFEFFa\n\nb\n");
+        assertEquals(3, records.size());
+        assertArrayEquals(new String[]{"a"}, records.get(0));
+        assertArrayEquals(new String[]{""}, records.get(1));
+        assertArrayEquals(new String[]{"b"}, records.get(2));
+    }
+
+    @Test(expected = CsvTokenizer.UnsupportedSyntaxException.class)
+    public void testQuoteInsideUnquotedField() {
+        tokenize("ab\"c\"\n");
+    }
+
+    @Test(expected = CsvTokenizer.UnsupportedSyntaxException.class)
+    public void testEscapeCharacter() {
+        tokenize("\"a\\\"b\"\n");
+    }
+
+    @Test
+    public void testUnsupportedSyntaxFallsBackToOpenCsv() throws Exception {
+        File file = File.createTempFile("tablesaw-tokenizer", ".csv");
+        file.deleteOnExit();
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("path,size\n");
+            writer.write("plain,1\n");
+            writer.write("\"C:\\\\temp\",2\n");
+        }
+        Table table = Table.read().csv(CsvReadOptions.builder(file)
+                .columnTypes(new ColumnType[]{ColumnType.STRING, ColumnType.DOUBLE}));
+        assertEquals(2, table.rowCount());
+        assertEquals("C:\\temp", table.stringColumn("path").get(1));
+        assertEquals(2.0, table.numberColumn("size").get(1), 0.0);
+    }
+
+    @Test
+    public void testRecordStartOfUnsupportedRecord() {
+        ByteBuffer buffer = ByteBuffer.wrap("a,b\nc\\d,e\n".getBytes(StandardCharsets.UTF_8));
+        CsvTokenizer tokenizer = new CsvTokenizer(buffer, (byte) ',', true);
+        assertTrue(tokenizer.next());
+        try {
+            tokenizer.next();
+            fail();
+        } catch (CsvTokenizer.UnsupportedSyntaxException e) {
+            assertEquals(4, tokenizer.recordStart());
+        }
+    }
+
+    @Test
+    public void testRecordsAcrossMappedWindows() throws Exception {
+        String csv = "\uFEFFid,text\r\n1,short\r\n2,\"quoted, with \"\"quotes\"\"\r\nand lines\"\r\n\r\n"
+                + "3,a value much longer than the window\n4,\"\"\r";
+        File file = File.createTempFile("tablesaw-tokenizer", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), csv.getBytes(StandardCharsets.UTF_8));
+
+        List<String[]> expected = tokenize(csv);
+        for (int windowSize = 4; windowSize < 16; windowSize++) {
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                CsvTokenizer tokenizer = new CsvTokenizer(channel, 0, file.length(), (byte) ',', windowSize);
+                List<String[]> records = new ArrayList<>();
+                while (tokenizer.next()) {
+                    records.add(Arrays.copyOf(tokenizer.fields(), tokenizer.fieldCount()));
+                }
+                assertEquals(expected.size(), records.size());
+                for (int i = 0; i < records.size(); i++) {
+                    assertArrayEquals(expected.get(i), records.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFallBackFromUnsupportedRecordOnly() throws Exception {
+        File file = File.createTempFile("tablesaw-tokenizer", ".csv");
+        file.deleteOnExit();
+        try (Writer writer = new FileWriter(file)) {
+            writer.write("path,size\n");
+            writer.write("plain,1\n");
+            writer.write("\"C:\\\\temp\",2\n");
+            writer.write("\"after, quoted\",3\n");
+        }
+        Table table = Table.read().csv(CsvReadOptions.builder(file)
+                .columnTypes(new ColumnType[]{ColumnType.STRING, ColumnType.DOUBLE}));
+        assertEquals(3, table.rowCount());
+        assertEquals("plain", table.stringColumn("path").get(0));
+        assertEquals("C:\\temp", table.stringColumn("path").get(1));
+        assertEquals("after, quoted", table.stringColumn("path").get(2));
+        assertEquals(3.0, table.numberColumn("size").get(2), 0.0);
+    }
+
+    private static List<String[]> tokenize(String csv) {
+        ByteBuffer buffer = ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8));
+        CsvTokenizer tokenizer = new CsvTokenizer(buffer, (byte) ',', true);
+        List<String[]> records = new ArrayList<>();
+        while (tokenizer.next()) {
+            records.add(Arrays.copyOf(tokenizer.fields(), tokenizer.fieldCount()));
+        }
+        return records;
+    }
+}
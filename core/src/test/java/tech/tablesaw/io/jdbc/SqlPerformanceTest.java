@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.tablesaw.io.jdbc;
+
+import com.google.common.base.Stopwatch;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.System.out;
+
+/**
+ * Measures the throughput of writing a table to, and reading it back from, an in-memory H2 database. Reads with
+ * {@link SqlResultSetReader} are compared with reading every value as a string and parsing it
+ */
+public class SqlPerformanceTest {
+
+    private static final int ROWS = 500_000;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Table table = testData();
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:PerformanceDB")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE Sale (price DOUBLE, quantity INTEGER, day DATE, name VARCHAR(20), "
+                        + "flag BOOLEAN)");
+            }
+            for (int run = 0; run < RUNS; run++) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("TRUNCATE TABLE Sale");
+                }
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                table.write().db(conn, "Sale");
+                report("write", run, stopwatch);
+
+                stopwatch = Stopwatch.createStarted();
+                Table typed = Table.read().db(conn, "SELECT * FROM Sale", "sale", 10_000);
+                report("typed read", run, stopwatch);
+
+                stopwatch = Stopwatch.createStarted();
+                Table strings = readAsStrings(conn, typed.emptyCopy());
+                report("string read", run, stopwatch);
+            }
+        }
+    }
+
+    private static void report(String operation, int run, Stopwatch stopwatch) {
+        long millis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        out.println(String.format("Run %d: %s of %d rows in %d ms, %,d rows/second",
+                run, operation, ROWS, millis, ROWS * 1000L / Math.max(millis, 1)));
+    }
+
+    /**
+     * Reads the rows as the reader used to, getting each value as a string and parsing it into the column
+     */
+    private static Table readAsStrings(Connection conn, Table table) throws Exception {
+        try (Statement stmt = conn.createStatement();
+             ResultSet resultSet = stmt.executeQuery("SELECT * FROM Sale")) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            while (resultSet.next()) {
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    table.column(i - 1).appendCell(resultSet.getString(i));
+                }
+            }
+        }
+        return table;
+    }
+
+    private static Table testData() {
+        Random random = new Random(0);
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        DoubleColumn price = DoubleColumn.create("price", ROWS);
+        DoubleColumn quantity = DoubleColumn.create("quantity", ROWS);
+        DateColumn day = DateColumn.create("day", ROWS);
+        StringColumn name = StringColumn.create("name");
+        BooleanColumn flag = BooleanColumn.create("flag", ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            price.append(random.nextDouble() * 1000);
+            quantity.append(random.nextInt(10_000));
+            day.append(start.plusDays(random.nextInt(7000)));
+            name.append("name" + random.nextInt(1000));
+            flag.append(random.nextBoolean());
+        }
+        return Table.create("sale", price, quantity, day, name, flag);
+    }
+}
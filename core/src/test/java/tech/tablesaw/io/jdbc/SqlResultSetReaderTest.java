@@ -14,15 +14,26 @@
 
 package tech.tablesaw.io.jdbc;
 
+import org.h2.jdbcx.JdbcDataSource;
 import org.junit.Assert;
 import org.junit.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
 import tech.tablesaw.util.TestDb;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * Tests for creating Tables from JDBC result sets using SqlResutSetReader
@@ -75,4 +86,114 @@ public class SqlResultSetReaderTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWriteAndReadTypedValues() throws Exception {
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:RoundTripDB")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE Visit (amount DOUBLE, visits INTEGER, day DATE, start TIME, "
+                        + "stamp TIMESTAMP, paid BOOLEAN, name VARCHAR(20))");
+            }
+
+            Table table = Table.create("visit",
+                    DoubleColumn.create("amount", new double[]{1.5, DoubleColumn.MISSING_VALUE, -3}),
+                    DoubleColumn.create("visits", new double[]{1, 2, 3}),
+                    DateColumn.create("day"),
+                    TimeColumn.create("start"),
+                    DateTimeColumn.create("stamp"),
+                    BooleanColumn.create("paid"),
+                    StringColumn.create("name"));
+            table.dateColumn("day").append(LocalDate.of(2018, 7, 31));
+            table.dateColumn("day").appendMissing();
+            table.dateColumn("day").append(LocalDate.of(1999, 12, 31));
+            table.timeColumn("start").append(LocalTime.of(9, 30));
+            table.timeColumn("start").append(LocalTime.of(23, 59, 59));
+            table.timeColumn("start").appendMissing();
+            table.dateTimeColumn("stamp").append(LocalDateTime.of(2018, 7, 31, 9, 30, 15));
+            table.dateTimeColumn("stamp").appendMissing();
+            table.dateTimeColumn("stamp").append(LocalDateTime.of(2000, 1, 1, 0, 0));
+            table.booleanColumn("paid").append(true);
+            table.booleanColumn("paid").append(false);
+            table.booleanColumn("paid").appendMissing();
+            table.stringColumn("name").append("Ann");
+            table.stringColumn("name").appendMissing();
+            table.stringColumn("name").append("Bob");
+
+            table.write().db(conn, "Visit");
+
+            Table read = Table.read().db(conn, "SELECT * FROM Visit", "visit", 2);
+            Assert.assertEquals(table.rowCount(), read.rowCount());
+            for (int col = 0; col < table.columnCount(); col++) {
+                for (int row = 0; row < table.rowCount(); row++) {
+                    Assert.assertEquals(table.column(col).getString(row), read.column(col).getString(row));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWriteQuotesNames() throws Exception {
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:QuotedNamesDB")) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE \"ORDER LINE\" (\"GROUP\" VARCHAR(20), \"UNIT PRICE\" DOUBLE)");
+            }
+
+            Table table = Table.create("lines",
+                    StringColumn.create("group", new String[]{"fruit", "bread"}),
+                    DoubleColumn.create("unit price", new double[]{0.5, 2.25}));
+            table.write().db(conn, "PUBLIC.order line");
+
+            Table read = Table.read().db(conn, "SELECT * FROM \"ORDER LINE\"", "lines", 10);
+            Assert.assertEquals(2, read.rowCount());
+            Assert.assertEquals("bread", read.column(0).getString(1));
+            Assert.assertEquals(2.25, read.numberColumn(1).get(1), 0.0);
+        }
+    }
+
+    @Test
+    public void testPartitionedRead() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:PartitionDB");
+        // keep the in-memory database open while the partitions connect to it
+        try (Connection conn = dataSource.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE Event (id INTEGER, day DATE)");
+                stmt.execute("INSERT INTO Event SELECT x, DATEADD('DAY', x, DATE '2018-01-01') "
+                        + "FROM SYSTEM_RANGE(0, 999)");
+                stmt.execute("INSERT INTO Event VALUES (NULL, NULL)");
+            }
+            String sql = "SELECT id, day FROM Event WHERE id IS NULL OR MOD(id, 2) = 0";
+
+            Table byId = Table.read().db(dataSource, sql, "events", "id", 100, 900, 4);
+            Assert.assertEquals(501, byId.rowCount());
+            Assert.assertEquals(1, byId.numberColumn(0).isMissing().size());
+            Assert.assertEquals(249_500, byId.numberColumn(0).sum(), 0.0);
+            assertPartitionOrder(byId.numberColumn(0), new double[]{100, 300, 500, 700});
+
+            Table byDay = Table.read().db(dataSource, sql, "events", "day",
+                    LocalDate.of(2018, 1, 1), LocalDate.of(2018, 12, 31), 3);
+            Assert.assertEquals(501, byDay.rowCount());
+            Assert.assertEquals(249_500, byDay.numberColumn(0).sum(), 0.0);
+        }
+    }
+
+    /**
+     * Checks that the rows of each partition, which starts at the given bound, come after those of all the earlier
+     * partitions
+     */
+    private static void assertPartitionOrder(NumberColumn ids, double[] bounds) {
+        int partition = 0;
+        for (int row = 0; row < ids.size(); row++) {
+            double id = ids.get(row);
+            if (Double.isNaN(id)) {
+                Assert.assertEquals(0, partition);
+                continue;
+            }
+            while (partition + 1 < bounds.length && id >= bounds[partition + 1]) {
+                partition++;
+            }
+            Assert.assertTrue(partition == 0 || id >= bounds[partition]);
+            Assert.assertTrue(partition + 1 == bounds.length || id < bounds[partition + 1]);
+        }
+    }
+}
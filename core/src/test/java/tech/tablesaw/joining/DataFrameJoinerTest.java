@@ -1,6 +1,11 @@
 package tech.tablesaw.joining;
 
+import java.time.Duration;
+import java.util.Arrays;
+
 import org.junit.Test;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.NumberColumn;
 import tech.tablesaw.api.Table;
 
 import static org.junit.Assert.*;
@@ -187,4 +192,171 @@ public class DataFrameJoinerTest {
         assertEquals(2, joined.column("Feed").countMissing());
     }
 
+    @Test
+    public void rightOuterJoin() {
+        Table joined = ANIMAL_FEED.join("Animal").rightOuter(ANIMAL_NAMES, "Animal");
+        assertEquals(3, joined.columnCount());
+        assertEquals(6, joined.rowCount());
+        assertEquals(0, joined.column("Animal").countMissing());
+        assertEquals(2, joined.column("Feed").countMissing());
+        assertEquals(0, joined.column("Name").countMissing());
+    }
+
+    @Test
+    public void innerJoinKeepsLeftRowOrder() {
+        // the left table is the smaller one here, so it becomes the build side of the hash join
+        Table joined = ANIMAL_FEED.join("Animal").inner(ANIMAL_NAMES, "Animal");
+        assertEquals("Pig", joined.stringColumn("Animal").get(0));
+        assertEquals("Bob", joined.stringColumn("Name").get(0));
+        assertEquals("Pig", joined.stringColumn("Animal").get(1));
+        assertEquals("James", joined.stringColumn("Name").get(1));
+        assertEquals("Horse", joined.stringColumn("Animal").get(2));
+        assertEquals("Goat", joined.stringColumn("Animal").get(3));
+    }
+
+    @Test
+    public void leftOuterJoinKeepsUnmatchedRowsInPlace() {
+        Table joined = ANIMAL_NAMES.join("Animal").leftOuter(ANIMAL_FEED, "Animal");
+        assertEquals("Tigon", joined.stringColumn("Animal").get(4));
+        assertEquals("", joined.stringColumn("Feed").get(4));
+        assertEquals("Rabbit", joined.stringColumn("Animal").get(5));
+        assertEquals("Samantha", joined.stringColumn("Name").get(3));
+        assertEquals("Anything", joined.stringColumn("Feed").get(3));
+    }
+
+    @Test
+    public void fullOuterJoinWithDates() {
+        Table joined = SP500.join("Date").fullOuter(ONE_YEAR, "Date");
+        assertEquals(3, joined.columnCount());
+        assertEquals(7, joined.rowCount());
+        assertEquals(0, joined.column("Date").countMissing());
+        assertEquals(1, joined.column("S&P 500").countMissing());
+        assertEquals(1, joined.column("1 Yr Treasury Rate").countMissing());
+    }
+
+    private static final Table SALES = Table.read().csv(
+            "Customer,Date,Amount\n"
+                    + "Bob,2017-11-01,10\n"
+                    + "Bob,2017-11-02,20\n"
+                    + "Sue,2017-11-01,30\n"
+                    + "Sue,2017-11-03,40\n",
+            "Sales");
+
+    private static final Table VISITS = Table.read().csv(
+            "Name,Day,Pages\n"
+                    + "Sue,2017-11-01,3\n"
+                    + "Bob,2017-11-02,5\n"
+                    + "Bob,2017-11-03,7\n",
+            "Visits");
+
+    @Test
+    public void innerJoinOnMultipleColumns() {
+        Table joined = SALES.join("Customer", "Date").inner(VISITS, "Name", "Day");
+        assertEquals(4, joined.columnCount());
+        assertEquals(2, joined.rowCount());
+        assertEquals("Bob", joined.stringColumn("Customer").get(0));
+        assertEquals(20, joined.numberColumn("Amount").get(0), 0.0);
+        assertEquals(5, joined.numberColumn("Pages").get(0), 0.0);
+        assertEquals("Sue", joined.stringColumn("Customer").get(1));
+        assertEquals(3, joined.numberColumn("Pages").get(1), 0.0);
+    }
+
+    @Test
+    public void fullOuterJoinOnMultipleColumns() {
+        Table joined = SALES.join("Customer", "Date").fullOuter(VISITS, "Name", "Day");
+        assertEquals(4, joined.columnCount());
+        assertEquals(5, joined.rowCount());
+        assertEquals(0, joined.column("Customer").countMissing());
+        assertEquals(0, joined.column("Date").countMissing());
+        assertEquals(1, joined.column("Amount").countMissing());
+        assertEquals(2, joined.column("Pages").countMissing());
+    }
+
+    @Test
+    public void joinWithSingleTableUsesJoinColumnName() {
+        assertEquals(4, ANIMAL_NAMES.join("Animal").inner(ANIMAL_FEED).rowCount());
+        assertEquals(6, ANIMAL_NAMES.join("Animal").leftOuter(ANIMAL_FEED).rowCount());
+        assertEquals(6, ANIMAL_FEED.join("Animal").rightOuter(ANIMAL_NAMES).rowCount());
+        assertEquals(8, ANIMAL_FEED.join("Animal").fullOuter(ANIMAL_NAMES).rowCount());
+    }
+
+    @Test
+    public void sortMergeJoinMatchesHashJoin() {
+        for (JoinStrategy strategy : JoinStrategy.values()) {
+            assertEquals(4, ANIMAL_NAMES.join("Animal").strategy(strategy).inner(ANIMAL_FEED, "Animal").rowCount());
+            assertEquals(6, ANIMAL_NAMES.join("Animal").strategy(strategy).leftOuter(ANIMAL_FEED, "Animal").rowCount());
+            assertEquals(6, ANIMAL_FEED.join("Animal").strategy(strategy).rightOuter(ANIMAL_NAMES, "Animal").rowCount());
+            assertEquals(8, ANIMAL_FEED.join("Animal").strategy(strategy).fullOuter(ANIMAL_NAMES, "Animal").rowCount());
+            assertEquals(3, DOUBLE_INDEXED_PEOPLE.join("ID").strategy(strategy).inner(DOUBLE_INDEXED_DOGS, "ID")
+                    .rowCount());
+            assertEquals(2, SALES.join("Customer", "Date").strategy(strategy).inner(VISITS, "Name", "Day")
+                    .rowCount());
+        }
+    }
+
+    @Test
+    public void sortMergeJoinReturnsRowsInKeyOrder() {
+        Table joined = SP500.join("Date").strategy(JoinStrategy.SORT_MERGE).fullOuter(ONE_YEAR, "Date");
+        assertEquals(7, joined.rowCount());
+        assertEquals(0, joined.column("Date").countMissing());
+        DateColumn dates = joined.dateColumn("Date");
+        for (int i = 1; i < dates.size(); i++) {
+            assertTrue(dates.get(i - 1).isBefore(dates.get(i)));
+        }
+        assertEquals(1, joined.column("S&P 500").countMissing());
+        assertEquals(1, joined.column("1 Yr Treasury Rate").countMissing());
+    }
+
+    private static final Table TRADES = Table.read().csv(
+            "Symbol,Time,Quantity\n"
+                    + "AAA,2018-01-02T09:30:01,100\n"
+                    + "BBB,2018-01-02T09:30:02,200\n"
+                    + "AAA,2018-01-02T09:30:05,300\n"
+                    + "AAA,2018-01-02T09:31:00,400\n",
+            "Trades");
+
+    private static final Table QUOTES = Table.read().csv(
+            "Symbol,Time,Bid\n"
+                    + "AAA,2018-01-02T09:30:00,10.0\n"
+                    + "BBB,2018-01-02T09:30:00,20.0\n"
+                    + "AAA,2018-01-02T09:30:03,10.5\n"
+                    + "BBB,2018-01-02T09:30:04,20.5\n",
+            "Quotes");
+
+    @Test
+    public void asOfJoin() {
+        Table joined = TRADES.join("Time").asOf(QUOTES, "Time", Duration.ofMinutes(1));
+        assertEquals(TRADES.rowCount(), joined.rowCount());
+        assertEquals(6, joined.columnCount());
+        NumberColumn bid = joined.numberColumn("Bid");
+        assertEquals(20.0, bid.get(0), 0.0);
+        assertEquals(20.0, bid.get(1), 0.0);
+        assertEquals(20.5, bid.get(2), 0.0);
+        assertEquals(20.5, bid.get(3), 0.0);
+    }
+
+    @Test
+    public void asOfJoinByKey() {
+        Table joined = TRADES.join("Symbol", "Time").asOf(QUOTES, "Time", Duration.ofSeconds(10), "Symbol");
+        assertEquals(TRADES.rowCount(), joined.rowCount());
+        assertEquals(5, joined.columnCount());
+        NumberColumn bid = joined.numberColumn("Bid");
+        assertEquals(10.0, bid.get(0), 0.0);
+        assertEquals(20.0, bid.get(1), 0.0);
+        assertEquals(10.5, bid.get(2), 0.0);
+        // the latest AAA quote is more than ten seconds older than the last trade
+        assertTrue(NumberColumn.valueIsMissing(bid.get(3)));
+    }
+
+    @Test
+    public void asOfJoinLeavesTable2Unchanged() {
+        Table quotes = QUOTES.copy();
+        Table joined = TRADES.join("Time").asOf(quotes, "Time", Duration.ofMinutes(1));
+        assertEquals(Arrays.asList("Symbol", "Time", "Bid"), quotes.columnNames());
+        assertTrue(joined.columnNames().contains("T2.Time"));
+        assertTrue(joined.columnNames().contains("T2.Symbol"));
+
+        Table again = TRADES.join("Time").asOf(quotes, "Time", Duration.ofMinutes(1));
+        assertEquals(joined.columnNames(), again.columnNames());
+    }
 }
@@ -0,0 +1,41 @@
+package tech.tablesaw.sorting;
+
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PartialSortTest {
+
+    @Test
+    public void testFirstRowsMatchFullSort() {
+        Random random = new Random(3);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(50);
+        }
+        IntComparator byValue = (r1, r2) -> Integer.compare(values[r1], values[r2]);
+        Integer[] sorted = new Integer[values.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        // a stable sort, so equal values stay in row order
+        Arrays.sort(sorted, (r1, r2) -> Integer.compare(values[r1], values[r2]));
+
+        for (int n : new int[]{0, 1, 17, 999, 1000, 2000}) {
+            int[] first = PartialSort.firstRows(values.length, n, byValue);
+            assertEquals(Math.min(n, values.length), first.length);
+            for (int i = 0; i < first.length; i++) {
+                assertEquals(sorted[i].intValue(), first[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, PartialSort.firstRows(0, 5, Integer::compare).length);
+    }
+}
@@ -0,0 +1,132 @@
+package tech.tablesaw.sorting;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import org.junit.Test;
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.api.TimeColumn;
+import tech.tablesaw.columns.dates.PackedLocalDate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class RadixSortTest {
+
+    private final Table table = randomTable(500);
+
+    private static Table randomTable(int rowCount) {
+        Random random = new Random(7);
+        double[] specials = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.MAX_VALUE, -Double.MIN_VALUE};
+        DoubleColumn doubles = DoubleColumn.create("double");
+        DateColumn dates = DateColumn.create("date");
+        TimeColumn times = TimeColumn.create("time");
+        DateTimeColumn dateTimes = DateTimeColumn.create("dateTime");
+        StringColumn strings = StringColumn.create("string");
+        BooleanColumn booleans = BooleanColumn.create("boolean");
+        for (int i = 0; i < rowCount; i++) {
+            doubles.append(random.nextInt(5) == 0 ? specials[random.nextInt(specials.length)]
+                    : random.nextInt(20) - 10 + random.nextDouble());
+            if (i % 23 == 0) {
+                dates.appendMissing();
+                times.appendMissing();
+                dateTimes.appendMissing();
+            } else {
+                dates.append(LocalDate.of(1990 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+                times.append(LocalTime.of(random.nextInt(24), random.nextInt(60)));
+                dateTimes.append(LocalDateTime.of(1950 + random.nextInt(100), 1, 1, random.nextInt(24), 0));
+            }
+            strings.append(String.valueOf((char) ('a' + random.nextInt(8))) + random.nextInt(3));
+            booleans.append(random.nextBoolean());
+        }
+        return Table.create("random", doubles, dates, times, dateTimes, strings, booleans);
+    }
+
+    /**
+     * Checks that the rows are ordered as the comparator for the key orders them, with ties in their original order
+     */
+    private void assertSorted(Sort key, int[] rows) {
+        assertEquals(table.rowCount(), rows.length);
+        boolean[] seen = new boolean[rows.length];
+        IntComparator comparator = SortUtils.getChain(table, key);
+        for (int i = 0; i < rows.length; i++) {
+            assertFalse(seen[rows[i]]);
+            seen[rows[i]] = true;
+            if (i > 0) {
+                int comparison = comparator.compare(rows[i - 1], rows[i]);
+                assertTrue(key + " at " + i, comparison < 0 || comparison == 0 && rows[i - 1] < rows[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testSingleColumns() {
+        for (String name : new String[]{"double", "date", "time", "dateTime", "string"}) {
+            for (Sort.Order order : Sort.Order.values()) {
+                Sort key = Sort.on(name, order);
+                assertTrue(RadixSort.canSort(table, key));
+                assertSorted(key, RadixSort.sort(table, key));
+            }
+        }
+    }
+
+    @Test
+    public void testSeveralColumns() {
+        Sort key = Sort.on("string", Sort.Order.ASCEND).next("date", Sort.Order.DESCEND).next("double", Sort.Order.ASCEND);
+        assertSorted(key, RadixSort.sort(table, key));
+    }
+
+    @Test
+    public void testUnsupportedColumns() {
+        assertFalse(RadixSort.canSort(table, Sort.on("double", Sort.Order.ASCEND).next("boolean", Sort.Order.ASCEND)));
+    }
+
+    @Test
+    public void testSortCacheReusesOrderUntilColumnChanges() {
+        SortCache cache = new SortCache();
+        Sort key = Sort.on("double", Sort.Order.ASCEND);
+        int[] rows = cache.sortedRows(table, key);
+        assertSame(rows, cache.sortedRows(table, key));
+
+        ((DoubleColumn) table.column("double")).set(rows[0], 1000.0);
+        int[] resorted = cache.sortedRows(table, key);
+        assertNotSame(rows, resorted);
+        assertNotEquals(rows[0], resorted[0]);
+        assertSorted(key, resorted);
+    }
+
+    @Test
+    public void testSortSeesWritesThroughData() {
+        DateColumn dates = DateColumn.create("date", Arrays.asList(
+                LocalDate.of(2018, 1, 3), LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 2)));
+        Table dateTable = Table.create("dates", dates);
+        Sort key = Sort.on("date", Sort.Order.ASCEND);
+
+        IntArrayList packed = dates.data();
+        assertEquals(LocalDate.of(2018, 1, 1), dateTable.sortOn(key).dateColumn("date").get(0));
+        packed.set(0, PackedLocalDate.pack(LocalDate.of(2017, 12, 31)));
+        assertEquals(LocalDate.of(2017, 12, 31), dateTable.sortOn(key).dateColumn("date").get(0));
+        packed.set(0, PackedLocalDate.pack(LocalDate.of(2018, 1, 4)));
+        assertEquals(LocalDate.of(2018, 1, 4), dateTable.sortOn(key).dateColumn("date").get(2));
+    }
+
+    @Test
+    public void testSortCacheSharedBetweenThreads() {
+        SortCache cache = new SortCache();
+        String[] names = {"double", "date", "time", "dateTime", "string"};
+        IntStream.range(0, 500).parallel().forEach(i -> {
+            Sort key = Sort.on(names[i % names.length], Sort.Order.values()[i / names.length % 2]);
+            assertSorted(key, cache.sortedRows(table, key));
+        });
+    }
+}
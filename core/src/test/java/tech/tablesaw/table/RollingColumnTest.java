@@ -2,10 +2,17 @@ package tech.tablesaw.table;
 
 import org.junit.Assert;
 import org.junit.Test;
+import tech.tablesaw.aggregate.AggregateFunction;
+import tech.tablesaw.api.DateTimeColumn;
 import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.NumberColumn;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+
 import static org.junit.Assert.*;
+import static tech.tablesaw.aggregate.AggregateFunctions.*;
 import static tech.tablesaw.api.NumberColumn.MISSING_VALUE;
 
 public class RollingColumnTest {
@@ -18,4 +25,56 @@ public class RollingColumnTest {
         assertArrayEquals(sma5, result.asDoubleArray(), 0.000001);
         Assert.assertEquals("dataMean5", result.name());
     }
+
+    @Test
+    public void testSlidingFunctionsMatchWholeWindows() {
+        Random random = new Random(42);
+        double[] data = new double[200];
+        for (int i = 0; i < data.length; i++) {
+            // repeated values and missing values exercise the deques and the order statistics
+            data[i] = i % 17 == 0 ? MISSING_VALUE : random.nextInt(20) - 5;
+        }
+        DoubleColumn column = DoubleColumn.create("data", data);
+        AggregateFunction[] functions = {sum, mean, min, max, variance, stdDev, median, quartile1, quartile3,
+                percentile90, geometricMean};
+        for (int window : new int[]{1, 3, 25}) {
+            for (AggregateFunction function : functions) {
+                NumberColumn rolled = column.rolling(window).calc(function);
+                for (int row = window - 1; row < data.length; row++) {
+                    double expected = function.summarize(column.inRange(row - window + 1, row + 1));
+                    assertEquals(function + " " + window + " " + row, expected, rolled.get(row), 0.000001);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRollingMinAndMax() {
+        DoubleColumn column = DoubleColumn.create("data", new double[]{3, 1, 2, 2, 5, 4});
+        assertArrayEquals(new double[]{MISSING_VALUE, MISSING_VALUE, 1, 1, 2, 2},
+                column.rolling(3).min().asDoubleArray(), 0.0);
+        assertArrayEquals(new double[]{MISSING_VALUE, MISSING_VALUE, 3, 2, 5, 5},
+                column.rolling(3).max().asDoubleArray(), 0.0);
+    }
+
+    @Test
+    public void testTimeWindows() {
+        LocalDateTime start = LocalDateTime.of(2018, 1, 1, 23, 0);
+        DateTimeColumn times = DateTimeColumn.create("time", new LocalDateTime[]{
+                start, start.plusMinutes(30), start.plusMinutes(60), start.plusMinutes(61), start.plusHours(3)});
+        DoubleColumn column = DoubleColumn.create("data", new double[]{1, 2, 3, 4, 5});
+
+        NumberColumn sums = column.rolling(times, Duration.ofHours(1)).sum();
+        assertArrayEquals(new double[]{1, 3, 5, 9, 5}, sums.asDoubleArray(), 0.0);
+        assertEquals("dataSumPT1H", sums.name());
+        assertArrayEquals(new double[]{1, 1.5, 2.5, 3, 5},
+                column.rolling(times, Duration.ofHours(1)).median().asDoubleArray(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimeWindowsRequireSortedTimes() {
+        LocalDateTime start = LocalDateTime.of(2018, 1, 1, 0, 0);
+        DateTimeColumn times = DateTimeColumn.create("time", new LocalDateTime[]{start, start.minusMinutes(1)});
+        DoubleColumn.create("data", new double[]{1, 2}).rolling(times, Duration.ofHours(1)).mean();
+    }
 }
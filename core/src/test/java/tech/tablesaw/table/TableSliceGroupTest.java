@@ -18,14 +18,18 @@ import org.apache.commons.math3.stat.StatUtils;
 import org.junit.Before;
 import org.junit.Test;
 import tech.tablesaw.aggregate.NumericAggregateFunction;
+import tech.tablesaw.api.DoubleColumn;
 import tech.tablesaw.api.StringColumn;
 import tech.tablesaw.api.Table;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.io.csv.CsvReadOptions;
+import tech.tablesaw.selection.BitmapBackedSelection;
+import tech.tablesaw.selection.Selection;
 
 import java.util.List;
 
 import static org.junit.Assert.*;
+import static tech.tablesaw.aggregate.AggregateFunctions.sum;
 
 /**
  *
@@ -75,6 +79,33 @@ public class TableSliceGroupTest {
         assertEquals(table.rowCount(), count);
     }
 
+    @Test
+    public void slicesAreViewsOfTheUnsortedTable() {
+        TableSliceGroup group = StandardTableSliceGroup.create(table, "who");
+        assertSame(table, group.getSourceTable());
+
+        // slices are ordered by group value, and keep the rows of their group in table order
+        List<TableSlice> slices = group.getSlices();
+        for (int i = 1; i < slices.size(); i++) {
+            assertTrue(slices.get(i - 1).name().compareTo(slices.get(i).name()) < 0);
+        }
+        TableSlice fox = slices.stream().filter(s -> s.name().equals("fox")).findFirst().get();
+        assertEquals(table.stringColumn("who").isEqualTo("fox").size(), fox.rowCount());
+        assertEquals("2004-02-04", fox.get(0, 0));
+        assertEquals("2004-01-21", fox.get(1, 0));
+    }
+
+    @Test
+    public void testViewTwoColumnNames() {
+        TableSliceGroup group = StandardTableSliceGroup.create(table, "who", "approval");
+        for (TableSlice slice : group) {
+            Table rows = slice.asTable();
+            assertEquals(1, rows.stringColumn("who").unique().size());
+            assertEquals(1, rows.numberColumn("approval").unique().size());
+            assertEquals(slice.name(), rows.get(0, 2) + TableSliceGroup.SPLIT_STRING + rows.get(0, 1));
+        }
+    }
+
     @Test
     public void testCustomFunction() {
         Table exaggeration = table.summarize("approval", exaggerate).by("who");
@@ -88,4 +119,21 @@ public class TableSliceGroupTest {
         List<Table> tables = group.asTableList();
         assertEquals(6, tables.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAggregateOverlappingSlices() {
+        Table numbers = Table.create("numbers", DoubleColumn.create("x", new double[]{1, 2, 3, 4}));
+        TableSliceGroup group = new TableSliceGroup(numbers) {
+        };
+        Selection first = new BitmapBackedSelection();
+        first.addRange(0, 3);
+        Selection second = new BitmapBackedSelection();
+        second.addRange(1, 4);
+        group.addSlice(new TableSlice(numbers, first));
+        group.addSlice(new TableSlice(numbers, second));
+
+        Table sums = group.aggregate("x", sum);
+        assertEquals(6, sums.numberColumn(1).get(0), 0.0);
+        assertEquals(9, sums.numberColumn(1).get(1), 0.0);
+    }
+}
@@ -144,4 +144,42 @@ public class TableSliceTest {
         TableSlice slice = new TableSlice(source, Selection.with(2));
         assertEquals(58.0, slice.reduce("approval", sum), 0.0001);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void columnKeepsTypeAndValues() {
+        TableSlice slice = new TableSlice(source, Selection.with(3, 5, 8));
+        for (Column column : source.columns()) {
+            Column copy = slice.column(column.name());
+            assertEquals(column.type(), copy.type());
+            assertEquals(column.getString(3), copy.getString(0));
+            assertEquals(column.getString(8), copy.getString(2));
+        }
+    }
+
+    @Test
+    public void view() {
+        TableSlice slice = source.view(Selection.with(2, 4, 7));
+        ColumnView approval = slice.view("approval");
+        assertEquals(3, approval.size());
+        assertEquals(7, approval.rowNumber(2));
+        assertEquals(source.numberColumn("approval").get(4), approval.getDouble(1), 0.0);
+        assertEquals(source.column("who").getObject(7), slice.view("who").get(2));
+
+        int count = 0;
+        for (Object value : slice.view("date")) {
+            assertEquals(source.column("date").getObject(slice.view("date").rowNumber(count)), value);
+            count++;
+        }
+        assertEquals(3, count);
+        assertArrayEquals(slice.column("approval").asDoubleArray(), approval.materialize().asDoubleArray(), 0.0);
+    }
+
+    @Test
+    public void reduceMatchesMaterializedColumn() {
+        TableSlice slice = source.view(Selection.withRange(5, 40));
+        Column approval = slice.column("approval");
+        assertEquals(sum.summarize(approval), slice.reduce("approval", sum), 0.0001);
+        assertEquals(median.summarize(approval), slice.reduce("approval", median), 0.0001);
+        assertEquals(countUnique.summarize(slice.column("who")), slice.view("who").reduce(countUnique), 0.0);
+    }
+}
@@ -0,0 +1,73 @@
+package tech.tablesaw.table;
+
+import org.junit.Test;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.sorting.Sort;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static tech.tablesaw.aggregate.AggregateFunctions.max;
+import static tech.tablesaw.aggregate.AggregateFunctions.median;
+import static tech.tablesaw.api.NumberColumn.MISSING_VALUE;
+
+public class WindowTest {
+
+    private final Table table = Table.create("sales",
+            StringColumn.create("store", new String[]{"a", "b", "a", "b", "a", "a"}),
+            DoubleColumn.create("day", new double[]{3, 1, 1, 2, 2, 4}),
+            DoubleColumn.create("sales", new double[]{30, 5, 10, 7, 20, 20}));
+
+    @Test
+    public void testRowNumberAndRank() {
+        Window window = table.window().partitionBy("store").orderBy("sales");
+        assertArrayEquals(new double[]{4, 1, 1, 2, 2, 3}, window.rowNumber().asDoubleArray(), 0.0);
+        assertArrayEquals(new double[]{4, 1, 1, 2, 2, 2}, window.rank().asDoubleArray(), 0.0);
+        assertArrayEquals(new double[]{3, 1, 1, 2, 2, 2}, window.denseRank().asDoubleArray(), 0.0);
+    }
+
+    @Test
+    public void testRankWithoutOrderTiesAllRows() {
+        assertArrayEquals(new double[]{1, 1, 1, 1, 1, 1},
+                table.window().partitionBy("store").rank().asDoubleArray(), 0.0);
+        assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, table.window().rowNumber().asDoubleArray(), 0.0);
+    }
+
+    @Test
+    public void testCumSum() {
+        Window window = table.window().partitionBy("store").orderBy("day");
+        assertArrayEquals(new double[]{60, 5, 10, 12, 30, 80}, window.cumSum("sales").asDoubleArray(), 0.0);
+        assertEquals("sales[cumSum]", window.cumSum("sales").name());
+    }
+
+    @Test
+    public void testLagAndLead() {
+        Window window = table.window().partitionBy("store").orderBy("day");
+        Column lag = window.lag("sales", 1);
+        assertArrayEquals(new double[]{20, MISSING_VALUE, MISSING_VALUE, 5, 10, 30}, lag.asDoubleArray(), 0.0);
+        assertEquals("sales lag(1)", lag.name());
+
+        Column lead = table.window().partitionBy("store").orderBy("day").lead("store", 1);
+        assertEquals(Arrays.asList("a", "b", "a", "", "a", ""), ((StringColumn) lead).asList());
+    }
+
+    @Test
+    public void testRolling() {
+        Window window = table.window().partitionBy("store").orderBy("day");
+        assertArrayEquals(new double[]{25, MISSING_VALUE, MISSING_VALUE, 6, 15, 25},
+                window.rollingMean("sales", 2).asDoubleArray(), 0.0);
+        assertArrayEquals(new double[]{20, MISSING_VALUE, MISSING_VALUE, MISSING_VALUE, MISSING_VALUE, 20},
+                window.rolling("sales", 3, median).asDoubleArray(), 0.0);
+        assertArrayEquals(new double[]{30, MISSING_VALUE, MISSING_VALUE, 7, 20, 30},
+                window.rolling("sales", 2, max).asDoubleArray(), 0.0);
+    }
+
+    @Test
+    public void testDescendingOrder() {
+        Window window = table.window().partitionBy("store").orderBy(Sort.on("day", Sort.Order.DESCEND));
+        assertArrayEquals(new double[]{2, 2, 4, 1, 3, 1}, window.rowNumber().asDoubleArray(), 0.0);
+    }
+}